@@ -48,6 +48,8 @@ dependencies {
     implementation("com.fasterxml.jackson.core:jackson-databind:2.14.2")
     implementation("com.atlassian.commonmark:commonmark:0.17.0")
     implementation("cn.fudoc:fu-api-commons:222.${properties["fudocVersion"]}")
+    testImplementation("junit:junit:4.13.2")
+    testImplementation("org.opentest4j:opentest4j:1.3.0")
 
     // IntelliJ Platform dependencies
     intellijPlatform {
@@ -0,0 +1,122 @@
+package com.wdf.fudoc.apidoc.action;
+
+import cn.fudoc.common.notification.FuDocNotification;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 导出整个项目(或选中模块)的接口文档到文件
+ * <p>
+ * 选择保存位置后在后台任务中导出 具体的文档格式由子类实现
+ *
+ * @author wangdingfu
+ * @date 2025-03-12 10:26:41
+ */
+@Slf4j
+public abstract class AbstractExportDocAction extends AnAction {
+
+    /**
+     * 导出动作的标题(保存文件弹框和后台任务的标题)
+     */
+    protected abstract String getTitle();
+
+    /**
+     * 导出的文档名称 例如 markdown接口文档
+     */
+    protected abstract String getDocName();
+
+    /**
+     * 导出文件的后缀
+     */
+    protected abstract String getExtension();
+
+    /**
+     * 默认的导出文件路径
+     *
+     * @param project  当前项目
+     * @param fileName 文件名称(项目名或模块名)
+     */
+    protected abstract Path getDefaultPath(Project project, String fileName);
+
+    /**
+     * 导出接口文档
+     *
+     * @param project   当前项目
+     * @param module    导出的模块 为空时导出整个项目
+     * @param writer    接口文档内容输出(由调用方关闭)
+     * @param indicator 进度条
+     * @return 导出的接口数量
+     */
+    protected abstract int export(Project project, Module module, Writer writer, ProgressIndicator indicator) throws IOException;
+
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(Objects.nonNull(e.getProject()));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.isNull(project)) {
+            return;
+        }
+        //在项目视图中选中了模块时只导出该模块
+        Module module = e.getData(LangDataKeys.MODULE_CONTEXT);
+        String name = Objects.isNull(module) ? project.getName() : module.getName();
+        Path defaultPath = getDefaultPath(project, name);
+        File defaultDir = defaultPath.getParent().toFile();
+        if (!defaultDir.exists() && !defaultDir.mkdirs()) {
+            log.info("创建接口文档导出目录【{}】失败", defaultDir);
+        }
+        VirtualFile baseDir = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(defaultDir);
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(getTitle(), "导出" + getDocName(), getExtension());
+        VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project).save(baseDir, defaultPath.getFileName().toString());
+        if (Objects.isNull(fileWrapper)) {
+            return;
+        }
+        Path targetPath = fileWrapper.getFile().toPath();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, getTitle(), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                try (Writer writer = Files.newBufferedWriter(targetPath, StandardCharsets.UTF_8)) {
+                    int count = export(project, module, writer, indicator);
+                    FuDocNotification.notifyInfo("已导出" + count + "个接口至" + targetPath);
+                } catch (IOException ex) {
+                    log.error("导出{}失败", getDocName(), ex);
+                    FuDocNotification.notifyError("导出" + getDocName() + "失败: " + ex.getMessage());
+                }
+                LocalFileSystem.getInstance().refreshNioFiles(List.of(targetPath));
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.wdf.fudoc.apidoc.action;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.wdf.fudoc.apidoc.export.MarkdownExportHelper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * 导出整个项目(或选中模块)的markdown接口文档到文件
+ *
+ * @author wangdingfu
+ * @date 2025-02-14 11:02:37
+ */
+public class ExportFuDocAction extends AbstractExportDocAction {
+
+    @Override
+    protected String getTitle() {
+        return "Export Doc";
+    }
+
+    @Override
+    protected String getDocName() {
+        return "markdown接口文档";
+    }
+
+    @Override
+    protected String getExtension() {
+        return "md";
+    }
+
+    @Override
+    protected Path getDefaultPath(Project project, String fileName) {
+        return MarkdownExportHelper.getDefaultPath(project, fileName);
+    }
+
+    @Override
+    protected int export(Project project, Module module, Writer writer, ProgressIndicator indicator) throws IOException {
+        return MarkdownExportHelper.export(project, module, writer, indicator);
+    }
+}
@@ -0,0 +1,44 @@
+package com.wdf.fudoc.apidoc.action;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.wdf.fudoc.apidoc.export.OpenApiExportHelper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * 导出整个项目(或选中模块)的openApi接口文档到文件
+ *
+ * @author wangdingfu
+ * @date 2025-03-03 11:48:15
+ */
+public class ExportOpenApiAction extends AbstractExportDocAction {
+
+    @Override
+    protected String getTitle() {
+        return "Export OpenAPI";
+    }
+
+    @Override
+    protected String getDocName() {
+        return "openApi接口文档";
+    }
+
+    @Override
+    protected String getExtension() {
+        return "json";
+    }
+
+    @Override
+    protected Path getDefaultPath(Project project, String fileName) {
+        return OpenApiExportHelper.getDefaultPath(project, fileName);
+    }
+
+    @Override
+    protected int export(Project project, Module module, Writer writer, ProgressIndicator indicator) throws IOException {
+        return OpenApiExportHelper.export(project, module, writer, indicator);
+    }
+}
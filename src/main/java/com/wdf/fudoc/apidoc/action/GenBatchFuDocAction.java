@@ -0,0 +1,94 @@
+package com.wdf.fudoc.apidoc.action;
+
+import cn.fudoc.common.notification.FuDocNotification;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaDirectoryService;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PackageScope;
+import com.wdf.fudoc.apidoc.config.state.FuDocSetting;
+import com.wdf.fudoc.apidoc.export.FuDocBatchGenerator;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.common.FuDocRender;
+import com.wdf.fudoc.util.ClipboardUtil;
+import org.apache.commons.collections.CollectionUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 批量生成选中包(或模块)下所有controller的接口文档 并拷贝至剪贴板
+ *
+ * @author wangdingfu
+ * @date 2025-02-14 16:05:22
+ */
+public class GenBatchFuDocAction extends AnAction {
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(Objects.nonNull(e.getProject()) && Objects.nonNull(getSearchScope(e)));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        GlobalSearchScope searchScope = getSearchScope(e);
+        if (Objects.isNull(project) || Objects.isNull(searchScope)) {
+            return;
+        }
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Gen doc", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                List<FuDocItemData> dataList = FuDocBatchGenerator.gen(project, searchScope, indicator);
+                if (CollectionUtils.isEmpty(dataList)) {
+                    FuDocNotification.notifyWarn("没有可以生成接口文档的接口");
+                    return;
+                }
+                ClipboardUtil.copyToClipboard(FuDocRender.markdownRender(FuDocSetting.getSettingData(), dataList));
+                FuDocNotification.notifyInfo("已生成" + dataList.size() + "个接口文档并拷贝至剪贴板");
+            }
+
+            @Override
+            public void onCancel() {
+                FuDocNotification.notifyWarn("代码发生变更或已取消 接口文档生成终止");
+            }
+        });
+    }
+
+
+    /**
+     * 获取生成范围 选中包时为该包(包含子包) 选中模块时为整个模块
+     */
+    private GlobalSearchScope getSearchScope(AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.isNull(project)) {
+            return null;
+        }
+        PsiElement psiElement = e.getData(CommonDataKeys.PSI_ELEMENT);
+        if (psiElement instanceof PsiDirectory psiDirectory) {
+            PsiPackage psiPackage = JavaDirectoryService.getInstance().getPackage(psiDirectory);
+            if (Objects.nonNull(psiPackage) && !psiPackage.getQualifiedName().isEmpty()) {
+                return PackageScope.packageScope(psiPackage, true).intersectWith(GlobalSearchScope.projectScope(project));
+            }
+        }
+        Module module = e.getData(LangDataKeys.MODULE_CONTEXT);
+        return Objects.isNull(module) ? null : GlobalSearchScope.moduleScope(module);
+    }
+}
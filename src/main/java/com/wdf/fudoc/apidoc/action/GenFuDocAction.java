@@ -9,6 +9,7 @@ import cn.fudoc.common.notification.FuDocNotification;
 import cn.fudoc.common.constants.MessageConstants;
 import com.wdf.fudoc.apidoc.constant.enumtype.JavaClassType;
 import com.wdf.fudoc.apidoc.factory.FuDocServiceFactory;
+import com.wdf.fudoc.apidoc.parse.ObjectParserExecutor;
 import com.wdf.fudoc.apidoc.pojo.context.FuDocContext;
 import com.wdf.fudoc.apidoc.service.FuDocService;
 import com.wdf.fudoc.util.ClipboardUtil;
@@ -56,7 +57,7 @@ public class GenFuDocAction extends AbstractClassAction {
             ClipboardUtil.copyToClipboard(content);
             //通知接口文档已经拷贝至剪贴板
             FuDocNotification.notifyInfo(FuBundle.message(MessageConstants.NOTIFY_COPY_OK, psiClass.getName()));
-            log.info("生成接口文档【{}】完成. 共计耗时{}ms", psiClass.getName(), System.currentTimeMillis() - start);
+            log.info("生成接口文档【{}】完成. 共计耗时{}ms. 解析器匹配统计: {}", psiClass.getName(), System.currentTimeMillis() - start, ObjectParserExecutor.statistics());
         }
     }
 
@@ -45,7 +45,7 @@ public class ParamRequireValueHandler extends BaseParamFieldValueHandler {
         Optional<AnnotationData> valid = rootInfoDesc.getAnnotation(AnnotationConstants.VALID);
         if (annotation.isPresent() || valid.isPresent()) {
             //标识了@Validated注解
-            Integer referenceParamId = objectInfoDesc.getValue(FuDocConstants.ExtInfo.REFERENCE_DESC_ID, Integer.class);
+            Integer referenceParamId = objectInfoDesc.getReferenceDescId();
             ObjectInfoDesc parentInfoDesc = fuDocContext.getByDescId(referenceParamId);
             if (Objects.nonNull(parentInfoDesc) && parentInfoDesc.getAnnotation(AnnotationConstants.VALID).isEmpty()) {
                 //存在父对象 且父对象没有标识@Valid 注解 则当前对象不受校验注解控制
@@ -1,11 +1,15 @@
 package com.wdf.fudoc.apidoc.config;
 
-import freemarker.cache.StringTemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author wangdingfu
@@ -17,6 +21,16 @@ public class FreeMarkerConfig {
 
     private static final Configuration configuration = new Configuration(Configuration.getVersion());
 
+    /**
+     * 编译用户自定义模板的配置
+     */
+    private static final Configuration stringConfiguration = new Configuration(Configuration.getVersion());
+
+    /**
+     * 已编译的用户自定义模板 key: 模板名称 value: 模板内容及编译后的模板
+     */
+    private static final Map<String, CompiledTemplate> TEMPLATE_CACHE = new ConcurrentHashMap<>();
+
     static {
         try {
             configuration.setClassLoaderForTemplateLoading(FreeMarkerConfig.class.getClassLoader(), "/template/");
@@ -48,20 +62,61 @@ public class FreeMarkerConfig {
      * @return 渲染后的模板内容
      */
     public static String generateContent(String templateName, String freemarkerTemplate, Object data) {
-        StringTemplateLoader stringLoader = new StringTemplateLoader();
-        stringLoader.putTemplate(templateName, freemarkerTemplate);
-        Configuration cfg = new Configuration(Configuration.getVersion());
-        cfg.setTemplateLoader(stringLoader);
-        return process(cfg, templateName, data);
+        try {
+            return process(getTemplate(templateName, freemarkerTemplate), data);
+        } catch (Exception e) {
+            log.info("{}生成模板文件失败", templateName, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 传入指定的模板 将数据直接渲染到输出流中(不在内存中保留渲染结果)
+     *
+     * @param templateName       模板名称
+     * @param freemarkerTemplate 模板内容
+     * @param data               数据
+     * @param writer             渲染结果输出
+     * @return 是否渲染成功
+     */
+    public static boolean generateContent(String templateName, String freemarkerTemplate, Object data, Writer writer) {
+        try {
+            getTemplate(templateName, freemarkerTemplate).process(data, writer);
+            return true;
+        } catch (Exception e) {
+            log.info("{}生成模板文件失败", templateName, e);
+            return false;
+        }
+    }
+
+
+    /**
+     * 清空已编译的用户自定义模板(模板配置变更时调用)
+     */
+    public static void clearTemplateCache() {
+        TEMPLATE_CACHE.clear();
+    }
+
+
+    /**
+     * 获取编译后的模板 模板内容没有变化时直接复用之前编译的模板
+     */
+    private static Template getTemplate(String templateName, String freemarkerTemplate) throws Exception {
+        int contentHash = freemarkerTemplate.hashCode();
+        CompiledTemplate compiledTemplate = TEMPLATE_CACHE.get(templateName);
+        if (Objects.nonNull(compiledTemplate) && compiledTemplate.contentHash == contentHash && compiledTemplate.content.equals(freemarkerTemplate)) {
+            return compiledTemplate.template;
+        }
+        Template template = new Template(templateName, new StringReader(freemarkerTemplate), stringConfiguration);
+        TEMPLATE_CACHE.put(templateName, new CompiledTemplate(freemarkerTemplate, contentHash, template));
+        return template;
     }
 
 
     private static String process(Configuration cfg, String templateName, Object data) {
         try {
-            Template template = cfg.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(data, writer);
-            return writer.toString();
+            return process(cfg.getTemplate(templateName), data);
         } catch (Exception e) {
             log.info("{}生成模板文件失败", templateName, e);
             return null;
@@ -69,4 +124,27 @@ public class FreeMarkerConfig {
     }
 
 
+    private static String process(Template template, Object data) throws Exception {
+        StringWriter writer = new StringWriter();
+        template.process(data, writer);
+        return writer.toString();
+    }
+
+
+    private static class CompiledTemplate {
+
+        private final String content;
+
+        private final int contentHash;
+
+        private final Template template;
+
+        private CompiledTemplate(String content, int contentHash, Template template) {
+            this.content = content;
+            this.contentHash = contentHash;
+            this.template = template;
+        }
+    }
+
+
 }
@@ -3,6 +3,7 @@ package com.wdf.fudoc.apidoc.config.state;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
+import com.wdf.fudoc.apidoc.config.FreeMarkerConfig;
 import com.wdf.fudoc.apidoc.data.SettingData;
 import com.wdf.fudoc.common.ServiceHelper;
 import lombok.Data;
@@ -42,5 +43,6 @@ public class FuDocSetting implements PersistentStateComponent<SettingData> {
     @Override
     public void loadState(@NotNull SettingData state) {
         this.settingData = state;
+        FreeMarkerConfig.clearTemplateCache();
     }
 }
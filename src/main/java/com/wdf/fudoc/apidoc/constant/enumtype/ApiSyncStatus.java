@@ -15,6 +15,7 @@ public enum ApiSyncStatus {
     SYNCING("2", "同步中"),
     SUCCESS("3", "同步成功"),
     FAIL("4", "同步失败"),
+    SKIP("5", "未变更"),
     ;
 
     private final String code;
@@ -0,0 +1,141 @@
+package com.wdf.fudoc.apidoc.export;
+
+import com.google.common.collect.Lists;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.navigation.index.FuApiIndexHelper;
+import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.GenFuDocUtils;
+import com.wdf.fudoc.util.ObjectUtils;
+import org.jetbrains.concurrency.CancellablePromise;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量生成多个controller的接口文档数据(例如整个包或模块)
+ * <p>
+ * 每个controller在独立的非阻塞读锁中解析(写操作到来时会让出读锁) 并发数量有上限
+ * 解析期间代码发生变更时本次生成直接取消 避免生成新旧代码混合的文档
+ *
+ * @author wangdingfu
+ * @date 2025-02-14 15:18:09
+ */
+public class FuDocBatchGenerator {
+
+    /**
+     * 同时解析的controller数量上限
+     */
+    private static final int MAX_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final ExecutorService EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("Fu Doc Batch Gen", MAX_PARALLELISM);
+
+    /**
+     * 等待单个controller解析结果时检查取消状态的间隔
+     */
+    private static final int WAIT_MILLIS = 50;
+
+
+    /**
+     * 生成指定范围内所有controller的接口文档数据
+     *
+     * @param project     当前项目
+     * @param searchScope 生成范围(包、模块等)
+     * @param indicator   进度条
+     * @return 接口文档数据 按controller全限定名排序 docNo按排序后的顺序重新编号
+     */
+    public static List<FuDocItemData> gen(Project project, GlobalSearchScope searchScope, ProgressIndicator indicator) {
+        List<SmartPsiElementPointer<PsiClass>> controllerList = ReadAction.nonBlocking(() -> {
+            List<PsiClass> psiClassList = FuApiIndexHelper.findAllController(project, searchScope);
+            psiClassList.sort(Comparator.comparing(psiClass -> FuStringUtils.defaultString(psiClass.getQualifiedName())));
+            SmartPointerManager smartPointerManager = SmartPointerManager.getInstance(project);
+            return ObjectUtils.listToList(psiClassList, smartPointerManager::createSmartPsiElementPointer);
+        }).inSmartMode(project).wrapProgress(indicator).executeSynchronously();
+        return gen(project, controllerList, indicator);
+    }
+
+
+    /**
+     * 并行生成多个controller的接口文档数据
+     *
+     * @param project        当前项目
+     * @param controllerList controller集合(结果按该集合的顺序合并)
+     * @param indicator      进度条
+     * @return 接口文档数据
+     */
+    public static List<FuDocItemData> gen(Project project, List<SmartPsiElementPointer<PsiClass>> controllerList, ProgressIndicator indicator) {
+        PsiModificationTracker modificationTracker = PsiModificationTracker.getInstance(project);
+        long modificationCount = modificationTracker.getModificationCount();
+        AtomicInteger finishCount = new AtomicInteger();
+        List<CancellablePromise<List<FuDocItemData>>> promiseList = Lists.newArrayList();
+        indicator.setIndeterminate(false);
+        try {
+            for (SmartPsiElementPointer<PsiClass> pointer : controllerList) {
+                promiseList.add(ReadAction.nonBlocking(() -> GenFuDocUtils.genController(pointer.getElement()))
+                        .inSmartMode(project)
+                        //代码变更后不再继续解析
+                        .expireWhen(() -> modificationTracker.getModificationCount() != modificationCount)
+                        .wrapProgress(indicator)
+                        .submit(EXECUTOR)
+                        .onSuccess(dataList -> indicator.setFraction((double) finishCount.incrementAndGet() / controllerList.size())));
+            }
+            List<FuDocItemData> resultList = Lists.newArrayList();
+            for (int i = 0; i < promiseList.size(); i++) {
+                List<FuDocItemData> dataList = await(promiseList.get(i), indicator);
+                resetDocNo(i + 1, dataList);
+                resultList.addAll(dataList);
+            }
+            return resultList;
+        } finally {
+            promiseList.forEach(promise -> promise.cancel(false));
+        }
+    }
+
+
+    /**
+     * 等待解析结果 等待期间响应进度条的取消
+     */
+    private static List<FuDocItemData> await(CancellablePromise<List<FuDocItemData>> promise, ProgressIndicator indicator) {
+        while (true) {
+            indicator.checkCanceled();
+            try {
+                List<FuDocItemData> dataList = promise.blockingGet(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                return Objects.isNull(dataList) ? Lists.newArrayList() : dataList;
+            } catch (TimeoutException ignored) {
+                //继续等待
+            } catch (CancellationException e) {
+                //代码发生变更或被取消
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ProcessCanceledException processCanceledException) {
+                    throw processCanceledException;
+                }
+                throw new CompletionException(e.getCause());
+            }
+        }
+    }
+
+
+    /**
+     * 每个controller单独生成时序号都从1开始 合并时按controller的顺序重新编号
+     */
+    private static void resetDocNo(int classNo, List<FuDocItemData> dataList) {
+        for (FuDocItemData fuDocItemData : dataList) {
+            String docNo = fuDocItemData.getDocNo();
+            int index = Objects.isNull(docNo) ? -1 : docNo.indexOf(".");
+            fuDocItemData.setDocNo(index < 0 ? String.valueOf(classNo) : classNo + docNo.substring(index));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.wdf.fudoc.apidoc.export;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.wdf.fudoc.apidoc.config.state.FuDocSetting;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.common.FuDocRender;
+import com.wdf.fudoc.common.constant.FuDocConstants;
+import com.wdf.fudoc.navigation.index.FuApiIndexHelper;
+import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.GenFuDocUtils;
+import com.wdf.fudoc.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * 导出整个项目(或模块)的markdown接口文档
+ * <p>
+ * 按controller逐个解析组装接口文档数据 渲染后直接写入输出流 解析完的数据随即丢弃 内存占用与接口总数无关
+ *
+ * @author wangdingfu
+ * @date 2025-02-14 10:26:43
+ */
+public class MarkdownExportHelper {
+
+    /**
+     * 导出接口文档
+     *
+     * @param project   当前项目
+     * @param module    导出的模块 为空时导出整个项目
+     * @param writer    接口文档内容输出
+     * @param indicator 进度条
+     * @return 导出的接口数量
+     */
+    public static int export(Project project, Module module, Writer writer, ProgressIndicator indicator) throws IOException {
+        GlobalSearchScope searchScope = Objects.isNull(module) ? GlobalSearchScope.projectScope(project) : GlobalSearchScope.moduleScope(module);
+        //只保留controller的指针 具体的接口在写入时才去解析
+        List<SmartPsiElementPointer<PsiClass>> controllerList = DumbService.getInstance(project).runReadActionInSmartMode(() -> {
+            SmartPointerManager smartPointerManager = SmartPointerManager.getInstance(project);
+            return ObjectUtils.listToList(FuApiIndexHelper.findAllController(project, searchScope), smartPointerManager::createSmartPsiElementPointer);
+        });
+        return FuDocRender.markdownRender(FuDocSetting.getSettingData(), new ControllerDocIterator(project, controllerList, indicator), writer);
+    }
+
+
+    /**
+     * 获取默认的导出文件路径 ${projectPath}/.idea/Fu Doc/doc/${fileName}.md
+     */
+    public static Path getDefaultPath(Project project, String fileName) {
+        String basePath = project.getBasePath();
+        if (FuStringUtils.isBlank(basePath)) {
+            basePath = FileUtil.getTmpDir().getPath();
+        }
+        return Paths.get(basePath, FuDocConstants.IDEA_DIR, FuDocConstants.FU_DOC, FuDocConstants.DOC_DIR, fileName + ".md");
+    }
+
+
+    /**
+     * 按controller逐个生成接口文档数据 同一时间只持有一个controller的接口文档数据
+     */
+    private static class ControllerDocIterator implements Iterator<FuDocItemData> {
+
+        private final Project project;
+
+        private final List<SmartPsiElementPointer<PsiClass>> controllerList;
+
+        private final ProgressIndicator indicator;
+
+        private int controllerIndex;
+
+        private Iterator<FuDocItemData> current = Collections.emptyIterator();
+
+        private ControllerDocIterator(Project project, List<SmartPsiElementPointer<PsiClass>> controllerList, ProgressIndicator indicator) {
+            this.project = project;
+            this.controllerList = controllerList;
+            this.indicator = indicator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && controllerIndex < controllerList.size()) {
+                indicator.checkCanceled();
+                SmartPsiElementPointer<PsiClass> pointer = controllerList.get(controllerIndex++);
+                indicator.setFraction((double) controllerIndex / controllerList.size());
+                current = genControllerDoc(pointer).iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public FuDocItemData next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private List<FuDocItemData> genControllerDoc(SmartPsiElementPointer<PsiClass> pointer) {
+            return DumbService.getInstance(project).runReadActionInSmartMode(() -> {
+                PsiClass psiClass = pointer.getElement();
+                if (Objects.nonNull(psiClass)) {
+                    indicator.setText2(psiClass.getName());
+                }
+                return GenFuDocUtils.genController(psiClass);
+            });
+        }
+    }
+}
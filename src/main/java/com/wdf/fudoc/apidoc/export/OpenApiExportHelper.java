@@ -0,0 +1,265 @@
+package com.wdf.fudoc.apidoc.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.wdf.fudoc.apidoc.helper.OpenApiHelper;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.apidoc.sync.OpenApiSchemaRegistry;
+import com.wdf.fudoc.apidoc.sync.dto.OpenApiItemDTO;
+import com.wdf.fudoc.navigation.index.FuApiIndexHelper;
+import com.wdf.fudoc.navigation.index.FuApiIndexItem;
+import com.wdf.fudoc.util.FuDocUtils;
+import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.GenFuDocUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 导出整个项目(或模块)的openApi3.0接口文档(json格式)
+ * <p>
+ * 按controller逐个解析 每个controller的接口转换后直接写入输出流 不在内存中组装完整的openApi文档
+ * 多个controller中存在相同的请求地址时(例如GET /user和POST /user在不同的controller中) 等这些controller都解析完后合并写入
+ * 对象类型的参数保存到components.schemas中通过$ref引用 所有接口写完后再写入共用的schema
+ *
+ * @author wangdingfu
+ * @date 2025-03-03 11:06:52
+ */
+@Slf4j
+public class OpenApiExportHelper {
+
+    private static final String OPEN_API_VERSION = "3.0.1";
+
+    private static final String DOC_VERSION = "1.0.0";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+
+    /**
+     * 导出openApi接口文档
+     *
+     * @param project   当前项目
+     * @param module    导出的模块 为空时导出整个项目
+     * @param writer    接口文档内容输出(由调用方关闭)
+     * @param indicator 进度条
+     * @return 导出的接口数量
+     */
+    public static int export(Project project, Module module, Writer writer, ProgressIndicator indicator) throws IOException {
+        GlobalSearchScope searchScope = Objects.isNull(module) ? GlobalSearchScope.projectScope(project) : GlobalSearchScope.moduleScope(module);
+        //只保留controller的指针 具体的接口在写入时才去解析
+        List<ControllerRef> controllerList = DumbService.getInstance(project).runReadActionInSmartMode(() -> collectController(project, searchScope));
+        OpenApiSchemaRegistry registry = new OpenApiSchemaRegistry();
+        //等待合并的接口 key:接口地址(json对象中的key不能重复 同一地址下的接口需要全部解析完后一起写入)
+        Map<String, PendingPath> pendingMap = new LinkedHashMap<>();
+        //已写入的接口地址
+        Set<String> writtenUrls = new HashSet<>();
+        int count = 0;
+        JsonGenerator generator = MAPPER.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.useDefaultPrettyPrinter();
+        generator.writeStartObject();
+        generator.writeStringField("openapi", OPEN_API_VERSION);
+        generator.writeObjectFieldStart("info");
+        generator.writeStringField("title", Objects.isNull(module) ? project.getName() : module.getName());
+        generator.writeStringField("version", DOC_VERSION);
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("paths");
+        for (int index = 0; index < controllerList.size(); index++) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) (index + 1) / controllerList.size());
+            ControllerRef controllerRef = controllerList.get(index);
+            ControllerDoc controllerDoc = genControllerDoc(project, controllerRef.pointer, indicator);
+            for (Map.Entry<String, Map<String, OpenApiItemDTO>> entry : buildPaths(controllerDoc, registry).entrySet()) {
+                if (writtenUrls.contains(entry.getKey())) {
+                    //索引中未记录该地址(例如索引还未更新) 已写入的地址无法再合并
+                    log.info("接口地址【{}】已导出 忽略controller【{}】中相同地址的接口", entry.getKey(), controllerDoc.folder);
+                    continue;
+                }
+                PendingPath pendingPath = pendingMap.computeIfAbsent(entry.getKey(), key -> new PendingPath());
+                entry.getValue().forEach(pendingPath.methodMap::putIfAbsent);
+                pendingPath.writeIndex = Math.max(pendingPath.writeIndex, controllerRef.writeIndex);
+            }
+            count += writePaths(generator, pendingMap, index, writtenUrls);
+            generator.flush();
+        }
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("components");
+        generator.writeObjectField("schemas", registry.getAllSchemas());
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+        return count;
+    }
+
+
+    /**
+     * 获取默认的导出文件路径 ${projectPath}/.idea/Fu Doc/doc/${fileName}.json
+     */
+    public static Path getDefaultPath(Project project, String fileName) {
+        return MarkdownExportHelper.getDefaultPath(project, fileName).resolveSibling(fileName + ".json");
+    }
+
+
+    /**
+     * 将一个controller的接口转换为openApi格式
+     *
+     * @return key:接口地址 value: (key:请求类型 value:接口对象)
+     */
+    private static Map<String, Map<String, OpenApiItemDTO>> buildPaths(ControllerDoc controllerDoc, OpenApiSchemaRegistry registry) {
+        Map<String, Map<String, OpenApiItemDTO>> paths = new LinkedHashMap<>();
+        for (FuDocItemData fuDocItemData : controllerDoc.itemList) {
+            if (CollectionUtils.isEmpty(fuDocItemData.getUrlList()) || FuStringUtils.isBlank(fuDocItemData.getRequestType())) {
+                continue;
+            }
+            OpenApiItemDTO openApiItemDTO = OpenApiHelper.buildOpenApiItem(fuDocItemData, controllerDoc.folder, registry);
+            for (String url : fuDocItemData.getUrlList()) {
+                paths.computeIfAbsent(url, key -> new LinkedHashMap<>()).put(fuDocItemData.getRequestType().toLowerCase(), openApiItemDTO);
+            }
+        }
+        return paths;
+    }
+
+
+    /**
+     * 写入已经可以写入的接口地址(该地址可能存在的controller都已解析完成)
+     *
+     * @return 写入的接口数量
+     */
+    private static int writePaths(JsonGenerator generator, Map<String, PendingPath> pendingMap, int index, Set<String> writtenUrls) throws IOException {
+        int count = 0;
+        Iterator<Map.Entry<String, PendingPath>> iterator = pendingMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingPath> entry = iterator.next();
+            if (entry.getValue().writeIndex > index) {
+                continue;
+            }
+            generator.writeObjectField(entry.getKey(), entry.getValue().methodMap);
+            count += entry.getValue().methodMap.size();
+            writtenUrls.add(entry.getKey());
+            iterator.remove();
+        }
+        return count;
+    }
+
+
+    /**
+     * 查询需要导出的controller 并根据索引确定每个controller的接口最早可以写入的时机
+     * <p>
+     * 索引中同一个请求地址下存在多个controller时 这些controller的接口要等最后一个controller解析完后才写入
+     * 请求地址无法通过索引确定的controller排在最前面 它们的接口在最后写入(可以与后面任意controller中的接口合并)
+     */
+    private static List<ControllerRef> collectController(Project project, GlobalSearchScope searchScope) {
+        List<PsiClass> unresolvedList = FuApiIndexHelper.findUnresolvedController(project, searchScope);
+        Set<PsiClass> classSet = new LinkedHashSet<>(unresolvedList);
+        int unresolvedSize = classSet.size();
+        classSet.addAll(FuApiIndexHelper.findAllController(project, searchScope));
+        List<PsiClass> classList = new ArrayList<>(classSet);
+        Map<PsiClass, Integer> positionMap = new HashMap<>();
+        int[] writeIndexes = new int[classList.size()];
+        for (int index = 0; index < classList.size(); index++) {
+            positionMap.put(classList.get(index), index);
+            writeIndexes[index] = index < unresolvedSize ? classList.size() - 1 : index;
+        }
+        //key:请求地址 value:该地址所在的controller
+        Map<String, Set<Integer>> urlPositionMap = new HashMap<>();
+        for (FuApiIndexItem indexItem : FuApiIndexHelper.findAllApi(project, searchScope)) {
+            Integer position = positionMap.get(indexItem.getPsiMethod().getContainingClass());
+            if (Objects.nonNull(position)) {
+                urlPositionMap.computeIfAbsent(indexItem.getUrl(), key -> new HashSet<>()).add(position);
+            }
+        }
+        for (Set<Integer> positionSet : urlPositionMap.values()) {
+            if (positionSet.size() > 1) {
+                int last = Collections.max(positionSet);
+                positionSet.forEach(position -> writeIndexes[position] = Math.max(writeIndexes[position], last));
+            }
+        }
+        SmartPointerManager smartPointerManager = SmartPointerManager.getInstance(project);
+        List<ControllerRef> controllerList = new ArrayList<>();
+        for (int index = 0; index < classList.size(); index++) {
+            controllerList.add(new ControllerRef(smartPointerManager.createSmartPsiElementPointer(classList.get(index)), writeIndexes[index]));
+        }
+        return controllerList;
+    }
+
+
+    private static ControllerDoc genControllerDoc(Project project, SmartPsiElementPointer<PsiClass> pointer, ProgressIndicator indicator) {
+        return DumbService.getInstance(project).runReadActionInSmartMode(() -> {
+            ControllerDoc controllerDoc = new ControllerDoc();
+            PsiClass psiClass = pointer.getElement();
+            if (Objects.nonNull(psiClass) && psiClass.isValid()) {
+                indicator.setText2(psiClass.getName());
+                String classTitle = FuDocUtils.classTitle(psiClass);
+                controllerDoc.folder = FuStringUtils.isNotBlank(classTitle) ? classTitle : psiClass.getName();
+            }
+            controllerDoc.itemList = GenFuDocUtils.genController(psiClass);
+            return controllerDoc;
+        });
+    }
+
+
+    /**
+     * 需要导出的controller
+     */
+    private static class ControllerRef {
+
+        private final SmartPsiElementPointer<PsiClass> pointer;
+
+        /**
+         * 解析完第几个controller后才能写入该controller的接口
+         */
+        private final int writeIndex;
+
+        private ControllerRef(SmartPsiElementPointer<PsiClass> pointer, int writeIndex) {
+            this.pointer = pointer;
+            this.writeIndex = writeIndex;
+        }
+    }
+
+
+    /**
+     * 等待写入的接口地址
+     */
+    private static class PendingPath {
+
+        /**
+         * key:请求类型 value:接口对象
+         */
+        private final Map<String, OpenApiItemDTO> methodMap = new LinkedHashMap<>();
+
+        /**
+         * 解析完第几个controller后才能写入
+         */
+        private int writeIndex;
+    }
+
+
+    /**
+     * 一个controller的接口文档数据
+     */
+    private static class ControllerDoc {
+
+        /**
+         * 接口目录(controller的标题)
+         */
+        private String folder;
+
+        private List<FuDocItemData> itemList = Collections.emptyList();
+    }
+}
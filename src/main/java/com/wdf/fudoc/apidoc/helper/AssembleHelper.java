@@ -45,6 +45,7 @@ public class AssembleHelper {
                     fuDocParamData.setParamDesc(ParamValueExecutor.doGetValue(fuDocContext, ParamValueType.PARAM_COMMENT, objectInfoDesc));
                     fuDocParamData.setParamType(ParamValueExecutor.doGetValue(fuDocContext, ParamValueType.PARAM_TYPE_VIEW, objectInfoDesc));
                     fuDocParamData.setChildParamType(objectInfoDesc.getChildTypeView());
+                    fuDocParamData.setCanonicalType(objectInfoDesc.getType());
                     fuDocParamData.setParamValue(MockDataHelper.mockStringValue(objectInfoDesc.getValue()));
                     fuDocParamData.setExt(CustomerValueHelper.customerValue(objectInfoDesc, fuDocContext));
                     if (Objects.nonNull(parent) && FuStringUtils.isNotBlank(parent.getParamNo())) {
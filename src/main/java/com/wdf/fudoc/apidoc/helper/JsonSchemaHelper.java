@@ -3,6 +3,7 @@ package com.wdf.fudoc.apidoc.helper;
 import com.google.common.collect.Lists;
 import com.wdf.fudoc.apidoc.constant.enumtype.YesOrNo;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocParamData;
+import com.wdf.fudoc.apidoc.sync.OpenApiSchemaRegistry;
 import com.wdf.fudoc.apidoc.sync.dto.YApiJsonSchema;
 import com.wdf.fudoc.apidoc.sync.dto.YApiMock;
 import com.wdf.fudoc.common.constant.FuDocConstants;
@@ -14,6 +15,7 @@ import com.wdf.fudoc.util.FuStringUtils;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author wangdingfu
@@ -40,11 +42,23 @@ public class JsonSchemaHelper {
      * @return json schema
      */
     public static YApiJsonSchema buildJsonSchema(List<FuDocParamData> fuDocParamDataList) {
+        return buildJsonSchema(fuDocParamDataList, null);
+    }
+
+
+    /**
+     * 构建json schema 对象类型的参数保存到共用的schema中并通过$ref引用
+     *
+     * @param fuDocParamDataList 接口文档参数集合
+     * @param registry           共用的schema 为null时不引用
+     * @return json schema
+     */
+    public static YApiJsonSchema buildJsonSchema(List<FuDocParamData> fuDocParamDataList, OpenApiSchemaRegistry registry) {
         YApiJsonSchema jsonSchema = new YApiJsonSchema();
         jsonSchema.setType("object");
         if (CollectionUtils.isNotEmpty(fuDocParamDataList)) {
             MapListUtil<String, FuDocParamData> instance = MapListUtil.getInstance(fuDocParamDataList, FuDocParamData::getParentParamNo);
-            YApiJsonSchema yApiJsonSchema = buildProperties(instance.get(FuDocConstants.ROOT), instance);
+            YApiJsonSchema yApiJsonSchema = buildProperties(instance.get(FuDocConstants.ROOT), instance, registry);
             jsonSchema.setProperties(yApiJsonSchema.getProperties());
             jsonSchema.setRequired(yApiJsonSchema.getRequired());
         }
@@ -59,12 +73,17 @@ public class JsonSchemaHelper {
      * @return 指定对象的字段属性和是否必填
      */
     public static YApiJsonSchema buildProperties(List<FuDocParamData> childList, MapListUtil<String, FuDocParamData> instance) {
+        return buildProperties(childList, instance, null);
+    }
+
+
+    private static YApiJsonSchema buildProperties(List<FuDocParamData> childList, MapListUtil<String, FuDocParamData> instance, OpenApiSchemaRegistry registry) {
         YApiJsonSchema result = new YApiJsonSchema();
         List<String> required = Lists.newArrayList();
         Map<String, YApiJsonSchema> properties = new HashMap<>();
         if (CollectionUtils.isNotEmpty(childList)) {
             childList.forEach(f -> {
-                properties.put(f.getParamName(), buildJsonSchema(f, instance));
+                properties.put(f.getParamName(), buildJsonSchema(f, instance, registry));
                 if (YesOrNo.YES.getDesc().equals(f.getParamRequire())) {
                     required.add(f.getParamName());
                 }
@@ -84,13 +103,23 @@ public class JsonSchemaHelper {
      * @return 当前参数的json schema
      */
     public static YApiJsonSchema buildJsonSchema(FuDocParamData fuDocParamData, MapListUtil<String, FuDocParamData> instance) {
+        return buildJsonSchema(fuDocParamData, instance, null);
+    }
+
+
+    private static YApiJsonSchema buildJsonSchema(FuDocParamData fuDocParamData, MapListUtil<String, FuDocParamData> instance, OpenApiSchemaRegistry registry) {
         YApiJsonSchema jsonSchema = new YApiJsonSchema();
         String paramType = fuDocParamData.getParamType();
         if ("object".equals(paramType)) {
             //对象
-            YApiJsonSchema yApiJsonSchema = buildProperties(instance.get(fuDocParamData.getParamNo()), instance);
+            YApiJsonSchema yApiJsonSchema = buildProperties(instance.get(fuDocParamData.getParamNo()), instance, registry);
             jsonSchema.setProperties(yApiJsonSchema.getProperties());
             jsonSchema.setRequired(yApiJsonSchema.getRequired());
+            if (Objects.nonNull(registry)) {
+                jsonSchema.setType(paramType);
+                jsonSchema.setDescription(fuDocParamData.getParamDesc());
+                return registry.ref(fuDocParamData.getCanonicalType(), jsonSchema);
+            }
         } else if ("array".equals(paramType)) {
             //组装items
             FuDocParamData item = new FuDocParamData();
@@ -98,7 +127,8 @@ public class JsonSchemaHelper {
             item.setParamDesc(fuDocParamData.getParamDesc());
             item.setParamValue(fuDocParamData.getParamValue());
             item.setParamType(fuDocParamData.getChildParamType());
-            jsonSchema.setItems(buildJsonSchema(item, instance));
+            item.setCanonicalType(OpenApiSchemaRegistry.elementType(fuDocParamData.getCanonicalType()));
+            jsonSchema.setItems(buildJsonSchema(item, instance, registry));
         } else {
             String paramValue = fuDocParamData.getParamValue();
             if (FuStringUtils.isNotBlank(paramValue)) {
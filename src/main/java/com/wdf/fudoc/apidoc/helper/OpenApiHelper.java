@@ -0,0 +1,121 @@
+package com.wdf.fudoc.apidoc.helper;
+
+import com.google.common.collect.Lists;
+import com.wdf.fudoc.apidoc.constant.enumtype.ContentType;
+import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
+import com.wdf.fudoc.apidoc.constant.enumtype.YesOrNo;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocParamData;
+import com.wdf.fudoc.apidoc.sync.OpenApiSchemaRegistry;
+import com.wdf.fudoc.apidoc.sync.dto.*;
+import com.wdf.fudoc.common.constant.FuDocConstants;
+import org.apache.commons.collections.CollectionUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 将接口文档数据转换为openApi格式的接口对象(同步ApiFox和导出openApi文档共用)
+ *
+ * @author wangdingfu
+ * @date 2025-03-03 10:12:26
+ */
+public class OpenApiHelper {
+
+
+    /**
+     * 构建openApi格式的接口对象
+     *
+     * @param fuDocItemData 接口文档数据
+     * @param folder        接口目录
+     * @param registry      共用的schema 对象类型的参数通过$ref引用
+     * @return openApi格式的接口对象
+     */
+    public static OpenApiItemDTO buildOpenApiItem(FuDocItemData fuDocItemData, String folder, OpenApiSchemaRegistry registry) {
+        OpenApiItemDTO openApiItemDTO = new OpenApiItemDTO();
+        openApiItemDTO.setSummary(fuDocItemData.getTitle());
+        openApiItemDTO.setStatus("released");
+        openApiItemDTO.setDescription(fuDocItemData.getDetailInfo());
+        openApiItemDTO.setFolder(folder);
+        openApiItemDTO.setParameters(buildParameters(fuDocItemData));
+        openApiItemDTO.setRequestBody(buildRequestBody(fuDocItemData, registry));
+        Map<String, OpenApiResponseDTO> response = new HashMap<>();
+        response.put("200", buildApiResponse(fuDocItemData, registry));
+        openApiItemDTO.setResponses(response);
+        return openApiItemDTO;
+    }
+
+
+    private static List<OpenApiParameterItemDTO> buildParameters(FuDocItemData fuDocItemData) {
+        String requestType = fuDocItemData.getRequestType();
+        List<FuDocParamData> requestParams = fuDocItemData.getRequestParams();
+        if (RequestType.GET.getRequestType().equals(requestType)) {
+            if (CollectionUtils.isEmpty(requestParams)) {
+                return Lists.newArrayList();
+            }
+            //GET请求参数组装
+            return requestParams.stream().map(m -> buildParameterItem(m, m.getExt().containsKey(FuDocConstants.PATH_VARIABLE) ? "path" : "query")).collect(Collectors.toList());
+        }
+        //主要是解析@PathVariable上的参数返回
+        return filterPathVariableParams(requestParams).stream().map(m -> buildParameterItem(m, "path")).collect(Collectors.toList());
+    }
+
+    private static OpenApiParameterItemDTO buildParameterItem(FuDocParamData fuDocParamData, String in) {
+        OpenApiParameterItemDTO parameterItemDTO = new OpenApiParameterItemDTO();
+        parameterItemDTO.setName(fuDocParamData.getParamName());
+        parameterItemDTO.setIn(in);
+        parameterItemDTO.setDescription(fuDocParamData.getParamDesc());
+        parameterItemDTO.setRequired(YesOrNo.YES.getDesc().equals(fuDocParamData.getParamRequire()));
+        parameterItemDTO.setExample(fuDocParamData.getParamValue());
+        YApiJsonSchema schema = new YApiJsonSchema();
+        schema.setType(fuDocParamData.getParamType());
+        parameterItemDTO.setSchema(schema);
+        return parameterItemDTO;
+    }
+
+    private static OpenApiResponseDTO buildApiResponse(FuDocItemData fuDocItemData, OpenApiSchemaRegistry registry) {
+        OpenApiResponseDTO apiResponseDTO = new OpenApiResponseDTO();
+        apiResponseDTO.setContent(buildContent(fuDocItemData, true, registry));
+        apiResponseDTO.setDescription("OK");
+        return apiResponseDTO;
+    }
+
+
+    private static OpenApiRequestBody buildRequestBody(FuDocItemData fuDocItemData, OpenApiSchemaRegistry registry) {
+        OpenApiRequestBody requestBody = new OpenApiRequestBody();
+        requestBody.setContent(buildContent(fuDocItemData, false, registry));
+        return requestBody;
+    }
+
+    private static Map<String, OpenApiContentDTO> buildContent(FuDocItemData fuDocItemData, boolean isResponse, OpenApiSchemaRegistry registry) {
+        if (!isResponse && RequestType.GET.getRequestType().equals(fuDocItemData.getRequestType())) {
+            return new HashMap<>();
+        }
+        Map<String, OpenApiContentDTO> content = new HashMap<>();
+        ContentType contentType = fuDocItemData.getContentType();
+        if (Objects.isNull(contentType) || isResponse) {
+            contentType = ContentType.JSON;
+        }
+        OpenApiContentDTO openApiContentDTO = new OpenApiContentDTO();
+        openApiContentDTO.setExample(isResponse ? fuDocItemData.getResponseExample() : fuDocItemData.getRequestExample());
+        openApiContentDTO.setSchema(JsonSchemaHelper.buildJsonSchema(isResponse ? fuDocItemData.getResponseParams() : fuDocItemData.getRequestParams(), registry));
+        content.put(contentType.getType(), openApiContentDTO);
+        return content;
+    }
+
+    /**
+     * 过滤PathVariable格式的参数
+     *
+     * @param requestParams 所有的请求参数
+     * @return PathVariable格式的参数
+     */
+    private static List<FuDocParamData> filterPathVariableParams(List<FuDocParamData> requestParams) {
+        if (CollectionUtils.isNotEmpty(requestParams)) {
+            return requestParams.stream().filter(f -> f.getExt().containsKey(FuDocConstants.PATH_VARIABLE)).collect(Collectors.toList());
+        }
+        return Lists.newArrayList();
+    }
+}
@@ -50,4 +50,9 @@ public class JsonRealDataHandler implements MockRealData {
         }
         return null;
     }
+
+    @Override
+    public boolean hasData() {
+        return Objects.nonNull(this.jsonRealData) || (Objects.nonNull(this.arrayRealData) && !this.arrayRealData.isEmpty());
+    }
 }
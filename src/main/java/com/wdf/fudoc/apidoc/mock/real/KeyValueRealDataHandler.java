@@ -34,4 +34,9 @@ public class KeyValueRealDataHandler implements MockRealData {
         }
         return REAL_DATA_MAP.get(fieldName);
     }
+
+    @Override
+    public boolean hasData() {
+        return !REAL_DATA_MAP.isEmpty();
+    }
 }
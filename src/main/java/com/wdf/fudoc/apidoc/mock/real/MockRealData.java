@@ -32,4 +32,12 @@ public interface MockRealData {
      */
     Object getData(String fieldName);
 
+
+    /**
+     * 是否存在真实请求过的示例数据
+     *
+     * @return false: 没有任何示例数据(只会mock随机数据)
+     */
+    boolean hasData();
+
 }
@@ -180,7 +180,7 @@ public class FuDocClassParserImpl implements FuDocClassParser {
         if (CollectionUtils.isNotEmpty(childList)) {
             for (ObjectInfoDesc infoDesc : childList) {
                 if (Objects.nonNull(referenceDescId) && infoDesc.getBooleanValue(FuDocConstants.ExtInfo.IS_ATTR)) {
-                    infoDesc.addExtInfo(FuDocConstants.ExtInfo.REFERENCE_DESC_ID, referenceDescId);
+                    infoDesc.setReferenceDescId(referenceDescId);
                 }
                 paddingReferenceDescId(infoDesc, infoDesc.getDescId());
             }
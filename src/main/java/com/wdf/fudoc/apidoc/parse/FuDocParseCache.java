@@ -0,0 +1,210 @@
+package com.wdf.fudoc.apidoc.parse;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.wdf.fudoc.apidoc.mock.real.MockRealData;
+import com.wdf.fudoc.apidoc.pojo.bo.ParseFrameBO;
+import com.wdf.fudoc.apidoc.pojo.bo.ParseObjectBO;
+import com.wdf.fudoc.apidoc.pojo.context.FuDocContext;
+import com.wdf.fudoc.apidoc.pojo.desc.ObjectInfoDesc;
+import com.wdf.fudoc.util.ObjectUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * 对象解析结果缓存(项目级别 跨多次生成文档/同步接口复用)
+ * <p>
+ * {@link FuDocContext}中的缓存只在一次解析中有效 批量生成多个接口时相同的对象(例如统一的响应对象)会被重复解析
+ * 此处缓存解析完成的对象 当解析该对象时读取过的任意一个文件发生变更时缓存失效
+ *
+ * @author wangdingfu
+ * @date 2025-02-12 14:45:31
+ */
+@Slf4j
+public class FuDocParseCache {
+
+    /**
+     * 最多缓存的对象数量
+     */
+    private static final int MAX_SIZE = 500;
+
+    private final Project project;
+
+    private final Map<String, CacheEntry> cacheMap = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+
+    public FuDocParseCache(Project project) {
+        this.project = project;
+    }
+
+    public static FuDocParseCache getInstance(Project project) {
+        return project.getService(FuDocParseCache.class);
+    }
+
+
+    /**
+     * 构建缓存key 对象类型 + 影响解析结果的配置
+     *
+     * @param canonicalText 对象类型
+     * @param parseObjectBO 解析对象的参数
+     * @return 缓存key
+     */
+    public static String buildKey(String canonicalText, ParseObjectBO parseObjectBO) {
+        FuDocContext fuDocContext = parseObjectBO.getFuDocContext();
+        int settingHash = Objects.hash(fuDocContext.getFilterMap(), fuDocContext.isEnableSwagger(), fuDocContext.isEnableValidMessage(),
+                fuDocContext.isFuRequest(), parseObjectBO.getParamType());
+        return canonicalText + "#" + settingHash;
+    }
+
+
+    /**
+     * 判断当前对象的解析结果是否可以跨上下文缓存
+     *
+     * @param psiType      对象类型
+     * @param mockRealData 解析该对象字段时使用的真实示例数据
+     * @return true: 可以缓存
+     */
+    public static boolean isCacheable(PsiType psiType, MockRealData mockRealData) {
+        //有真实请求数据时 每个接口的示例值都不相同
+        return (Objects.isNull(mockRealData) || !mockRealData.hasData()) && !hasTypeParameter(psiType);
+    }
+
+
+    /**
+     * 从缓存中获取对象的字段集合
+     *
+     * @param key          缓存key
+     * @param fuDocContext 当前解析上下文
+     * @return 缓存中的字段集合(副本) 缓存不存在或已失效时返回null
+     */
+    public List<ObjectInfoDesc> get(String key, FuDocContext fuDocContext) {
+        CacheEntry cacheEntry = cacheMap.get(key);
+        if (Objects.isNull(cacheEntry)) {
+            return null;
+        }
+        if (!isValid(cacheEntry)) {
+            cacheMap.remove(key);
+            return null;
+        }
+        fuDocContext.addDependency(cacheEntry.dependencyMap);
+        return copy(cacheEntry.childList, fuDocContext);
+    }
+
+
+    /**
+     * 缓存对象的字段集合
+     *
+     * @param key          缓存key
+     * @param childList    解析完成的字段集合
+     * @param parseFrameBO 该对象的解析过程
+     */
+    public void put(String key, List<ObjectInfoDesc> childList, ParseFrameBO parseFrameBO) {
+        if (parseFrameBO.isEarly() || parseFrameBO.getDependencyMap().isEmpty()) {
+            return;
+        }
+        cacheMap.put(key, new CacheEntry(copy(childList, null), new HashMap<>(parseFrameBO.getDependencyMap())));
+    }
+
+
+    /**
+     * 获取类(包含父类)所在文件的当前修改标识
+     *
+     * @param psiClass 解析的类
+     * @return key: 文件 value: 修改标识
+     */
+    public static Map<VirtualFile, Long> getDependency(PsiClass psiClass) {
+        Map<VirtualFile, Long> dependencyMap = new HashMap<>();
+        for (PsiClass current = psiClass; Objects.nonNull(current); current = current.getSuperClass()) {
+            PsiFile psiFile = current.getContainingFile();
+            VirtualFile virtualFile;
+            if (Objects.nonNull(psiFile) && Objects.nonNull(virtualFile = psiFile.getVirtualFile())) {
+                dependencyMap.put(virtualFile, psiFile.getModificationStamp());
+            }
+        }
+        return dependencyMap;
+    }
+
+
+    private boolean isValid(CacheEntry cacheEntry) {
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (Map.Entry<VirtualFile, Long> entry : cacheEntry.dependencyMap.entrySet()) {
+            VirtualFile virtualFile = entry.getKey();
+            PsiFile psiFile = virtualFile.isValid() ? psiManager.findFile(virtualFile) : null;
+            if (Objects.isNull(psiFile) || psiFile.getModificationStamp() != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * 深拷贝字段集合 缓存中的对象和解析结果互不影响(解析结果后续会被填充rootId等信息)
+     *
+     * @param childList    字段集合
+     * @param fuDocContext 不为空时为拷贝出的对象重新生成descId
+     */
+    private static List<ObjectInfoDesc> copy(List<ObjectInfoDesc> childList, FuDocContext fuDocContext) {
+        return ObjectUtils.listToList(childList, data -> copy(data, fuDocContext));
+    }
+
+    private static ObjectInfoDesc copy(ObjectInfoDesc source, FuDocContext fuDocContext) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        ObjectInfoDesc target = source.copy();
+        if (Objects.nonNull(fuDocContext)) {
+            target.setDescId(fuDocContext.genDescId());
+        }
+        if (Objects.nonNull(source.getChildList())) {
+            target.setChildList(copy(source.getChildList(), fuDocContext));
+        }
+        return target;
+    }
+
+
+    /**
+     * 对象类型中是否包含未确定的泛型(例如T) 泛型的实际类型取决于外层对象 不能缓存
+     */
+    private static boolean hasTypeParameter(PsiType psiType) {
+        if (psiType instanceof PsiClassType psiClassType) {
+            if (psiClassType.resolve() instanceof PsiTypeParameter) {
+                return true;
+            }
+            for (PsiType parameter : psiClassType.getParameters()) {
+                if (hasTypeParameter(parameter)) {
+                    return true;
+                }
+            }
+        }
+        if (psiType instanceof PsiArrayType psiArrayType) {
+            return hasTypeParameter(psiArrayType.getComponentType());
+        }
+        if (psiType instanceof PsiWildcardType psiWildcardType) {
+            return hasTypeParameter(psiWildcardType.getBound());
+        }
+        return false;
+    }
+
+
+    private static class CacheEntry {
+
+        private final List<ObjectInfoDesc> childList;
+
+        /**
+         * 解析该对象时读取过的文件 key: 文件 value: 读取时文件的修改标识
+         */
+        private final Map<VirtualFile, Long> dependencyMap;
+
+        private CacheEntry(List<ObjectInfoDesc> childList, Map<VirtualFile, Long> dependencyMap) {
+            this.childList = childList;
+            this.dependencyMap = dependencyMap;
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.wdf.fudoc.apidoc.parse;
 
-import cn.hutool.core.bean.BeanUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.wdf.fudoc.apidoc.constant.enumtype.CommonObjectType;
 import com.wdf.fudoc.apidoc.parse.object.ApiDocObjectParser;
 import com.wdf.fudoc.apidoc.parse.object.impl.*;
 import com.wdf.fudoc.apidoc.pojo.bo.ParseObjectBO;
@@ -10,7 +20,11 @@ import org.apache.commons.compress.utils.Lists;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author wangdingfu
@@ -21,9 +35,33 @@ public class ObjectParserExecutor {
 
     private static final List<ApiDocObjectParser> OBJECT_PARSER_LIST = Lists.newArrayList();
 
+    private static final ApiDocObjectParser PRIMITIVE_PARSER = new FuDocPrimitiveParser();
+
+    private static final ApiDocObjectParser COMMON_OBJECT_PARSER = new FuDocCommonObjectParser();
+
+    /**
+     * 对象类型对应的解析器缓存 key:对象类型 value:解析器 任意PSI变更后失效
+     */
+    private static final Key<CachedValue<Map<String, ApiDocObjectParser>>> DISPATCH_CACHE_KEY = Key.create("FuDoc.ObjectParserDispatch");
+
+    /**
+     * 基本数据类型及java公共对象直接匹配解析器的次数
+     */
+    private static final AtomicLong FAST_PATH_COUNT = new AtomicLong();
+
+    /**
+     * 从缓存中获取解析器的次数
+     */
+    private static final AtomicLong CACHE_HIT_COUNT = new AtomicLong();
+
+    /**
+     * 遍历所有解析器匹配的次数
+     */
+    private static final AtomicLong CACHE_MISS_COUNT = new AtomicLong();
+
     static {
-        OBJECT_PARSER_LIST.add(new FuDocPrimitiveParser());
-        OBJECT_PARSER_LIST.add(new FuDocCommonObjectParser());
+        OBJECT_PARSER_LIST.add(PRIMITIVE_PARSER);
+        OBJECT_PARSER_LIST.add(COMMON_OBJECT_PARSER);
         OBJECT_PARSER_LIST.add(new FuDocFilterObjectParser());
         OBJECT_PARSER_LIST.add(new FuDocArrayParser());
         OBJECT_PARSER_LIST.add(new FuDocCollectionParser());
@@ -47,10 +85,9 @@ public class ObjectParserExecutor {
         if (Objects.nonNull(psiType) && Objects.nonNull(parseObjectBO) && Objects.nonNull(parseObjectBO.getFuDocContext())) {
             //泛型替换
             psiType = formatPsiType(psiType, parseObjectBO);
-            for (ApiDocObjectParser apiDocObjectParser : ObjectParserExecutor.OBJECT_PARSER_LIST) {
-                if (apiDocObjectParser.isParse(psiType)) {
-                    return apiDocObjectParser.parse(psiType, BeanUtil.copyProperties(parseObjectBO, ParseObjectBO.class));
-                }
+            ApiDocObjectParser apiDocObjectParser = getParser(psiType);
+            if (Objects.nonNull(apiDocObjectParser)) {
+                return apiDocObjectParser.parse(psiType, parseObjectBO.fork());
             }
         }
         //没有解析器可以执行 不支持该类型的对象
@@ -58,6 +95,75 @@ public class ObjectParserExecutor {
     }
 
 
+    /**
+     * 获取对象类型对应的解析器
+     * 基本数据类型和java公共对象直接返回 其余的类按类型缓存匹配到的解析器(集合、Map等解析器需要遍历类的继承关系)
+     *
+     * @param psiType 对象类型
+     * @return 匹配的解析器 没有匹配的解析器时返回null
+     */
+    private static ApiDocObjectParser getParser(PsiType psiType) {
+        if (psiType instanceof PsiPrimitiveType) {
+            FAST_PATH_COUNT.incrementAndGet();
+            return PRIMITIVE_PARSER;
+        }
+        String canonicalText = psiType.getCanonicalText();
+        if (CommonObjectType.isCommon(canonicalText)) {
+            FAST_PATH_COUNT.incrementAndGet();
+            return COMMON_OBJECT_PARSER;
+        }
+        PsiClass psiClass;
+        //泛型参数在不同的上下文中可能是不同的类型 不缓存
+        if (!(psiType instanceof PsiClassType psiClassType) || Objects.isNull(psiClass = psiClassType.resolve()) || psiClass instanceof PsiTypeParameter) {
+            CACHE_MISS_COUNT.incrementAndGet();
+            return findParser(psiType);
+        }
+        Map<String, ApiDocObjectParser> dispatchMap = getDispatchMap(psiClass.getProject());
+        ApiDocObjectParser apiDocObjectParser = dispatchMap.get(canonicalText);
+        if (Objects.nonNull(apiDocObjectParser)) {
+            CACHE_HIT_COUNT.incrementAndGet();
+            return apiDocObjectParser;
+        }
+        CACHE_MISS_COUNT.incrementAndGet();
+        apiDocObjectParser = findParser(psiType);
+        if (Objects.nonNull(apiDocObjectParser)) {
+            dispatchMap.put(canonicalText, apiDocObjectParser);
+        }
+        return apiDocObjectParser;
+    }
+
+
+    private static ApiDocObjectParser findParser(PsiType psiType) {
+        for (ApiDocObjectParser apiDocObjectParser : ObjectParserExecutor.OBJECT_PARSER_LIST) {
+            if (apiDocObjectParser.isParse(psiType)) {
+                return apiDocObjectParser;
+            }
+        }
+        return null;
+    }
+
+
+    private static Map<String, ApiDocObjectParser> getDispatchMap(Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, DISPATCH_CACHE_KEY,
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), PsiModificationTracker.MODIFICATION_COUNT), false);
+    }
+
+
+    /**
+     * 解析器匹配统计
+     *
+     * @return 直接匹配次数、缓存命中次数、未命中次数及命中率
+     */
+    public static String statistics() {
+        long fastPath = FAST_PATH_COUNT.get();
+        long hit = CACHE_HIT_COUNT.get();
+        long miss = CACHE_MISS_COUNT.get();
+        long total = fastPath + hit + miss;
+        double hitRate = total == 0 ? 0 : (fastPath + hit) * 100.0 / total;
+        return String.format(Locale.ROOT, "fastPath=%d, hit=%d, miss=%d, hitRate=%.1f%%", fastPath, hit, miss, hitRate);
+    }
+
+
     /**
      * 格式化对象类型（如果对象为泛型 则将泛型替换为真实对象类型）
      *
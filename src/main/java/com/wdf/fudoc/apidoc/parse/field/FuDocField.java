@@ -1,6 +1,10 @@
 package com.wdf.fudoc.apidoc.parse.field;
 
 import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author wangdingfu
@@ -39,4 +43,12 @@ public interface FuDocField {
     String getParamType();
 
 
+    /**
+     * 获取字段注释中引用的类(@see @link) 引用的类变更后注释内容也可能变更
+     */
+    default List<PsiClass> getCommentRefClasses() {
+        return Collections.emptyList();
+    }
+
+
 }
@@ -7,8 +7,11 @@ import com.wdf.fudoc.apidoc.constant.enumtype.YesOrNo;
 import com.wdf.fudoc.apidoc.helper.DocCommentParseHelper;
 import com.wdf.fudoc.apidoc.helper.EnumParseHelper;
 import com.wdf.fudoc.apidoc.pojo.data.ApiDocCommentData;
+import com.wdf.fudoc.apidoc.pojo.data.CommentTagData;
 import com.wdf.fudoc.util.FuStringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -53,6 +56,26 @@ public class FuDocPsiField extends AbstractFuDocField {
         return apiDocCommentData.getCommentTitle();
     }
 
+    /**
+     * 获取字段注释中@see和@link引用的类(引用的是字段或方法时取所在的类)
+     */
+    @Override
+    public List<PsiClass> getCommentRefClasses() {
+        ApiDocCommentData apiDocCommentData = DocCommentParseHelper.parseComment(psiField);
+        List<PsiClass> refClassList = new ArrayList<>();
+        for (String tag : List.of(CommentTagType.SEE.getName(), CommentTagType.LINK.getName())) {
+            for (CommentTagData commentTagData : apiDocCommentData.getTagComments(tag)) {
+                PsiElement psiElement = commentTagData.getPsiElement();
+                PsiClass psiClass = psiElement instanceof PsiClass ? (PsiClass) psiElement
+                        : psiElement instanceof PsiMember ? ((PsiMember) psiElement).getContainingClass() : null;
+                if (Objects.nonNull(psiClass) && !refClassList.contains(psiClass)) {
+                    refClassList.add(psiClass);
+                }
+            }
+        }
+        return refClassList;
+    }
+
     /**
      * 获取字段上的注解
      */
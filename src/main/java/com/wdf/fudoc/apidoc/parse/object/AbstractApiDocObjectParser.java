@@ -6,6 +6,7 @@ import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.wdf.fudoc.apidoc.mock.real.MockRealData;
+import com.wdf.fudoc.apidoc.parse.FuDocParseCache;
 import com.wdf.fudoc.apidoc.parse.field.FuDocField;
 import com.wdf.fudoc.apidoc.parse.field.FuDocPsiClass;
 import com.wdf.fudoc.apidoc.parse.field.FuDocPsiParameter;
@@ -63,6 +64,8 @@ public abstract class AbstractApiDocObjectParser implements ApiDocObjectParser {
             }
             objectInfoDesc.addExtInfo(FuDocConstants.ExtInfo.PARAM_TYPE, fuDocField.getParamType());
             objectInfoDesc.setDocText(fuDocField.getComment());
+            //注释中引用的类(例如@see引用的枚举)变更后 缓存的解析结果需要失效
+            fuDocField.getCommentRefClasses().forEach(refClass -> fuDocContext.addDependency(FuDocParseCache.getDependency(refClass)));
             objectInfoDesc.setName(fuDocField.getName());
             objectInfoDesc.setAnnotationDataMap(AnnotationUtils.parse(fuDocField.getAnnotations()));
             addModifierProperty(FuDocConstants.ModifierProperty.STATIC, fuDocField, objectInfoDesc);
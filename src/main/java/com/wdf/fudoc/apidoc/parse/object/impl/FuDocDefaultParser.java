@@ -1,6 +1,5 @@
 package com.wdf.fudoc.apidoc.parse.object.impl;
 
-import cn.hutool.core.bean.BeanUtil;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.intellij.psi.*;
@@ -10,10 +9,12 @@ import com.wdf.fudoc.apidoc.constant.enumtype.FuDocObjectType;
 import com.wdf.fudoc.apidoc.constant.enumtype.ParamType;
 import com.wdf.fudoc.apidoc.mock.real.JsonRealDataHandler;
 import com.wdf.fudoc.apidoc.mock.real.MockRealData;
+import com.wdf.fudoc.apidoc.parse.FuDocParseCache;
 import com.wdf.fudoc.apidoc.parse.ObjectParserExecutor;
 import com.wdf.fudoc.apidoc.parse.field.FuDocField;
 import com.wdf.fudoc.apidoc.parse.field.FuDocPsiField;
 import com.wdf.fudoc.apidoc.parse.object.AbstractApiDocObjectParser;
+import com.wdf.fudoc.apidoc.pojo.bo.ParseFrameBO;
 import com.wdf.fudoc.apidoc.pojo.bo.ParseObjectBO;
 import com.wdf.fudoc.apidoc.pojo.context.FuDocContext;
 import com.wdf.fudoc.apidoc.pojo.data.AnnotationData;
@@ -79,17 +80,39 @@ public class FuDocDefaultParser extends AbstractApiDocObjectParser {
         if (Objects.isNull(objectInfoDescCache)) {
             //缓存没有 需要解析
             PsiClass psiClass = PsiUtil.resolveClassInType(psiType);
+            //跨上下文的缓存(例如批量生成文档时 多个接口的响应对象相同)
+            FuDocParseCache fuDocParseCache = null;
+            String cacheKey = null;
+            if (Objects.nonNull(psiClass) && FuDocParseCache.isCacheable(psiType, getFieldMockRealData(objectInfoDesc, parseObjectBO))) {
+                fuDocParseCache = FuDocParseCache.getInstance(psiClass.getProject());
+                cacheKey = FuDocParseCache.buildKey(canonicalText, parseObjectBO);
+                List<ObjectInfoDesc> childList = fuDocParseCache.get(cacheKey, fuDocContext);
+                if (Objects.nonNull(childList)) {
+                    paddingRootId(objectInfoDesc.getRootId(), childList);
+                    paddingChildList(objectInfoDesc, childList);
+                    //放入当前上下文 后续直接从上下文中获取
+                    fuDocContext.add(canonicalText, objectInfoDesc);
+                    fuDocContext.parseFinish(canonicalText);
+                    return objectInfoDesc;
+                }
+            }
             parseObjectBO.setGenericsMap(buildGenericsMap(psiType, psiClass));
             //添加到EarlyMap中（半成品对象）
             fuDocContext.add(canonicalText, objectInfoDesc);
+            fuDocContext.beginParse(canonicalText);
             //解析对象
             paddingChildList(objectInfoDesc, doParseDefaultObject(objectInfoDesc, parseObjectBO, psiType, psiClass));
             //当前对象解析完成 从earlyMap中移动到objectInfoDescMap中（从半成品变为成品）
             fuDocContext.parseFinish(canonicalText);
+            ParseFrameBO parseFrameBO = fuDocContext.finishParse(canonicalText);
+            if (Objects.nonNull(fuDocParseCache)) {
+                fuDocParseCache.put(cacheKey, objectInfoDesc.getChildList(), parseFrameBO);
+            }
         } else {
             //将缓存中之前解析的设置到当前对象中 直接返回 避免重复解析(此处直接返回也是为了避免循环引用)
-            List<ObjectInfoDesc> childList = ObjectUtils.listToList(objectInfoDescCache.getChildList(), data -> BeanUtil.copyProperties(data, ObjectInfoDesc.class));
-            paddingRootId(objectInfoDesc.getRootId(), childList);
+            //第一层字段需要拷贝(后续会按父级填充referenceDescId) 更深层的节点rootId相同时直接共享
+            Integer rootId = objectInfoDesc.getRootId();
+            List<ObjectInfoDesc> childList = ObjectUtils.listToList(objectInfoDescCache.getChildList(), data -> copyChild(rootId, data));
             paddingChildList(objectInfoDesc, childList);
         }
         return objectInfoDesc;
@@ -107,10 +130,10 @@ public class FuDocDefaultParser extends AbstractApiDocObjectParser {
         List<ObjectInfoDesc> childList = Lists.newArrayList();
         if (Objects.nonNull(psiType) && psiType.isValid() && PsiClassUtils.isClass(psiClass) && !CommonClassNames.JAVA_LANG_OBJECT.equals(psiClass.getQualifiedName())) {
             FuDocContext fuDocContext = parseObjectBO.getFuDocContext();
+            //记录当前类及父类所在文件 作为缓存失效的依据
+            fuDocContext.addDependency(FuDocParseCache.getDependency(psiClass));
             Set<String> filterFieldNames = getNeedFilterFieldNames(fuDocContext.getFilterMap(), psiClass);
-            MockRealData parentMockRealData = parseObjectBO.getMockRealData();
-            boolean isJson = Objects.nonNull(parentMockRealData) && parentMockRealData instanceof JsonRealDataHandler;
-            MockRealData mockRealData = isJson ? new JsonRealDataHandler(objectInfoDesc.getValue()) : parentMockRealData;
+            MockRealData mockRealData = getFieldMockRealData(objectInfoDesc, parseObjectBO);
             //遍历当前类的所有字段（包含父类）
             PsiField[] allFields = psiClass.getAllFields();
             for (PsiField psiField : allFields) {
@@ -130,6 +153,16 @@ public class FuDocDefaultParser extends AbstractApiDocObjectParser {
     }
 
 
+    /**
+     * 获取解析当前对象字段时使用的真实示例数据
+     */
+    private MockRealData getFieldMockRealData(ObjectInfoDesc objectInfoDesc, ParseObjectBO parseObjectBO) {
+        MockRealData parentMockRealData = parseObjectBO.getMockRealData();
+        boolean isJson = Objects.nonNull(parentMockRealData) && parentMockRealData instanceof JsonRealDataHandler;
+        return isJson ? new JsonRealDataHandler(objectInfoDesc.getValue()) : parentMockRealData;
+    }
+
+
     /**
      * 获取当前类中需要排除的字段集合（会遍历父类去查找父类需要过滤的字段）
      *
@@ -202,6 +235,57 @@ public class FuDocDefaultParser extends AbstractApiDocObjectParser {
     }
 
 
+    /**
+     * 复用已解析的字段集合(写时拷贝)
+     * 节点及其子节点的rootId与当前一致时直接共享该节点 否则只拷贝rootId不一致的节点 避免整棵树的拷贝
+     *
+     * @param rootId    当前根节点ID
+     * @param childList 已解析的字段集合
+     * @return 可以直接设置到当前对象的字段集合
+     */
+    private List<ObjectInfoDesc> shareChildList(Integer rootId, List<ObjectInfoDesc> childList) {
+        if (CollectionUtils.isEmpty(childList)) {
+            return childList;
+        }
+        List<ObjectInfoDesc> resultList = null;
+        for (int i = 0; i < childList.size(); i++) {
+            ObjectInfoDesc child = childList.get(i);
+            ObjectInfoDesc shared = shareChild(rootId, child);
+            if (shared != child && Objects.isNull(resultList)) {
+                resultList = new ArrayList<>(childList.subList(0, i));
+            }
+            if (Objects.nonNull(resultList)) {
+                resultList.add(shared);
+            }
+        }
+        return Objects.isNull(resultList) ? childList : resultList;
+    }
+
+    private ObjectInfoDesc copyChild(Integer rootId, ObjectInfoDesc child) {
+        if (Objects.isNull(child)) {
+            return null;
+        }
+        ObjectInfoDesc copy = child.copy();
+        copy.setRootId(rootId);
+        copy.setChildList(shareChildList(rootId, child.getChildList()));
+        return copy;
+    }
+
+    private ObjectInfoDesc shareChild(Integer rootId, ObjectInfoDesc child) {
+        if (Objects.isNull(child)) {
+            return null;
+        }
+        List<ObjectInfoDesc> childList = shareChildList(rootId, child.getChildList());
+        if (Objects.equals(rootId, child.getRootId()) && childList == child.getChildList()) {
+            return child;
+        }
+        ObjectInfoDesc copy = child.copy();
+        copy.setRootId(rootId);
+        copy.setChildList(childList);
+        return copy;
+    }
+
+
     private void paddingRootId(Integer rootId, List<ObjectInfoDesc> childList) {
         if (CollectionUtils.isNotEmpty(childList)) {
             for (ObjectInfoDesc objectInfoDesc : childList) {
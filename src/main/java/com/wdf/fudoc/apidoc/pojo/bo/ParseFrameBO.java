@@ -0,0 +1,43 @@
+package com.wdf.fudoc.apidoc.pojo.bo;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 一个对象的解析过程(记录解析该对象时读取过的文件 作为跨上下文缓存的失效依据)
+ *
+ * @author wangdingfu
+ * @date 2025-02-12 14:21:08
+ */
+@Getter
+@Setter
+public class ParseFrameBO {
+
+    /**
+     * 解析的对象类型
+     */
+    private final String key;
+
+    /**
+     * 解析过程中读取过的文件
+     * key: 文件 value: 读取时文件的修改标识
+     */
+    private final Map<VirtualFile, Long> dependencyMap = new LinkedHashMap<>();
+
+    /**
+     * 解析结果中引用了外层还未解析完成的对象(结果依赖当前上下文 不能跨上下文缓存)
+     */
+    private boolean early;
+
+    public ParseFrameBO(String key) {
+        this.key = key;
+    }
+
+    public void addDependency(Map<VirtualFile, Long> dependencyMap) {
+        this.dependencyMap.putAll(dependencyMap);
+    }
+}
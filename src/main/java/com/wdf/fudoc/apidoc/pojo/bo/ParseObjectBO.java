@@ -64,4 +64,20 @@ public class ParseObjectBO {
         this.fuDocContext = fuDocContext;
         this.mockRealData = mockRealData;
     }
+
+
+    /**
+     * 创建子级解析参数(子级对属性的修改不会影响到父级)
+     * 上下文和泛型map直接共享父级的 泛型map只会被整体替换 不会在原map上修改
+     *
+     * @return 子级解析参数
+     */
+    public ParseObjectBO fork() {
+        ParseObjectBO parseObjectBO = new ParseObjectBO(this.fuDocContext, this.mockRealData);
+        parseObjectBO.rootId = this.rootId;
+        parseObjectBO.fuDocField = this.fuDocField;
+        parseObjectBO.genericsMap = this.genericsMap;
+        parseObjectBO.paramType = this.paramType;
+        return parseObjectBO;
+    }
 }
@@ -1,8 +1,10 @@
 package com.wdf.fudoc.apidoc.pojo.context;
 
 import com.google.common.collect.Lists;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.wdf.fudoc.apidoc.pojo.bo.FilterFieldBO;
+import com.wdf.fudoc.apidoc.pojo.bo.ParseFrameBO;
 import com.wdf.fudoc.apidoc.config.EnumSettingConfig;
 import com.wdf.fudoc.common.constant.FuDocConstants;
 import com.wdf.fudoc.apidoc.data.CustomerSettingData;
@@ -93,6 +95,17 @@ public class FuDocContext {
      */
     private boolean isFuRequest;
 
+    /**
+     * 正在解析的对象栈(栈顶为当前正在解析的对象)
+     */
+    private transient Deque<ParseFrameBO> parseFrameStack = new ArrayDeque<>();
+
+    /**
+     * 已解析完成的对象的解析过程
+     * key: 参数对象全路径
+     */
+    private transient Map<String, ParseFrameBO> parseFrameMap = new HashMap<>();
+
 
     public void setSettingData(SettingData settingData) {
         this.settingData = settingData;
@@ -157,12 +170,67 @@ public class FuDocContext {
                 objectInfoDesc.addExtInfo(FuDocConstants.ExtInfo.IS_EARLY, true);
                 //构造引用对象返回
                 objectInfoDesc.setChildList(Lists.newArrayList(ObjectInfoDescFactory.buildReference()));
+                markEarly(key);
+            }
+        } else {
+            //复用已解析完成的对象 该对象的依赖也是当前解析对象的依赖
+            ParseFrameBO parseFrameBO = this.parseFrameMap.get(key);
+            if (Objects.nonNull(parseFrameBO)) {
+                addDependency(parseFrameBO.getDependencyMap());
+                if (parseFrameBO.isEarly()) {
+                    this.parseFrameStack.forEach(frame -> frame.setEarly(true));
+                }
             }
         }
         return objectInfoDesc;
     }
 
 
+    /**
+     * 开始解析一个对象
+     *
+     * @param key 参数对象全路径
+     */
+    public void beginParse(String key) {
+        this.parseFrameStack.push(new ParseFrameBO(key));
+    }
+
+    /**
+     * 对象解析完成 该对象的依赖合并到外层正在解析的对象中
+     *
+     * @param key 参数对象全路径
+     * @return 该对象的解析过程
+     */
+    public ParseFrameBO finishParse(String key) {
+        ParseFrameBO parseFrameBO = this.parseFrameStack.pop();
+        this.parseFrameMap.put(key, parseFrameBO);
+        addDependency(parseFrameBO.getDependencyMap());
+        return parseFrameBO;
+    }
+
+    /**
+     * 当前正在解析的对象依赖了指定文件
+     */
+    public void addDependency(Map<VirtualFile, Long> dependencyMap) {
+        ParseFrameBO parseFrameBO = this.parseFrameStack.peek();
+        if (Objects.nonNull(parseFrameBO) && Objects.nonNull(dependencyMap)) {
+            parseFrameBO.addDependency(dependencyMap);
+        }
+    }
+
+    /**
+     * 引用了外层还未解析完成的对象 从栈顶到该对象之间的对象解析结果都依赖当前上下文
+     */
+    private void markEarly(String key) {
+        for (ParseFrameBO parseFrameBO : this.parseFrameStack) {
+            if (parseFrameBO.getKey().equals(key)) {
+                break;
+            }
+            parseFrameBO.setEarly(true);
+        }
+    }
+
+
     public ObjectInfoDesc getObjectInfoDesc(String key) {
         if (Objects.nonNull(objectInfoDescMap)) {
             return objectInfoDescMap.get(key);
@@ -44,6 +44,11 @@ public class FuDocParamData {
      */
     private String childParamType;
 
+    /**
+     * 参数在代码中的完整类型(例如 com.xx.Result<com.xx.UserVO>)
+     */
+    private String canonicalType;
+
     /**
      * 是否必填
      */
@@ -1,8 +1,10 @@
 package com.wdf.fudoc.apidoc.pojo.desc;
 
+import cn.hutool.core.convert.Convert;
 import cn.hutool.json.JSONObject;
 import com.wdf.fudoc.apidoc.constant.enumtype.FuDocObjectType;
 import com.wdf.fudoc.common.constant.FuDocConstants;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -68,25 +70,72 @@ public class ObjectInfoDesc extends BaseInfoDesc {
     private List<ObjectInfoDesc> childList;
 
     /**
-     * 扩展属性
+     * 扩展属性中的布尔标识(每一位对应一个标识 见{@link #flagIndex(String)})
      */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int flags;
+
+    /**
+     * 参数类型(扩展属性{@link FuDocConstants.ExtInfo#PARAM_TYPE})
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String codeParamType;
+
+    /**
+     * 引用的父级对象ID(扩展属性{@link FuDocConstants.ExtInfo#REFERENCE_DESC_ID})
+     */
+    private Integer referenceDescId;
+
+    /**
+     * 其他扩展属性(没有单独存储的属性)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private JSONObject extInfo;
 
 
     @Override
     public String getParamType() {
-        return getValue(FuDocConstants.ExtInfo.PARAM_TYPE, String.class);
+        return this.codeParamType;
     }
 
     public void addExtInfo(String name, Object value) {
-        if (Objects.isNull(this.extInfo)) {
-            this.extInfo = new JSONObject();
+        if (Objects.isNull(name) || Objects.isNull(value)) {
+            return;
+        }
+        int flagIndex = flagIndex(name);
+        if (flagIndex >= 0) {
+            boolean flag = value instanceof Boolean booleanValue ? booleanValue : Boolean.parseBoolean(value.toString());
+            this.flags = flag ? this.flags | (1 << flagIndex) : this.flags & ~(1 << flagIndex);
+        } else if (FuDocConstants.ExtInfo.PARAM_TYPE.equals(name)) {
+            this.codeParamType = value.toString();
+        } else if (FuDocConstants.ExtInfo.REFERENCE_DESC_ID.equals(name)) {
+            this.referenceDescId = Convert.toInt(value);
+        } else {
+            if (Objects.isNull(this.extInfo)) {
+                this.extInfo = new JSONObject();
+            }
+            this.extInfo.putOpt(name, value);
         }
-        this.extInfo.putOpt(name, value);
     }
 
 
     public <T> T getValue(String name, Class<T> clazz) {
+        if (Objects.isNull(name)) {
+            return null;
+        }
+        int flagIndex = flagIndex(name);
+        if (flagIndex >= 0) {
+            return Convert.convert(clazz, (this.flags & (1 << flagIndex)) != 0);
+        }
+        if (FuDocConstants.ExtInfo.PARAM_TYPE.equals(name)) {
+            return Convert.convert(clazz, this.codeParamType);
+        }
+        if (FuDocConstants.ExtInfo.REFERENCE_DESC_ID.equals(name)) {
+            return Convert.convert(clazz, this.referenceDescId);
+        }
         if (Objects.isNull(this.extInfo)) {
             return null;
         }
@@ -94,8 +143,97 @@ public class ObjectInfoDesc extends BaseInfoDesc {
     }
 
     public boolean getBooleanValue(String name) {
+        int flagIndex = flagIndex(name);
+        if (flagIndex >= 0) {
+            return (this.flags & (1 << flagIndex)) != 0;
+        }
         Boolean value = getValue(name, boolean.class);
         return !Objects.isNull(value) && value;
     }
 
+
+    /**
+     * 获取全部扩展属性(兼容之前的JSONObject结构 提供给模板及脚本使用 每次调用都会重新构建)
+     */
+    public JSONObject getExtInfo() {
+        JSONObject jsonObject = new JSONObject();
+        for (int i = 0; i < FLAG_NAMES.length; i++) {
+            if ((this.flags & (1 << i)) != 0) {
+                jsonObject.set(FLAG_NAMES[i], true);
+            }
+        }
+        jsonObject.putOpt(FuDocConstants.ExtInfo.PARAM_TYPE, this.codeParamType);
+        jsonObject.putOpt(FuDocConstants.ExtInfo.REFERENCE_DESC_ID, this.referenceDescId);
+        if (Objects.nonNull(this.extInfo)) {
+            jsonObject.putAll(this.extInfo);
+        }
+        return jsonObject;
+    }
+
+    public void setExtInfo(JSONObject extInfo) {
+        this.flags = 0;
+        this.codeParamType = null;
+        this.referenceDescId = null;
+        this.extInfo = null;
+        if (Objects.nonNull(extInfo)) {
+            extInfo.forEach(this::addExtInfo);
+        }
+    }
+
+
+    /**
+     * 浅拷贝当前节点(子节点集合与当前节点共享)
+     */
+    public ObjectInfoDesc copy() {
+        ObjectInfoDesc target = new ObjectInfoDesc();
+        target.setAnnotationDataMap(getAnnotationDataMap());
+        target.setCommentData(getCommentData());
+        target.rootId = this.rootId;
+        target.descId = this.descId;
+        target.fuDocObjectType = this.fuDocObjectType;
+        target.type = this.type;
+        target.typeView = this.typeView;
+        target.childTypeView = this.childTypeView;
+        target.name = this.name;
+        target.docText = this.docText;
+        target.value = this.value;
+        target.childList = this.childList;
+        target.flags = this.flags;
+        target.codeParamType = this.codeParamType;
+        target.referenceDescId = this.referenceDescId;
+        if (Objects.nonNull(this.extInfo)) {
+            target.extInfo = new JSONObject();
+            target.extInfo.putAll(this.extInfo);
+        }
+        return target;
+    }
+
+
+    /**
+     * 获取布尔标识在flags中的位置
+     *
+     * @param name 扩展属性名称
+     * @return 不是布尔标识时返回-1
+     */
+    private static int flagIndex(String name) {
+        for (int i = 0; i < FLAG_NAMES.length; i++) {
+            if (FLAG_NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 使用flags存储的布尔标识 数组下标即为在flags中的位置
+     */
+    private static final String[] FLAG_NAMES = {
+            FuDocConstants.ExtInfo.IS_ATTR,
+            FuDocConstants.ExtInfo.ROOT_OBJECT,
+            FuDocConstants.ExtInfo.ROOT,
+            FuDocConstants.ExtInfo.IS_EARLY,
+            FuDocConstants.ModifierProperty.STATIC,
+            FuDocConstants.ModifierProperty.FINAL
+    };
+
 }
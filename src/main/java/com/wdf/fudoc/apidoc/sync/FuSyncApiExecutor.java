@@ -0,0 +1,211 @@
+package com.wdf.fudoc.apidoc.sync;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.RandomUtil;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.apidoc.sync.dto.SyncApiResultDTO;
+import com.wdf.fudoc.util.FuStringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 并行同步接口至第三方接口文档系统(针对只能一次同步一个接口的文档系统 例如YApi ShowDoc等)
+ * <p>
+ * 同一个接口文档系统地址共用一个线程池 同时发起的同步请求数不超过配置的并发数
+ * 网络异常(连接超时 读取超时等)时按指数退避加随机抖动重试 业务异常不重试
+ *
+ * @author wangdingfu
+ * @date 2025-02-27 10:16:48
+ */
+@Slf4j
+public class FuSyncApiExecutor {
+
+    /**
+     * 最大并发数
+     */
+    private static final int MAX_CONCURRENCY = 16;
+
+    /**
+     * 最多尝试次数(包含第一次请求)
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * 第一次重试的等待时间(单位:ms) 之后每次翻倍
+     */
+    private static final long BASE_DELAY = 500;
+
+    /**
+     * 最长等待时间(单位:ms)
+     */
+    private static final long MAX_DELAY = 5000;
+
+    /**
+     * key:接口文档系统地址 value:该地址的线程池
+     */
+    private static final Map<String, ServerExecutor> EXECUTOR_MAP = new ConcurrentHashMap<>();
+
+
+    /**
+     * 单个接口的同步任务
+     */
+    public interface SyncTask {
+
+        /**
+         * 发起同步(在后台线程中执行)
+         *
+         * @param indicator 取消后不再重试
+         * @return 同步结果
+         */
+        SyncApiResultDTO sync(ProgressIndicator indicator);
+
+        /**
+         * 同步被取消时的结果
+         *
+         * @return 同步结果
+         */
+        SyncApiResultDTO cancel();
+    }
+
+
+    /**
+     * 单个接口同步完成监听
+     */
+    public interface SyncListener {
+
+        /**
+         * 接口同步完成(在后台线程中回调)
+         *
+         * @param index  接口在任务列表中的位置
+         * @param result 同步结果
+         */
+        void onFinish(int index, SyncApiResultDTO result);
+    }
+
+
+    /**
+     * 并行执行同步任务(需要在后台线程中调用)
+     *
+     * @param baseUrl     接口文档系统地址
+     * @param concurrency 并发数
+     * @param taskList    同步任务
+     * @param listener    单个接口同步完成监听
+     * @param indicator   取消后不再发起新的同步
+     * @return 同步结果(与任务列表顺序一致)
+     */
+    public static List<SyncApiResultDTO> execute(String baseUrl, int concurrency, List<SyncTask> taskList, SyncListener listener, ProgressIndicator indicator) {
+        SyncApiResultDTO[] results = new SyncApiResultDTO[taskList.size()];
+        ExecutorService executor = getExecutor(baseUrl, concurrency);
+        CountDownLatch latch = new CountDownLatch(taskList.size());
+        for (int index = 0; index < taskList.size(); index++) {
+            int current = index;
+            executor.execute(() -> {
+                try {
+                    SyncTask syncTask = taskList.get(current);
+                    SyncApiResultDTO result = indicator.isCanceled() ? syncTask.cancel() : syncTask.sync(indicator);
+                    results[current] = result;
+                    listener.onFinish(current, result);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            //正在进行的同步受请求超时时间限制 取消后排队中的任务会立即结束
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int index = 0; index < results.length; index++) {
+            if (Objects.isNull(results[index])) {
+                results[index] = taskList.get(index).cancel();
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+
+    /**
+     * 发起请求 网络异常时等待一段时间后重试
+     *
+     * @param callable  请求
+     * @param indicator 取消后不再重试
+     * @return 请求结果
+     * @throws Exception 业务异常或者重试后仍然失败的异常
+     */
+    public static <T> T retry(Callable<T> callable, ProgressIndicator indicator) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                if (attempt >= MAX_ATTEMPTS || !isTransient(e) || indicator.isCanceled()) {
+                    throw e;
+                }
+                long delay = backoff(attempt);
+                log.info("同步接口网络异常 {}ms后第{}次重试: {}", delay, attempt, e.getMessage());
+                Thread.sleep(delay);
+                if (indicator.isCanceled()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 第n次重试的等待时间 在[上限/2, 上限]之间随机 避免同时失败的请求同时重试
+     */
+    private static long backoff(int attempt) {
+        long cap = Math.min(MAX_DELAY, BASE_DELAY << (attempt - 1));
+        return cap / 2 + RandomUtil.randomLong(cap / 2 + 1);
+    }
+
+
+    /**
+     * 是否是可以重试的网络异常(域名无法解析时重试也不会成功)
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof UnknownHostException) {
+                return false;
+            }
+            if (cause instanceof IOException || cause instanceof IORuntimeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static ExecutorService getExecutor(String baseUrl, int concurrency) {
+        int maxThreads = Math.max(1, Math.min(MAX_CONCURRENCY, concurrency));
+        String key = FuStringUtils.isBlank(baseUrl) ? FuStringUtils.EMPTY : baseUrl.trim();
+        //并发数被修改后重新创建 之前提交的任务仍在原线程池中执行
+        return EXECUTOR_MAP.compute(key, (k, v) -> Objects.nonNull(v) && v.concurrency == maxThreads ? v
+                : new ServerExecutor(maxThreads, AppExecutorUtil.createBoundedApplicationPoolExecutor("Fu Doc Sync " + k, maxThreads))).executor;
+    }
+
+
+    private static class ServerExecutor {
+
+        private final int concurrency;
+
+        private final ExecutorService executor;
+
+        private ServerExecutor(int concurrency, ExecutorService executor) {
+            this.concurrency = concurrency;
+            this.executor = executor;
+        }
+    }
+}
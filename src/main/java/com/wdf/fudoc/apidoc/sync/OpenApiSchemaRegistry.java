@@ -0,0 +1,163 @@
+package com.wdf.fudoc.apidoc.sync;
+
+import cn.fudoc.common.util.JsonUtil;
+import com.wdf.fudoc.apidoc.sync.dto.OpenApiSchema;
+import com.wdf.fudoc.apidoc.sync.dto.YApiJsonSchema;
+import com.wdf.fudoc.util.FuStringUtils;
+import org.apache.commons.collections.MapUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * openApi文档中共用的对象schema
+ * <p>
+ * 同一个类型的对象只在components.schemas中保存一份 接口中通过$ref引用
+ * 同一个类型展开后的结构不一致时(例如递归对象被截断) 按不同的schema分别保存
+ *
+ * @author wangdingfu
+ * @date 2025-02-27 15:20:11
+ */
+public class OpenApiSchemaRegistry {
+
+    private static final String REF_PREFIX = "#/components/schemas/";
+
+    /**
+     * key:schema名称 value:对象的schema
+     */
+    private final Map<String, OpenApiSchema> schemaMap = new HashMap<>();
+
+    /**
+     * key:完整类型+schema内容 value:schema名称
+     */
+    private final Map<String, String> contentNameMap = new HashMap<>();
+
+    /**
+     * 当前接口引用的schema名称
+     */
+    private final Set<String> refNames = new LinkedHashSet<>();
+
+
+    /**
+     * 开始构建一个新的接口(重新记录引用的schema)
+     */
+    public void begin() {
+        this.refNames.clear();
+    }
+
+
+    /**
+     * 获取当前接口引用的schema名称(包含被引用对象中引用的schema)
+     */
+    public Set<String> getRefNames() {
+        return new LinkedHashSet<>(this.refNames);
+    }
+
+
+    /**
+     * 获取指定的schema
+     *
+     * @param names schema名称
+     * @return key:schema名称 value:对象的schema(按名称排序)
+     */
+    public Map<String, OpenApiSchema> getSchemas(Collection<String> names) {
+        Map<String, OpenApiSchema> schemas = new TreeMap<>();
+        names.forEach(name -> schemas.put(name, this.schemaMap.get(name)));
+        return schemas;
+    }
+
+
+    /**
+     * 获取所有已保存的schema
+     *
+     * @return key:schema名称 value:对象的schema(按名称排序)
+     */
+    public Map<String, OpenApiSchema> getAllSchemas() {
+        return new TreeMap<>(this.schemaMap);
+    }
+
+
+    /**
+     * 将对象的schema保存到components中 返回引用该schema的节点
+     *
+     * @param canonicalType 对象的完整类型
+     * @param schema        对象的schema
+     * @return 引用节点 没有类型或者没有属性时返回原schema
+     */
+    public YApiJsonSchema ref(String canonicalType, YApiJsonSchema schema) {
+        if (FuStringUtils.isBlank(canonicalType) || Objects.isNull(schema) || MapUtils.isEmpty(schema.getProperties())) {
+            return schema;
+        }
+        //字段描述属于引用方 不保存在共用的schema中
+        OpenApiSchema component = new OpenApiSchema();
+        component.setType(schema.getType());
+        component.setRequired(schema.getRequired());
+        component.setProperties(schema.getProperties());
+        String name = this.contentNameMap.computeIfAbsent(canonicalType + "\u0000" + JsonUtil.toJson(component), key -> {
+            String schemaName = uniqueName(canonicalType);
+            this.schemaMap.put(schemaName, component);
+            return schemaName;
+        });
+        this.refNames.add(name);
+        OpenApiSchema ref = new OpenApiSchema();
+        ref.setRef(REF_PREFIX + name);
+        ref.setDescription(schema.getDescription());
+        return ref;
+    }
+
+
+    /**
+     * 数组或集合的元素类型
+     *
+     * @param canonicalType 数组或集合的完整类型(例如 java.util.List<com.xx.UserVO>)
+     * @return 元素的完整类型 无法确定时返回null
+     */
+    public static String elementType(String canonicalType) {
+        if (FuStringUtils.isBlank(canonicalType)) {
+            return null;
+        }
+        if (canonicalType.endsWith("[]")) {
+            return canonicalType.substring(0, canonicalType.length() - 2);
+        }
+        int start = canonicalType.indexOf('<');
+        if (start < 0 || !canonicalType.endsWith(">")) {
+            return null;
+        }
+        String generic = canonicalType.substring(start + 1, canonicalType.length() - 1);
+        int depth = 0;
+        for (char c : generic.toCharArray()) {
+            if (c == '<') {
+                depth++;
+            } else if (c == '>') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                //多个泛型参数(例如Map) 无法确定元素类型
+                return null;
+            }
+        }
+        return generic.trim();
+    }
+
+
+    /**
+     * 根据类型生成schema名称 例如 com.xx.Result<com.xx.UserVO> -> Result_UserVO
+     */
+    private String uniqueName(String canonicalType) {
+        String name = canonicalType.replaceAll("[\\w$]+\\.", "")
+                .replaceAll("[^A-Za-z0-9.\\-_]+", "_")
+                .replaceAll("^_+|_+$", "");
+        if (FuStringUtils.isBlank(name)) {
+            name = "Object";
+        }
+        String uniqueName = name;
+        for (int index = 2; this.schemaMap.containsKey(uniqueName); index++) {
+            uniqueName = name + "_" + index;
+        }
+        return uniqueName;
+    }
+}
@@ -37,6 +37,16 @@ public abstract class BaseSyncConfigData implements Serializable {
      */
     protected boolean autoGenCategory;
 
+    /**
+     * 同时向该接口文档系统发起的同步请求数
+     */
+    protected int syncConcurrency = 4;
+
+    /**
+     * 增量同步 批量同步时只同步内容有变更的接口(默认关闭 清除同步记录后会全部重新同步)
+     */
+    protected boolean incrementalSync;
+
     /**
      * 所有项目下接口的同步记录
      * key:项目路径 value：项目同步记录
@@ -44,4 +44,14 @@ public class SyncApiRecordData implements Serializable {
      * 同步时间
      */
     private String syncTime;
+
+    /**
+     * 第三方接口文档系统中的文档id
+     */
+    private String apiId;
+
+    /**
+     * 同步内容的摘要 内容不变时增量同步会跳过该接口
+     */
+    private String contentHash;
 }
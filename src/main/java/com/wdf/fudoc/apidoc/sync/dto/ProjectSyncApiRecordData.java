@@ -45,6 +45,18 @@ public class ProjectSyncApiRecordData implements Serializable {
         return Objects.nonNull(recordData) && Objects.nonNull(recordData.getCategory()) && FuStringUtils.isNotBlank(recordData.getProjectName()) && FuStringUtils.isNotBlank(recordData.getProjectId());
     }
 
+    /**
+     * 接口上次同步的内容是否与本次相同
+     *
+     * @param url         接口地址
+     * @param contentHash 本次同步内容的摘要
+     * @return true 内容未变更
+     */
+    public boolean isUnchanged(String url, String contentHash) {
+        SyncApiRecordData recordData = syncApiRecordMap.get(url);
+        return Objects.nonNull(recordData) && FuStringUtils.isNotBlank(contentHash) && contentHash.equals(recordData.getContentHash());
+    }
+
     /**
      * 根据接口地址获取该接口的同步记录
      *
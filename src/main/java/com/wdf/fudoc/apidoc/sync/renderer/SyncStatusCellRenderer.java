@@ -25,6 +25,7 @@ public class SyncStatusCellRenderer extends DefaultTableCellRenderer {
             switch (syncStatus) {
                 case SUCCESS -> c.setForeground(JBColor.GREEN);
                 case FAIL -> c.setForeground(JBColor.RED);
+                case SKIP -> c.setForeground(JBColor.GRAY);
             }
         }
         return c;
@@ -1,5 +1,6 @@
 package com.wdf.fudoc.apidoc.sync.service;
 
+import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.util.URLUtil;
 import cn.hutool.http.HttpRequest;
 import cn.hutool.http.HttpUtil;
@@ -40,6 +41,9 @@ public class ShowDocServiceImpl implements ShowDocService {
             }
             String message = showDocResult.getMessage();
             return FuStringUtils.isBlank(message) ? "同步文档至ShowDoc异常" : message;
+        } catch (IORuntimeException e) {
+            //网络异常交给调用方决定是否重试
+            throw e;
         } catch (Exception e) {
             log.error("同步文档至ShowDoc异常", e);
             return "同步文档至ShowDoc异常";
@@ -1,20 +1,28 @@
 package com.wdf.fudoc.apidoc.sync.strategy;
 
+import cn.hutool.core.date.DateUtil;
 import com.google.common.collect.Lists;
 import com.intellij.notification.NotificationType;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.wdf.fudoc.apidoc.config.configurable.FuDocSyncSettingConfigurable;
 import com.wdf.fudoc.apidoc.constant.enumtype.ApiSyncStatus;
+import com.wdf.fudoc.apidoc.constant.enumtype.ContentType;
 import com.wdf.fudoc.apidoc.pojo.context.FuDocContext;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.apidoc.pojo.data.FuDocParamData;
+import com.wdf.fudoc.apidoc.sync.FuSyncApiExecutor;
 import com.wdf.fudoc.apidoc.sync.data.BaseSyncConfigData;
+import com.wdf.fudoc.apidoc.sync.data.SyncApiRecordData;
 import com.wdf.fudoc.apidoc.sync.dto.ApiCategoryDTO;
 import com.wdf.fudoc.apidoc.sync.dto.ApiProjectDTO;
 import com.wdf.fudoc.apidoc.sync.dto.ProjectSyncApiRecordData;
 import com.wdf.fudoc.apidoc.sync.dto.SyncApiResultDTO;
+import com.wdf.fudoc.apidoc.view.dialog.SyncApiProgressDialog;
 import cn.fudoc.common.base.FuBundle;
 import cn.fudoc.common.listener.FuDocActionListener;
 import cn.fudoc.common.constants.MessageConstants;
@@ -25,8 +33,11 @@ import com.wdf.fudoc.components.factory.FuTableColumnFactory;
 import com.wdf.fudoc.components.listener.FuTableDisableListener;
 import com.wdf.fudoc.util.FuDocViewUtils;
 import com.wdf.fudoc.util.GenFuDocUtils;
+import com.wdf.fudoc.util.ObjectUtils;
+import cn.fudoc.common.util.JsonUtil;
 import cn.fudoc.common.util.ProjectUtils;
 import com.wdf.fudoc.util.ShowSettingUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.CollectionUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
@@ -34,6 +45,7 @@ import javax.swing.*;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +55,8 @@ import java.util.stream.Collectors;
 public abstract class AbstractSyncApiStrategy implements SyncFuDocStrategy {
     private static final String NOT_SYNC_API = FuBundle.message(MessageConstants.NOT_SYNC_API);
 
+    protected static final String SYNC_CANCEL_MSG = "同步已停止";
+
     /**
      * 检查配置
      *
@@ -173,38 +187,77 @@ public abstract class AbstractSyncApiStrategy implements SyncFuDocStrategy {
         String apiSystem = configData.getApiSystem().getCode();
         List<SyncApiResultDTO> successList = resultDTOList.stream().filter(a -> ApiSyncStatus.SUCCESS.getMessage().equals(a.getSyncStatus())).toList();
         List<SyncApiResultDTO> faileList = resultDTOList.stream().filter(a -> ApiSyncStatus.FAIL.getMessage().equals(a.getSyncStatus())).collect(Collectors.toList());
+        List<SyncApiResultDTO> skipList = resultDTOList.stream().filter(a -> ApiSyncStatus.SKIP.getMessage().equals(a.getSyncStatus())).toList();
         FuTableComponent<SyncApiResultDTO> tableComponent = FuTableComponent.create(FuTableColumnFactory.syncApiResult(CollectionUtils.isNotEmpty(faileList)), resultDTOList, SyncApiResultDTO.class);
         tableComponent.addListener(new FuTableDisableListener<>());
         String title = "同步接口至" + apiSystem + "记录列表";
         JPanel showPanel = FuDocViewUtils.createPanel(title, tableComponent.createMainPanel());
         AtomicBoolean pinStatus = FuDocViewUtils.getPinStatus(title);
-        SyncApiResultDTO resultDTO = resultDTOList.get(0);
-        if (successList.size() == syncApiSize) {
+        if (skipList.size() == syncApiSize) {
+            //内容均未变更 增量同步全部跳过
+            String message = "本次" + syncApiSize + "个接口内容均未变更 已跳过同步";
+            FuDocNotification.notifySyncApiResult(NotificationType.INFORMATION, message, apiSystem, configData.getApiDocUrl(skipList.get(0)), showPanel, pinStatus);
+            return;
+        }
+        //内容有变更 实际发起同步的接口数量
+        int changedSize = syncApiSize - skipList.size();
+        String skipTip = skipList.isEmpty() ? FuStringUtils.EMPTY : "(" + skipList.size() + "个接口内容未变更 已跳过)";
+        SyncApiResultDTO resultDTO = resultDTOList.stream().filter(a -> !ApiSyncStatus.SKIP.getMessage().equals(a.getSyncStatus())).findFirst().orElse(resultDTOList.get(0));
+        if (successList.size() == changedSize) {
             String apiDocUrl = configData.getApiDocUrl(resultDTO);
             //全部同步成功情况
-            if (syncApiSize == 1) {
+            if (changedSize == 1) {
                 //成功同步{0}接口到{0}分类下
-                String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_ONE, resultDTO.getApiName(), resultDTO.getCategoryName());
+                String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_ONE, resultDTO.getApiName(), resultDTO.getCategoryName()) + skipTip;
                 FuDocNotification.notifySyncApiResult(NotificationType.INFORMATION, message, apiSystem, apiDocUrl, showPanel, pinStatus);
                 return;
             }
             //本次共计成功同步{0}个接口到{0}分类下
-            String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_ALL, syncApiSize, resultDTO.getCategoryName());
+            String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_ALL, changedSize, resultDTO.getCategoryName()) + skipTip;
             FuDocNotification.notifySyncApiResult(NotificationType.INFORMATION, message, apiSystem, apiDocUrl, showPanel, pinStatus);
             return;
         }
-        if (faileList.size() == syncApiSize) {
+        if (faileList.size() == changedSize) {
             //全部同步失败情况 - 同步接口失败 失败原因:{0}
-            String message = FuBundle.message(MessageConstants.SYNC_API_FAILED_ALL, FuStringUtils.isNotBlank(resultDTO.getErrorMsg()) ? resultDTO.getErrorMsg() : "未知异常");
+            String message = FuBundle.message(MessageConstants.SYNC_API_FAILED_ALL, FuStringUtils.isNotBlank(resultDTO.getErrorMsg()) ? resultDTO.getErrorMsg() : "未知异常") + skipTip;
             FuDocNotification.notifySyncApiResult(NotificationType.ERROR, message, apiSystem, configData.getApiDocUrl(resultDTO), showPanel, pinStatus);
             return;
         }
         //部分成功 部分失败 - 本次成功同步{0}个接口到{1}分类下 同步失败{2}个接口
         SyncApiResultDTO successResultDTO = successList.get(0);
-        String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_FAILED, successList.size(), successResultDTO.getCategoryName(), faileList.size());
+        String message = FuBundle.message(MessageConstants.SYNC_API_SUCCESS_FAILED, successList.size(), successResultDTO.getCategoryName(), faileList.size()) + skipTip;
         FuDocNotification.notifySyncApiResult(NotificationType.WARNING, message, apiSystem, configData.getApiDocUrl(successResultDTO), showPanel, pinStatus);
     }
 
+    /**
+     * 并行发起同步(每次请求第三方文档系统只同步一个接口)
+     * 在界面线程中发起且同步多个接口时 弹框展示同步进度
+     *
+     * @param configData 配置数据
+     * @param taskList   每个接口的同步任务
+     * @return 同步结果(与任务顺序一致)
+     */
+    protected List<SyncApiResultDTO> parallelSyncApi(BaseSyncConfigData configData, List<FuSyncApiExecutor.SyncTask> taskList) {
+        if (!ApplicationManager.getApplication().isDispatchThread() || taskList.size() < 2) {
+            return FuSyncApiExecutor.execute(configData.getBaseUrl(), configData.getSyncConcurrency(), taskList, (index, result) -> {
+            }, new EmptyProgressIndicator());
+        }
+        SyncApiProgressDialog dialog = new SyncApiProgressDialog(ProjectUtils.getCurrProject(), configData.getApiSystem().getCode(), taskList.size());
+        AtomicReference<List<SyncApiResultDTO>> resultRef = new AtomicReference<>();
+        AppExecutorUtil.getAppExecutorService().execute(() -> {
+            try {
+                resultRef.set(FuSyncApiExecutor.execute(configData.getBaseUrl(), configData.getSyncConcurrency(), taskList,
+                        (index, result) -> dialog.addResult(result), dialog.getIndicator()));
+            } finally {
+                dialog.finish();
+            }
+        });
+        //同步结束后弹框自动关闭
+        dialog.show();
+        List<SyncApiResultDTO> resultList = resultRef.get();
+        return Objects.isNull(resultList) ? taskList.stream().map(FuSyncApiExecutor.SyncTask::cancel).collect(Collectors.toList()) : resultList;
+    }
+
     private ProjectSyncApiRecordData initProjectRecord(BaseSyncConfigData configData, ApiProjectDTO apiProjectDTO, ProjectSyncApiRecordData recordData) {
         if (Objects.isNull(recordData)) {
             recordData = new ProjectSyncApiRecordData();
@@ -228,6 +281,73 @@ public abstract class AbstractSyncApiStrategy implements SyncFuDocStrategy {
     }
 
 
+    /**
+     * 计算接口内容的摘要
+     * <p>
+     * 只包含接口定义(请求方式 地址 标题 描述 分类 参数名称 类型 是否必填 参数描述)
+     * 不包含示例数据和渲染后的文档(示例中的mock数据每次生成都不同)
+     *
+     * @param fuDocItemData 接口文档
+     * @param apiProjectDTO 同步的项目
+     * @param category      同步的分类
+     * @return 摘要 接口定义不变时摘要不变
+     */
+    protected String contentHash(FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, String category) {
+        if (Objects.isNull(fuDocItemData)) {
+            return FuStringUtils.EMPTY;
+        }
+        ContentType contentType = fuDocItemData.getContentType();
+        List<Object> content = Lists.newArrayList(apiProjectDTO.getProjectId(), fuDocItemData.getRequestType(), fuDocItemData.getUrlList(),
+                Objects.isNull(contentType) ? null : contentType.getType(), fuDocItemData.getTitle(), fuDocItemData.getDetailInfo(), category,
+                canonicalParams(fuDocItemData.getRequestParams()), canonicalParams(fuDocItemData.getResponseParams()));
+        return DigestUtils.md5Hex(JsonUtil.toJson(content));
+    }
+
+
+    private List<List<String>> canonicalParams(List<FuDocParamData> paramDataList) {
+        if (CollectionUtils.isEmpty(paramDataList)) {
+            return Lists.newArrayList();
+        }
+        return ObjectUtils.listToList(paramDataList, f -> Lists.newArrayList(f.getParamNo(), f.getParentParamNo(), f.getParamName(), f.getParamType(), f.getParamRequire(), f.getParamDesc()));
+    }
+
+
+    /**
+     * 是否跳过内容未变更的接口
+     *
+     * @param configData        配置数据
+     * @param fuDocItemDataList 本次同步的接口
+     * @return true: 跳过 明确同步单个接口时始终同步
+     */
+    protected boolean isIncrementalSync(BaseSyncConfigData configData, List<FuDocItemData> fuDocItemDataList) {
+        return configData.isIncrementalSync() && CollectionUtils.size(fuDocItemDataList) > 1;
+    }
+
+
+    /**
+     * 构建同步记录
+     *
+     * @param fuDocItemData  接口文档
+     * @param apiProjectDTO  同步的项目
+     * @param apiCategoryDTO 同步的分类
+     * @param apiId          第三方接口文档系统中的文档id
+     * @param contentHash    同步内容的摘要
+     * @return 同步记录
+     */
+    protected SyncApiRecordData buildApiSyncRecord(FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO, String apiId, String contentHash) {
+        SyncApiRecordData record = new SyncApiRecordData();
+        record.setProjectId(apiProjectDTO.getProjectId());
+        record.setProjectName(apiProjectDTO.getProjectName());
+        record.setProjectToken(apiProjectDTO.getProjectToken());
+        record.setCategory(apiCategoryDTO);
+        record.setSyncTime(DateUtil.now());
+        record.setApiUrl(fuDocItemData.getUrlList().get(0));
+        record.setApiId(apiId);
+        record.setContentHash(contentHash);
+        return record;
+    }
+
+
     protected String recursionPath(ApiCategoryDTO apiCategoryDTO) {
         if (Objects.isNull(apiCategoryDTO) || Objects.isNull(apiCategoryDTO.getParent())) {
             return FuStringUtils.EMPTY;
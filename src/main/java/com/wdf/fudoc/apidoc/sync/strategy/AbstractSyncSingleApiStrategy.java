@@ -1,13 +1,13 @@
 package com.wdf.fudoc.apidoc.sync.strategy;
 
-import cn.hutool.core.date.DateUtil;
-import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.psi.PsiClass;
 import com.wdf.fudoc.apidoc.constant.enumtype.ApiSyncStatus;
 import com.wdf.fudoc.apidoc.helper.DocCommentParseHelper;
 import com.wdf.fudoc.apidoc.pojo.data.ApiDocCommentData;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.apidoc.sync.FuSyncApiExecutor;
 import com.wdf.fudoc.apidoc.sync.data.BaseSyncConfigData;
 import com.wdf.fudoc.apidoc.sync.data.SyncApiRecordData;
 import com.wdf.fudoc.apidoc.sync.dto.ApiCategoryDTO;
@@ -26,20 +26,30 @@ import java.util.stream.Collectors;
 /**
  * 同步接口文档至第三方接口文档系统抽象类（每次请求第三方文档系统只同步一个api 多个api需要循环调用接口）
  *
+ * @param <T> 同步到第三方接口文档系统的数据类型
+ *
  * @author wangdingfu
  * @date 2022-12-31 22:07:46
  */
-public abstract class AbstractSyncSingleApiStrategy extends AbstractSyncApiStrategy implements SyncCategory {
+public abstract class AbstractSyncSingleApiStrategy<T> extends AbstractSyncApiStrategy implements SyncCategory {
 
 
     /**
      * 组装同步到第三方接口文档系统的数据
      */
-    protected abstract String doSingleApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO);
+    protected abstract T buildSingleApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO);
 
 
     /**
-     * 循环同步api到第三方文档系统（针对只能一次同步一个接口的文档系统 例如YApi ShowDoc等）
+     * 同步数据到第三方接口文档系统
+     *
+     * @return 第三方接口文档系统中的文档id
+     */
+    protected abstract String doSingleApi(BaseSyncConfigData configData, T data);
+
+
+    /**
+     * 并行同步api到第三方文档系统（针对只能一次同步一个接口的文档系统 例如YApi ShowDoc等）
      *
      * @param fuDocItemDataList 接口文档api集合
      * @param configData        配置数据
@@ -49,10 +59,30 @@ public abstract class AbstractSyncSingleApiStrategy extends AbstractSyncApiStrat
      */
     @Override
     protected List<SyncApiResultDTO> doSyncApi(List<FuDocItemData> fuDocItemDataList, BaseSyncConfigData configData, ApiProjectDTO apiProjectDTO, ProjectSyncApiRecordData projectRecord) {
-        return fuDocItemDataList.stream().map(f -> Objects.isNull(apiProjectDTO)
-                        ? singleSyncApi(configData, f, projectRecord)
-                        : singleSyncApi(configData, f, apiProjectDTO, apiProjectDTO.getSelectCategory(), projectRecord))
-                .collect(Collectors.toList());
+        return parallelSyncApi(configData, buildSyncTaskList(fuDocItemDataList, configData, apiProjectDTO, projectRecord));
+    }
+
+
+    private List<FuSyncApiExecutor.SyncTask> buildSyncTaskList(List<FuDocItemData> fuDocItemDataList, BaseSyncConfigData configData,
+                                                               ApiProjectDTO apiProjectDTO, ProjectSyncApiRecordData projectRecord) {
+        boolean incremental = isIncrementalSync(configData, fuDocItemDataList);
+        return fuDocItemDataList.stream().<FuSyncApiExecutor.SyncTask>map(f -> new FuSyncApiExecutor.SyncTask() {
+            @Override
+            public SyncApiResultDTO sync(ProgressIndicator indicator) {
+                return Objects.isNull(apiProjectDTO)
+                        ? singleSyncApi(configData, f, projectRecord, incremental, indicator)
+                        : singleSyncApi(configData, f, apiProjectDTO, apiProjectDTO.getSelectCategory(), projectRecord, incremental, indicator);
+            }
+
+            @Override
+            public SyncApiResultDTO cancel() {
+                if (Objects.nonNull(apiProjectDTO)) {
+                    return buildResult(FuStringUtils.EMPTY, f, apiProjectDTO, apiProjectDTO.getSelectCategory(), SYNC_CANCEL_MSG);
+                }
+                SyncApiRecordData record = projectRecord.getRecord(f.getUrlList().get(0));
+                return buildResult(FuStringUtils.EMPTY, f, recordProject(record), record.getCategory(), SYNC_CANCEL_MSG);
+            }
+        }).collect(Collectors.toList());
     }
 
 
@@ -96,15 +126,22 @@ public abstract class AbstractSyncSingleApiStrategy extends AbstractSyncApiStrat
      * @param configData    接口文档系统配置
      * @param fuDocItemData 接口文档
      * @param projectRecord 当前项目同步记录
+     * @param incremental   是否跳过内容未变更的接口
+     * @param indicator     取消后不再重试
      * @return 同步结果
      */
-    private SyncApiResultDTO singleSyncApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ProjectSyncApiRecordData projectRecord) {
+    private SyncApiResultDTO singleSyncApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ProjectSyncApiRecordData projectRecord, boolean incremental, ProgressIndicator indicator) {
         SyncApiRecordData record = projectRecord.getRecord(fuDocItemData.getUrlList().get(0));
+        return singleSyncApi(configData, fuDocItemData, recordProject(record), record.getCategory(), projectRecord, incremental, indicator);
+    }
+
+
+    private ApiProjectDTO recordProject(SyncApiRecordData record) {
         ApiProjectDTO apiProjectDTO = new ApiProjectDTO();
         apiProjectDTO.setProjectId(record.getProjectId());
         apiProjectDTO.setProjectName(record.getProjectName());
         apiProjectDTO.setProjectToken(record.getProjectToken());
-        return singleSyncApi(configData, fuDocItemData, apiProjectDTO, record.getCategory(), projectRecord);
+        return apiProjectDTO;
     }
 
 
@@ -115,14 +152,27 @@ public abstract class AbstractSyncSingleApiStrategy extends AbstractSyncApiStrat
      * @param fuDocItemData  接口文档
      * @param apiProjectDTO  同步的项目
      * @param apiCategoryDTO 同步的分类
+     * @param incremental    是否跳过内容未变更的接口
+     * @param indicator      取消后不再重试
      * @return 同步结果
      */
-    private SyncApiResultDTO singleSyncApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO, ProjectSyncApiRecordData projectRecord) {
+    private SyncApiResultDTO singleSyncApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO,
+                                           ProjectSyncApiRecordData projectRecord, boolean incremental, ProgressIndicator indicator) {
         String errorMsg = FuStringUtils.EMPTY, apiId = FuStringUtils.EMPTY;
         try {
-            apiId = doSingleApi(configData, fuDocItemData, apiProjectDTO, apiCategoryDTO);
+            String contentHash = contentHash(fuDocItemData, apiProjectDTO, Objects.isNull(apiCategoryDTO) ? null : apiCategoryDTO.getCategoryName());
+            String apiUrl = fuDocItemData.getUrlList().get(0);
+            if (incremental && projectRecord.isUnchanged(apiUrl, contentHash)) {
+                //内容未变更 无需同步
+                SyncApiResultDTO resultDTO = buildResult(projectRecord.getRecord(apiUrl).getApiId(), fuDocItemData, apiProjectDTO, apiCategoryDTO, errorMsg);
+                resultDTO.setSyncStatus(ApiSyncStatus.SKIP.getMessage());
+                return resultDTO;
+            }
+            T data = buildSingleApi(configData, fuDocItemData, apiProjectDTO, apiCategoryDTO);
+            //网络异常时重试
+            apiId = FuSyncApiExecutor.retry(() -> doSingleApi(configData, data), indicator);
             //如果接口同步成功 则记录下来
-            projectRecord.addRecord(buildApiSyncRecord(fuDocItemData, apiProjectDTO, apiCategoryDTO));
+            projectRecord.addRecord(buildApiSyncRecord(fuDocItemData, apiProjectDTO, apiCategoryDTO, apiId, contentHash));
         } catch (Exception e) {
             errorMsg = e.getMessage();
         }
@@ -195,23 +245,4 @@ public abstract class AbstractSyncSingleApiStrategy extends AbstractSyncApiStrat
     }
 
 
-    /**
-     * 构建同步记录
-     *
-     * @param fuDocItemData 接口文档
-     * @param apiProjectDTO 同步的项目
-     * @return 同步记录
-     */
-    private SyncApiRecordData buildApiSyncRecord(FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO) {
-        SyncApiRecordData record = new SyncApiRecordData();
-        record.setProjectId(apiProjectDTO.getProjectId());
-        record.setProjectName(apiProjectDTO.getProjectName());
-        record.setProjectToken(apiProjectDTO.getProjectToken());
-        record.setCategory(apiCategoryDTO);
-        record.setSyncTime(DateUtil.now());
-        record.setApiUrl(fuDocItemData.getUrlList().get(0));
-        return record;
-    }
-
-
 }
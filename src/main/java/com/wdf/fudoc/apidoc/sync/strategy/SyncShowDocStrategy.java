@@ -1,10 +1,12 @@
 package com.wdf.fudoc.apidoc.sync.strategy;
 
 import com.google.common.collect.Lists;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.psi.PsiClass;
 import com.wdf.fudoc.apidoc.config.state.FuDocSetting;
 import com.wdf.fudoc.apidoc.constant.enumtype.ApiSyncStatus;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
+import com.wdf.fudoc.apidoc.sync.FuSyncApiExecutor;
 import com.wdf.fudoc.apidoc.sync.data.BaseSyncConfigData;
 import com.wdf.fudoc.apidoc.sync.data.ShowDocConfigData;
 import com.wdf.fudoc.apidoc.sync.dto.ApiProjectDTO;
@@ -21,8 +23,10 @@ import com.wdf.fudoc.util.FuDocUtils;
 import com.wdf.fudoc.util.ObjectUtils;
 import cn.fudoc.common.util.ProjectUtils;
 import com.wdf.fudoc.util.FuStringUtils;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 同步接口文档到showDoc接口文档的实现
@@ -30,6 +34,7 @@ import java.util.List;
  * @author wangdingfu
  * @date 2022-12-31 22:48:07
  */
+@Slf4j
 public class SyncShowDocStrategy extends AbstractSyncApiStrategy {
 
 
@@ -46,23 +51,47 @@ public class SyncShowDocStrategy extends AbstractSyncApiStrategy {
             FuDocNotification.notifyError(FuBundle.message("fudoc.sync.showdoc.tip"));
             return Lists.newArrayList();
         }
-        List<SyncApiResultDTO> resultList = Lists.newArrayList();
-        for (FuDocItemData fuDocItemData : fuDocItemDataList) {
-            //将接口文档数据渲染成markdown格式接口文档
-            ShowDocDTO showDocDTO = new ShowDocDTO();
-            showDocDTO.setApiKey(apiProjectDTO.getProjectId());
-            showDocDTO.setApiToken(apiProjectDTO.getProjectToken());
-            showDocDTO.setCategoryName(recursionPath(apiProjectDTO.getSelectCategory()));
-            showDocDTO.setTitle(fuDocItemData.getTitle());
-            showDocDTO.setContent(FuDocRender.markdownRender(fuDocItemData, FuDocSetting.getSettingData()));
-            ShowDocService service = ServiceHelper.getService(ShowDocService.class);
-            String errorMsg = service.syncApi(showDocDTO, (ShowDocConfigData) configData);
-            ApiSyncStatus syncStatus = FuStringUtils.isBlank(errorMsg) ? ApiSyncStatus.SUCCESS : ApiSyncStatus.FAIL;
-            resultList.add(buildSyncApiResult(fuDocItemData, apiProjectDTO, syncStatus, errorMsg));
-
-        }
-        return resultList;
+        ShowDocService service = ServiceHelper.getService(ShowDocService.class);
+        boolean incremental = isIncrementalSync(configData, fuDocItemDataList);
+        List<FuSyncApiExecutor.SyncTask> taskList = fuDocItemDataList.stream().<FuSyncApiExecutor.SyncTask>map(fuDocItemData -> new FuSyncApiExecutor.SyncTask() {
+            @Override
+            public SyncApiResultDTO sync(ProgressIndicator indicator) {
+                String categoryName = recursionPath(apiProjectDTO.getSelectCategory());
+                String contentHash = contentHash(fuDocItemData, apiProjectDTO, categoryName);
+                String apiUrl = fuDocItemData.getUrlList().get(0);
+                if (incremental && projectRecord.isUnchanged(apiUrl, contentHash)) {
+                    //内容未变更 无需同步
+                    return buildSyncApiResult(fuDocItemData, apiProjectDTO, ApiSyncStatus.SKIP, null);
+                }
+                //将接口文档数据渲染成markdown格式接口文档
+                ShowDocDTO showDocDTO = new ShowDocDTO();
+                showDocDTO.setApiKey(apiProjectDTO.getProjectId());
+                showDocDTO.setApiToken(apiProjectDTO.getProjectToken());
+                showDocDTO.setCategoryName(categoryName);
+                showDocDTO.setTitle(fuDocItemData.getTitle());
+                showDocDTO.setContent(FuDocRender.markdownRender(fuDocItemData, FuDocSetting.getSettingData()));
+                String errorMsg;
+                try {
+                    //网络异常时重试
+                    errorMsg = FuSyncApiExecutor.retry(() -> service.syncApi(showDocDTO, (ShowDocConfigData) configData), indicator);
+                } catch (Exception e) {
+                    log.error("同步文档至ShowDoc异常", e);
+                    errorMsg = "同步文档至ShowDoc异常";
+                }
+                ApiSyncStatus syncStatus = FuStringUtils.isBlank(errorMsg) ? ApiSyncStatus.SUCCESS : ApiSyncStatus.FAIL;
+                if (ApiSyncStatus.SUCCESS == syncStatus) {
+                    //分类已包含在同步内容中 不记录分类(按记录同步只适用于YApi)
+                    projectRecord.addRecord(buildApiSyncRecord(fuDocItemData, apiProjectDTO, null, null, contentHash));
+                }
+                return buildSyncApiResult(fuDocItemData, apiProjectDTO, syncStatus, errorMsg);
+            }
 
+            @Override
+            public SyncApiResultDTO cancel() {
+                return buildSyncApiResult(fuDocItemData, apiProjectDTO, ApiSyncStatus.FAIL, SYNC_CANCEL_MSG);
+            }
+        }).collect(Collectors.toList());
+        return parallelSyncApi(configData, taskList);
     }
 
 
@@ -3,29 +3,26 @@ package com.wdf.fudoc.apidoc.sync.strategy;
 import com.google.common.collect.Lists;
 import com.intellij.psi.PsiClass;
 import com.wdf.fudoc.apidoc.constant.enumtype.ApiSyncStatus;
-import com.wdf.fudoc.apidoc.constant.enumtype.ContentType;
-import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
-import com.wdf.fudoc.apidoc.constant.enumtype.YesOrNo;
-import com.wdf.fudoc.apidoc.helper.JsonSchemaHelper;
+import com.wdf.fudoc.apidoc.helper.OpenApiHelper;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
-import com.wdf.fudoc.apidoc.pojo.data.FuDocParamData;
+import com.wdf.fudoc.apidoc.sync.OpenApiSchemaRegistry;
 import com.wdf.fudoc.apidoc.sync.data.ApiFoxConfigData;
 import com.wdf.fudoc.apidoc.sync.data.BaseSyncConfigData;
 import com.wdf.fudoc.apidoc.sync.dto.*;
 import com.wdf.fudoc.apidoc.sync.service.ApiFoxService;
 import com.wdf.fudoc.apidoc.view.dialog.SyncApiConfirmDialog;
 import com.wdf.fudoc.common.ServiceHelper;
-import com.wdf.fudoc.common.constant.FuDocConstants;
 import com.wdf.fudoc.util.ObjectUtils;
+import cn.fudoc.common.util.JsonUtil;
 import cn.fudoc.common.util.ProjectUtils;
-import org.apache.commons.collections.CollectionUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * ApiFox同步文档策略
@@ -35,6 +32,16 @@ import java.util.stream.Collectors;
  */
 public class SyncToApiFoxStrategy extends AbstractSyncApiStrategy {
 
+    /**
+     * 每批同步的接口数量上限
+     */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * 每批同步的数据长度上限(序列化后的字符数)
+     */
+    private static final int MAX_BATCH_LENGTH = 1024 * 1024;
+
 
     @Override
     protected boolean checkConfig(BaseSyncConfigData configData) {
@@ -45,6 +52,7 @@ public class SyncToApiFoxStrategy extends AbstractSyncApiStrategy {
 
     /**
      * 同步api至ApiFox系统
+     * 对象类型的参数保存到components.schemas中通过$ref引用 接口较多时按批次同步
      *
      * @param fuDocItemDataList 接口文档api集合
      * @param configData        配置数据
@@ -54,24 +62,86 @@ public class SyncToApiFoxStrategy extends AbstractSyncApiStrategy {
      */
     @Override
     protected List<SyncApiResultDTO> doSyncApi(List<FuDocItemData> fuDocItemDataList, BaseSyncConfigData configData, ApiProjectDTO apiProjectDTO, ProjectSyncApiRecordData projectRecord) {
+        OpenApiSchemaRegistry registry = new OpenApiSchemaRegistry();
+        //key:schema名称 value:schema序列化后的长度
+        Map<String, Integer> schemaLengthMap = new HashMap<>();
+        List<ApiFoxBatch> batchList = Lists.newArrayList();
+        //key:接口地址 value:同步内容的摘要(只包含内容有变更的接口)
+        Map<String, String> changedHashMap = new HashMap<>();
+        //key:接口地址 value:接口所在的批次
+        Map<String, ApiFoxBatch> urlBatchMap = new HashMap<>();
+        ApiFoxBatch batch = new ApiFoxBatch();
+        boolean incremental = isIncrementalSync(configData, fuDocItemDataList);
+        String folder = recursionPath(apiProjectDTO.getSelectCategory());
+        for (FuDocItemData fuDocItemData : fuDocItemDataList) {
+            String apiUrl = fuDocItemData.getUrlList().get(0);
+            String contentHash = contentHash(fuDocItemData, apiProjectDTO, folder);
+            if (incremental && projectRecord.isUnchanged(apiUrl, contentHash)) {
+                //内容未变更 无需同步
+                continue;
+            }
+            registry.begin();
+            Map<String, OpenApiItemDTO> itemMap = new HashMap<>();
+            itemMap.put(fuDocItemData.getRequestType().toLowerCase(), OpenApiHelper.buildOpenApiItem(fuDocItemData, folder, registry));
+            Set<String> refNames = registry.getRefNames();
+            int length = JsonUtil.toJson(itemMap).length();
+            for (String refName : refNames) {
+                if (!batch.refNames.contains(refName)) {
+                    length += schemaLengthMap.computeIfAbsent(refName, key -> JsonUtil.toJson(registry.getSchemas(List.of(key))).length());
+                }
+            }
+            if (batch.paths.isEmpty()) {
+                batchList.add(batch);
+            } else if (batch.paths.size() >= MAX_BATCH_SIZE || batch.length + length > MAX_BATCH_LENGTH) {
+                //超出批次上限 开始新的批次
+                batch = new ApiFoxBatch();
+                batchList.add(batch);
+            }
+            batch.paths.put(apiUrl, itemMap);
+            batch.refNames.addAll(refNames);
+            batch.length += length;
+            changedHashMap.put(apiUrl, contentHash);
+            urlBatchMap.put(apiUrl, batch);
+        }
+        ApiFoxService service = ServiceHelper.getService(ApiFoxService.class);
+        for (ApiFoxBatch apiFoxBatch : batchList) {
+            //同步api
+            apiFoxBatch.errorMsg = service.syncApi(buildApiFoxDTO(apiFoxBatch, registry), apiProjectDTO, (ApiFoxConfigData) configData);
+        }
+        return ObjectUtils.listToList(fuDocItemDataList, f -> {
+            String apiUrl = f.getUrlList().get(0);
+            ApiFoxBatch apiFoxBatch = urlBatchMap.get(apiUrl);
+            if (Objects.isNull(apiFoxBatch)) {
+                return buildSyncApiResult(f, apiProjectDTO, ApiSyncStatus.SKIP, null);
+            }
+            String errorMsg = apiFoxBatch.errorMsg;
+            ApiSyncStatus syncStatus = FuStringUtils.isBlank(errorMsg) ? ApiSyncStatus.SUCCESS : ApiSyncStatus.FAIL;
+            if (ApiSyncStatus.SUCCESS == syncStatus) {
+                //分类已包含在同步内容中 不记录分类(按记录同步只适用于YApi)
+                projectRecord.addRecord(buildApiSyncRecord(f, apiProjectDTO, null, null, changedHashMap.get(apiUrl)));
+            }
+            return buildSyncApiResult(f, apiProjectDTO, syncStatus, errorMsg);
+        });
+    }
+
+
+    /**
+     * 构建一个批次的同步数据 只包含该批次接口引用的schema
+     */
+    private ApiFoxDTO buildApiFoxDTO(ApiFoxBatch apiFoxBatch, OpenApiSchemaRegistry registry) {
         ApiFoxDTO apiFoxDTO = new ApiFoxDTO();
         OpenApiDTO openApiDTO = new OpenApiDTO();
         apiFoxDTO.setApiOverwriteMode("methodAndPath");
         apiFoxDTO.setImportFormat("openapi");
         apiFoxDTO.setSyncApiFolder(true);
         apiFoxDTO.setData(openApiDTO);
-        Map<String, Map<String, OpenApiItemDTO>> paths = new HashMap<>();
-        for (FuDocItemData fuDocItemData : fuDocItemDataList) {
-            Map<String, OpenApiItemDTO> itemMap = new HashMap<>();
-            itemMap.put(fuDocItemData.getRequestType().toLowerCase(), buildOpenApiItem(fuDocItemData, apiProjectDTO));
-            paths.put(fuDocItemData.getUrlList().get(0), itemMap);
+        openApiDTO.setPaths(apiFoxBatch.paths);
+        if (!apiFoxBatch.refNames.isEmpty()) {
+            OpenApiComponents components = new OpenApiComponents();
+            components.setSchemas(registry.getSchemas(apiFoxBatch.refNames));
+            openApiDTO.setComponents(components);
         }
-        openApiDTO.setPaths(paths);
-        ApiFoxService service = ServiceHelper.getService(ApiFoxService.class);
-        //同步api
-        String errorMsg = service.syncApi(apiFoxDTO, apiProjectDTO, (ApiFoxConfigData) configData);
-        ApiSyncStatus syncStatus = FuStringUtils.isBlank(errorMsg) ? ApiSyncStatus.SUCCESS : ApiSyncStatus.FAIL;
-        return ObjectUtils.listToList(fuDocItemDataList, f -> buildSyncApiResult(f, apiProjectDTO, syncStatus, errorMsg));
+        return apiFoxDTO;
     }
 
 
@@ -95,89 +165,30 @@ public class SyncToApiFoxStrategy extends AbstractSyncApiStrategy {
     }
 
 
-    private OpenApiItemDTO buildOpenApiItem(FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO) {
-        OpenApiItemDTO openApiItemDTO = new OpenApiItemDTO();
-        openApiItemDTO.setSummary(fuDocItemData.getTitle());
-        openApiItemDTO.setStatus("released");
-        openApiItemDTO.setDescription(fuDocItemData.getDetailInfo());
-        openApiItemDTO.setFolder(recursionPath(apiProjectDTO.getSelectCategory()));
-        openApiItemDTO.setParameters(buildParameters(fuDocItemData));
-        openApiItemDTO.setRequestBody(buildRequestBody(fuDocItemData));
-        Map<String, OpenApiResponseDTO> response = new HashMap<>();
-        response.put("200", buildApiResponse(fuDocItemData));
-        openApiItemDTO.setResponses(response);
-        return openApiItemDTO;
-    }
-
-
-    private List<OpenApiParameterItemDTO> buildParameters(FuDocItemData fuDocItemData) {
-        String requestType = fuDocItemData.getRequestType();
-        List<FuDocParamData> requestParams = fuDocItemData.getRequestParams();
-        if (RequestType.GET.getRequestType().equals(requestType)) {
-            if (CollectionUtils.isEmpty(requestParams)) {
-                return Lists.newArrayList();
-            }
-            //GET请求参数组装
-            return requestParams.stream().map(m -> buildParameterItem(m, m.getExt().containsKey(FuDocConstants.PATH_VARIABLE) ? "path" : "query")).collect(Collectors.toList());
-        }
-        //主要是解析@PathVariable上的参数返回
-        return filterPathVariableParams(requestParams).stream().map(m -> buildParameterItem(m, "path")).collect(Collectors.toList());
-    }
-
-    private OpenApiParameterItemDTO buildParameterItem(FuDocParamData fuDocParamData, String in) {
-        OpenApiParameterItemDTO parameterItemDTO = new OpenApiParameterItemDTO();
-        parameterItemDTO.setName(fuDocParamData.getParamName());
-        parameterItemDTO.setIn(in);
-        parameterItemDTO.setDescription(fuDocParamData.getParamDesc());
-        parameterItemDTO.setRequired(YesOrNo.YES.getDesc().equals(fuDocParamData.getParamRequire()));
-        parameterItemDTO.setExample(fuDocParamData.getParamValue());
-        YApiJsonSchema schema = new YApiJsonSchema();
-        schema.setType(fuDocParamData.getParamType());
-        parameterItemDTO.setSchema(schema);
-        return parameterItemDTO;
-    }
-
-    private OpenApiResponseDTO buildApiResponse(FuDocItemData fuDocItemData) {
-        OpenApiResponseDTO apiResponseDTO = new OpenApiResponseDTO();
-        apiResponseDTO.setContent(buildContent(fuDocItemData, true));
-        apiResponseDTO.setDescription("OK");
-        return apiResponseDTO;
-    }
-
-
-    private OpenApiRequestBody buildRequestBody(FuDocItemData fuDocItemData) {
-        OpenApiRequestBody requestBody = new OpenApiRequestBody();
-        requestBody.setContent(buildContent(fuDocItemData, false));
-        return requestBody;
-    }
-
-    private Map<String, OpenApiContentDTO> buildContent(FuDocItemData fuDocItemData, boolean isResponse) {
-        if (!isResponse && RequestType.GET.getRequestType().equals(fuDocItemData.getRequestType())) {
-            return new HashMap<>();
-        }
-        Map<String, OpenApiContentDTO> content = new HashMap<>();
-        ContentType contentType = fuDocItemData.getContentType();
-        if (Objects.isNull(contentType) || isResponse) {
-            contentType = ContentType.JSON;
-        }
-        OpenApiContentDTO openApiContentDTO = new OpenApiContentDTO();
-        openApiContentDTO.setExample(isResponse ? fuDocItemData.getResponseExample() : fuDocItemData.getRequestExample());
-        openApiContentDTO.setSchema(JsonSchemaHelper.buildJsonSchema(isResponse ? fuDocItemData.getResponseParams() : fuDocItemData.getRequestParams()));
-        content.put(contentType.getType(), openApiContentDTO);
-        return content;
-    }
-
     /**
-     * 过滤PathVariable格式的参数
-     *
-     * @param requestParams 所有的请求参数
-     * @return PathVariable格式的参数
+     * 一次请求同步的接口
      */
-    private List<FuDocParamData> filterPathVariableParams(List<FuDocParamData> requestParams) {
-        if (CollectionUtils.isNotEmpty(requestParams)) {
-            return requestParams.stream().filter(f -> f.getExt().containsKey(FuDocConstants.PATH_VARIABLE)).collect(Collectors.toList());
-        }
-        return Lists.newArrayList();
+    private static class ApiFoxBatch {
+
+        /**
+         * key:接口地址 value: (key:请求类型 value:接口对象)
+         */
+        private final Map<String, Map<String, OpenApiItemDTO>> paths = new HashMap<>();
+
+        /**
+         * 该批次接口引用的schema名称
+         */
+        private final Set<String> refNames = new HashSet<>();
+
+        /**
+         * 序列化后的长度(估算)
+         */
+        private int length;
+
+        /**
+         * 同步失败原因
+         */
+        private String errorMsg;
     }
 
 }
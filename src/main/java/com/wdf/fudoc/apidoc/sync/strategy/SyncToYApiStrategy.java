@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
  * @date 2022-12-31 22:47:39
  */
 @Slf4j
-public class SyncToYApiStrategy extends AbstractSyncSingleApiStrategy {
+public class SyncToYApiStrategy extends AbstractSyncSingleApiStrategy<YApiSaveDTO> {
 
 
     @Override
@@ -39,16 +39,16 @@ public class SyncToYApiStrategy extends AbstractSyncSingleApiStrategy {
 
 
     /**
-     * 同步接口文档至YApi系统
+     * 组装同步至YApi系统的数据
      *
      * @param configData     Yapi系统配置数据
      * @param fuDocItemData  接口文档
      * @param apiProjectDTO  同步到指定的项目
      * @param apiCategoryDTO 同步到指定的分类
-     * @return 同步失败消息
+     * @return 同步至YApi系统的数据
      */
     @Override
-    protected String doSingleApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO) {
+    protected YApiSaveDTO buildSingleApi(BaseSyncConfigData configData, FuDocItemData fuDocItemData, ApiProjectDTO apiProjectDTO, ApiCategoryDTO apiCategoryDTO) {
         if (Objects.isNull(apiProjectDTO) || FuStringUtils.isBlank(apiProjectDTO.getProjectToken()) || FuStringUtils.isBlank(apiProjectDTO.getProjectId())) {
             //构建返回结果
             throw new FuDocException("同步的项目数据错误");
@@ -58,7 +58,19 @@ public class SyncToYApiStrategy extends AbstractSyncSingleApiStrategy {
             throw new FuDocException("同步的分类数据错误");
         }
         //构建同步至YApi系统的数据
-        YApiSaveDTO yApiSaveDTO = buildYApiSaveDTO(fuDocItemData, apiProjectDTO, apiCategoryDTO);
+        return buildYApiSaveDTO(fuDocItemData, apiProjectDTO, apiCategoryDTO);
+    }
+
+
+    /**
+     * 同步接口文档至YApi系统
+     *
+     * @param configData  Yapi系统配置数据
+     * @param yApiSaveDTO 同步至YApi系统的数据
+     * @return YApi中的接口id
+     */
+    @Override
+    protected String doSingleApi(BaseSyncConfigData configData, YApiSaveDTO yApiSaveDTO) {
         YApiService service = ServiceHelper.getService(YApiService.class);
         return service.saveOrUpdate(configData.getBaseUrl(), yApiSaveDTO);
     }
@@ -6,6 +6,7 @@ import com.wdf.fudoc.compat.JsonFileTypeCompat;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
+import com.wdf.fudoc.apidoc.config.FreeMarkerConfig;
 import com.wdf.fudoc.apidoc.data.CustomerSettingData;
 import com.wdf.fudoc.apidoc.data.SettingData;
 import com.wdf.fudoc.util.FastJsonUtils;
@@ -103,6 +104,7 @@ public class FuDocSettingForm extends DialogWrapper {
         this.settingData.setEnumTemplateValue1(this.enum1EditorComponent.getContent());
         this.settingData.setEnumTemplateValue2(this.enum2EditorComponent.getContent());
         this.settingData.setYapiTemplateValue(this.yapiEditorComponent.getContent());
+        FreeMarkerConfig.clearTemplateCache();
     }
 
 
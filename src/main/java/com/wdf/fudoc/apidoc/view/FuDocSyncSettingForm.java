@@ -1,6 +1,8 @@
 package com.wdf.fudoc.apidoc.view;
 
 import com.google.common.collect.Lists;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.util.ui.JBUI;
 import com.wdf.fudoc.apidoc.config.state.FuDocSyncSetting;
 import com.wdf.fudoc.apidoc.sync.data.BaseSyncConfigData;
 import com.wdf.fudoc.apidoc.sync.data.FuDocSyncConfigData;
@@ -49,6 +51,11 @@ public class FuDocSyncSettingForm {
      */
     private final ApiFoxSettingTab apiFoxSettingsTab;
 
+    /**
+     * 增量同步开关(对所有接口文档系统生效)
+     */
+    private final JBCheckBox incrementalSyncBox;
+
     public FuDocSyncSettingForm() {
         this.rootPanel = new JPanel(new BorderLayout());
         this.yApiSettingsTab = new YApiSettingTab();
@@ -63,6 +70,9 @@ public class FuDocSyncSettingForm {
             this.rootPanel.add(FuMessageUtils.createMessage(buildMsg()), BorderLayout.NORTH);
         }
         this.rootPanel.add(fuTabBuilder.build(), BorderLayout.CENTER);
+        this.incrementalSyncBox = new JBCheckBox("增量同步(批量同步时只同步内容有变更的接口)");
+        this.incrementalSyncBox.setBorder(JBUI.Borders.empty(5, 10));
+        this.rootPanel.add(this.incrementalSyncBox, BorderLayout.SOUTH);
     }
 
     public void apply() {
@@ -71,6 +81,12 @@ public class FuDocSyncSettingForm {
         showDocSettingTab.apply();
 
         apiFoxSettingsTab.apply();
+
+        FuDocSyncConfigData settingData = FuDocSyncSetting.getSettingData();
+        boolean incrementalSync = this.incrementalSyncBox.isSelected();
+        settingData.getYapi().setIncrementalSync(incrementalSync);
+        settingData.getShowDoc().setIncrementalSync(incrementalSync);
+        settingData.getApiFox().setIncrementalSync(incrementalSync);
     }
 
 
@@ -80,6 +96,9 @@ public class FuDocSyncSettingForm {
         showDocSettingTab.reset();
 
         apiFoxSettingsTab.reset();
+
+        BaseSyncConfigData enableConfigData = FuDocSyncSetting.getSettingData().getEnableConfigData();
+        this.incrementalSyncBox.setSelected(Objects.nonNull(enableConfigData) && enableConfigData.isIncrementalSync());
     }
 
 
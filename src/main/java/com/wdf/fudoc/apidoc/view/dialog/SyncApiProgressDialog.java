@@ -0,0 +1,124 @@
+package com.wdf.fudoc.apidoc.view.dialog;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.util.ui.JBUI;
+import com.wdf.fudoc.apidoc.constant.enumtype.ApiSyncStatus;
+import com.wdf.fudoc.apidoc.sync.dto.SyncApiResultDTO;
+import com.wdf.fudoc.components.FuTableComponent;
+import com.wdf.fudoc.components.factory.FuTableColumnFactory;
+import com.wdf.fudoc.components.listener.FuTableDisableListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 同步接口进度弹框 每个接口同步完成后将结果追加到表格中 全部完成后自动关闭
+ *
+ * @author wangdingfu
+ * @date 2025-02-27 11:02:37
+ */
+public class SyncApiProgressDialog extends DialogWrapper {
+
+    private final FuTableComponent<SyncApiResultDTO> tableComponent;
+
+    private final JBLabel summaryLabel = new JBLabel();
+
+    private final ProgressIndicator indicator = new EmptyProgressIndicator();
+
+    /**
+     * 需要同步的接口数量
+     */
+    private final int total;
+
+    private int finished;
+
+    private int failed;
+
+    public SyncApiProgressDialog(@Nullable Project project, String apiSystem, int total) {
+        super(project, true);
+        this.total = total;
+        this.tableComponent = FuTableComponent.create(FuTableColumnFactory.syncApiResult(true), SyncApiResultDTO.class);
+        this.tableComponent.addListener(new FuTableDisableListener<>());
+        refreshSummary();
+        setTitle("同步接口至" + apiSystem);
+        setCancelButtonText("停止");
+        init();
+    }
+
+
+    @Override
+    protected @Nullable JComponent createCenterPanel() {
+        JPanel rootPanel = new JPanel(new BorderLayout());
+        rootPanel.add(this.tableComponent.createMainPanel(), BorderLayout.CENTER);
+        this.summaryLabel.setBorder(JBUI.Borders.empty(5));
+        rootPanel.add(this.summaryLabel, BorderLayout.SOUTH);
+        rootPanel.setPreferredSize(JBUI.size(800, 400));
+        return rootPanel;
+    }
+
+
+    @Override
+    protected Action @NotNull [] createActions() {
+        return new Action[]{getCancelAction()};
+    }
+
+
+    /**
+     * 停止后不再发起新的同步 等待正在进行的同步结束后关闭弹框
+     */
+    @Override
+    public void doCancelAction() {
+        this.indicator.cancel();
+        getCancelAction().setEnabled(false);
+        this.summaryLabel.setText("正在停止... 已完成" + this.finished + "/" + this.total);
+    }
+
+
+    public ProgressIndicator getIndicator() {
+        return this.indicator;
+    }
+
+
+    /**
+     * 添加一个接口的同步结果(可在后台线程中调用)
+     *
+     * @param result 同步结果
+     */
+    public void addResult(SyncApiResultDTO result) {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            this.tableComponent.addRowData(result);
+            this.finished++;
+            if (ApiSyncStatus.FAIL.getMessage().equals(result.getSyncStatus())) {
+                this.failed++;
+            }
+            if (!this.indicator.isCanceled()) {
+                refreshSummary();
+            }
+        }, ModalityState.any());
+    }
+
+
+    /**
+     * 同步结束 关闭弹框(可在后台线程中调用)
+     */
+    public void finish() {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (!isDisposed()) {
+                close(OK_EXIT_CODE);
+            }
+        }, ModalityState.any());
+    }
+
+
+    private void refreshSummary() {
+        this.summaryLabel.setText("已完成" + this.finished + "/" + this.total + " 失败" + this.failed);
+    }
+}
@@ -1,5 +1,7 @@
 package com.wdf.fudoc.apilist.pojo;
 
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
 import lombok.Getter;
@@ -48,6 +50,11 @@ public class ApiListItem {
      */
     private final String className;
 
+    /**
+     * Controller 所在文件路径 (文件变更时用于定位需要刷新的 API)
+     */
+    private final String filePath;
+
     /**
      * URL 路径前缀 (第一级路径, 如 /api, /user)
      */
@@ -65,9 +72,16 @@ public class ApiListItem {
         this.title = title;
         this.moduleName = moduleName;
         this.className = className;
+        this.filePath = extractFilePath(psiMethod);
         this.urlPrefix = extractUrlPrefix(url);
     }
 
+    private String extractFilePath(PsiMethod psiMethod) {
+        PsiFile psiFile = psiMethod.getContainingFile();
+        VirtualFile virtualFile = psiFile != null ? psiFile.getVirtualFile() : null;
+        return virtualFile != null ? virtualFile.getPath() : null;
+    }
+
     /**
      * 提取 URL 的第一级路径作为前缀
      * 例如: /api/user/list -> /api
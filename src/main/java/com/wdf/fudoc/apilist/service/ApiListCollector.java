@@ -1,26 +1,33 @@
 package com.wdf.fudoc.apilist.service;
 
 import com.google.common.collect.Lists;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
 import com.wdf.fudoc.apidoc.helper.DocCommentParseHelper;
 import com.wdf.fudoc.apidoc.pojo.data.ApiDocCommentData;
 import com.wdf.fudoc.apilist.pojo.ApiListItem;
+import com.wdf.fudoc.navigation.FuApiCollectExecutor;
+import com.wdf.fudoc.navigation.index.FuApiIndexItem;
 import com.wdf.fudoc.util.FuApiUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -31,7 +38,7 @@ import java.util.stream.Collectors;
  * @date 2025-01-12
  */
 @Slf4j
-public class ApiListCollector {
+public class ApiListCollector implements FuApiCollectExecutor.FuApiReader<ApiListItem> {
 
     private final Project project;
 
@@ -44,52 +51,59 @@ public class ApiListCollector {
     }
 
     /**
-     * 收集项目中所有的 API
+     * 异步收集项目中所有的 API
      *
-     * @return API 列表
+     * @param partialConsumer 每收集到一批 API 就回调一次 (后台线程)
+     * @param finishConsumer  全部收集完成后回调 (后台线程)
+     * @return 进度指示器, 调用 cancel() 取消收集
      */
-    public List<ApiListItem> collectAllApis() {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<ApiListItem>>) () ->
-                collectApis(GlobalSearchScope.projectScope(project))
-        );
+    public ProgressIndicator collectAllApis(Consumer<List<ApiListItem>> partialConsumer, Consumer<List<ApiListItem>> finishConsumer) {
+        return FuApiCollectExecutor.collect(project, GlobalSearchScope.projectScope(project), this, partialConsumer, finishConsumer);
     }
 
     /**
-     * 收集指定范围内的 API
+     * 收集指定文件中的 API (文件变更后增量刷新, 需要在后台线程中调用)
+     *
+     * @param files 发生变更的文件 (已删除的文件会被忽略)
+     * @return 这些文件中当前的 API 列表
      */
-    private List<ApiListItem> collectApis(GlobalSearchScope scope) {
-        long start = System.currentTimeMillis();
-
-        // 1. 查找所有的 Controller 类
-        List<PsiClass> allController = FuApiUtils.findAllController(project, scope);
-        if (CollectionUtils.isEmpty(allController)) {
-            log.info("未找到任何 Controller 类");
+    public List<ApiListItem> collectFileApis(Collection<VirtualFile> files) {
+        List<VirtualFile> validFiles = files.stream().filter(VirtualFile::isValid).collect(Collectors.toList());
+        if (validFiles.isEmpty()) {
             return Lists.newArrayList();
         }
+        GlobalSearchScope scope = GlobalSearchScope.filesScope(project, validFiles).intersectWith(GlobalSearchScope.projectScope(project));
+        return FuApiCollectExecutor.collect(project, scope, this, null);
+    }
 
-        log.info("找到 {} 个 Controller 类", allController.size());
-
-        // 2. 分批处理 Controller 类,避免单次处理过多
-        List<List<PsiClass>> partitionList = Lists.partition(allController, 50);
-        List<CompletableFuture<List<ApiListItem>>> futures = Lists.newArrayList();
-
-        partitionList.forEach(partition ->
-                futures.add(CompletableFuture.supplyAsync(() ->
-                        ApplicationManager.getApplication().runReadAction((Computable<List<ApiListItem>>) () ->
-                                readApiFromClasses(partition)
-                        )
-                ))
-        );
-
-        // 3. 等待所有任务完成并合并结果
-        List<ApiListItem> apiList = futures.stream()
-                .flatMap(f -> f.join().stream())
-                .collect(Collectors.toList());
-
-        log.info("收集到 {} 个 API,耗时 {}ms", apiList.size(), System.currentTimeMillis() - start);
+    /**
+     * 将索引中的 API 转换为列表项
+     */
+    @Override
+    public List<ApiListItem> readIndexApi(List<FuApiIndexItem> indexItemList) {
+        List<ApiListItem> apiList = Lists.newArrayList();
+        Set<PsiMethod> methodSet = new HashSet<>();
+        for (FuApiIndexItem indexItem : indexItemList) {
+            PsiMethod psiMethod = indexItem.getPsiMethod();
+            // 一个方法映射了多个 URL 时只展示一个
+            if (!methodSet.add(psiMethod)) {
+                continue;
+            }
+            String title = FuStringUtils.isBlank(indexItem.getTitle()) ? psiMethod.getName() : indexItem.getTitle();
+            apiList.add(new ApiListItem(psiMethod, indexItem.getUrl(), indexItem.getRequestType(), title,
+                    getModuleName(psiMethod), indexItem.getClassName()));
+        }
         return apiList;
     }
 
+    /**
+     * 请求地址引用了常量等情况的 Controller 按原有方式解析
+     */
+    @Override
+    public List<ApiListItem> readControllerApi(PsiClass psiClass) {
+        return readApiFromClasses(Lists.newArrayList(psiClass));
+    }
+
     /**
      * 从 Controller 类列表中读取 API
      */
@@ -102,8 +116,7 @@ public class ApiListCollector {
                 List<String> classUrlList = FuApiUtils.getClassUrl(psiClass);
 
                 // 获取类所属的 Module
-                Module module = ModuleUtil.findModuleForPsiElement(psiClass);
-                String moduleName = module != null ? module.getName() : "Unknown";
+                String moduleName = getModuleName(psiClass);
 
                 // 获取类的全限定名
                 String className = psiClass.getQualifiedName();
@@ -118,6 +131,9 @@ public class ApiListCollector {
                         apiList.add(apiItem);
                     }
                 }
+            } catch (ProcessCanceledException e) {
+                // 写操作到来时需要让出读锁
+                throw e;
             } catch (Exception e) {
                 log.warn("读取 Controller 类 {} 的 API 时出错", psiClass.getName(), e);
             }
@@ -162,9 +178,16 @@ public class ApiListCollector {
             // 创建 API 列表项
             return new ApiListItem(psiMethod, url, requestType, title, moduleName, className);
 
+        } catch (ProcessCanceledException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("读取方法 {} 的 API 信息时出错", psiMethod.getName(), e);
             return null;
         }
     }
+
+    private String getModuleName(PsiElement psiElement) {
+        Module module = ModuleUtil.findModuleForPsiElement(psiElement);
+        return module != null ? module.getName() : "Unknown";
+    }
 }
@@ -36,4 +36,11 @@ public abstract class ApiTreeNode extends DefaultMutableTreeNode {
      * 获取节点显示文本
      */
     public abstract String getDisplayText();
+
+    /**
+     * 获取节点标识 (重建树后用于恢复展开状态)
+     */
+    public String getNodeKey() {
+        return getDisplayText();
+    }
 }
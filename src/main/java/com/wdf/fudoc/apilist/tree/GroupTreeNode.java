@@ -23,4 +23,10 @@ public class GroupTreeNode extends ApiTreeNode {
     public String getDisplayText() {
         return group.getDisplayText();
     }
+
+    @Override
+    public String getNodeKey() {
+        // 显示文本中包含数量, 使用分组名称作为标识
+        return group.getGroupName();
+    }
 }
@@ -1,10 +1,24 @@
 package com.wdf.fudoc.apilist.view;
 
 import com.intellij.icons.AllIcons;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.*;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
 import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.*;
 import com.intellij.ui.SearchTextField;
 import com.intellij.ui.TreeSpeedSearch;
 import com.intellij.ui.components.JBScrollPane;
@@ -27,9 +41,17 @@ import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -39,7 +61,7 @@ import java.util.stream.Collectors;
  * @date 2025-01-12
  */
 @Slf4j
-public class ApiListToolWindow extends SimpleToolWindowPanel {
+public class ApiListToolWindow extends SimpleToolWindowPanel implements Disposable {
 
     private final Project project;
 
@@ -58,6 +80,27 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
     // 防抖定时器
     private javax.swing.Timer searchTimer;
 
+    // 是否在代码变更时自动刷新
+    private boolean autoRefresh = true;
+
+    // 等待刷新的变更文件
+    private final Set<VirtualFile> changedFiles = ConcurrentHashMap.newKeySet();
+
+    // 被移动或重命名的文件(目录)原来的路径, 刷新时移除这些路径下原有的 API
+    private final Set<String> movedPaths = ConcurrentHashMap.newKeySet();
+
+    // 变更刷新定时器 (合并短时间内的多次变更)
+    private javax.swing.Timer refreshTimer;
+
+    // 当前树中的 Controller 节点, key: moduleName/className
+    private final Map<String, ControllerTreeNode> controllerNodeMap = new HashMap<>();
+
+    // 当前树中的分组节点, key: URL 前缀
+    private final Map<String, GroupTreeNode> groupNodeMap = new HashMap<>();
+
+    // 当前正在进行的全量加载, 用于取消
+    private ProgressIndicator loadIndicator;
+
     public ApiListToolWindow(@NotNull Project project) {
         super(true, true);
         this.project = project;
@@ -75,10 +118,264 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
         // 初始化 UI
         initUI();
 
+        // 监听代码变更
+        subscribeChanges();
+
         // 异步加载 API 数据
         loadApis();
     }
 
+    /**
+     * 监听 PSI 变更, 只重新收集发生变更的文件中的 API
+     */
+    private void subscribeChanges() {
+        refreshTimer = new javax.swing.Timer(1000, e -> refreshChangedFiles());
+        refreshTimer.setRepeats(false);
+
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onPsiChanged(event);
+            }
+
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onPsiChanged(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChanged(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onPsiChanged(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChanged(event);
+            }
+        }, this);
+
+        // 文件移动或重命名后路径发生变化, 需要按原来的路径移除旧的 API
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+                onFilesMoved(events);
+            }
+        });
+    }
+
+    /**
+     * 记录被移动或重命名的文件(目录)原来的路径, 并将新路径下的 Java 文件加入待刷新文件
+     */
+    private void onFilesMoved(List<? extends VFileEvent> events) {
+        if (!autoRefresh) {
+            return;
+        }
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        boolean moved = false;
+        for (VFileEvent event : events) {
+            String oldPath;
+            if (event instanceof VFileMoveEvent moveEvent) {
+                oldPath = moveEvent.getOldPath();
+            } else if (event instanceof VFilePropertyChangeEvent propertyEvent && propertyEvent.isRename()) {
+                oldPath = propertyEvent.getOldPath();
+            } else {
+                continue;
+            }
+            VirtualFile file = event.getFile();
+            if (file == null || !file.isValid() || !fileIndex.isInContent(file)) {
+                continue;
+            }
+            movedPaths.add(oldPath);
+            VfsUtilCore.iterateChildrenRecursively(file, null, child -> {
+                if (!child.isDirectory() && JavaFileType.INSTANCE.equals(child.getFileType())) {
+                    changedFiles.add(child);
+                }
+                return true;
+            });
+            moved = true;
+        }
+        if (moved) {
+            refreshTimer.restart();
+        }
+    }
+
+    /**
+     * 记录发生变更的 Java 文件并延迟刷新
+     */
+    private void onPsiChanged(PsiTreeChangeEvent event) {
+        if (!autoRefresh) {
+            return;
+        }
+        PsiFile psiFile = event.getFile();
+        if (psiFile == null && event.getChild() instanceof PsiFile childFile) {
+            // 文件新增/删除时 变更的是目录 文件本身作为 child
+            psiFile = childFile;
+        }
+        if (!(psiFile instanceof PsiJavaFile) || psiFile.getVirtualFile() == null) {
+            return;
+        }
+        changedFiles.add(psiFile.getVirtualFile());
+        refreshTimer.restart();
+    }
+
+    /**
+     * 重新收集变更文件中的 API 并局部更新树
+     */
+    private void refreshChangedFiles() {
+        if (changedFiles.isEmpty() && movedPaths.isEmpty()) {
+            return;
+        }
+        Set<VirtualFile> files = new HashSet<>(changedFiles);
+        changedFiles.removeAll(files);
+        Set<String> oldPaths = new HashSet<>(movedPaths);
+        movedPaths.removeAll(oldPaths);
+
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            try {
+                List<ApiListItem> fileApiList = ApiListCollector.getInstance(project).collectFileApis(files);
+                Set<String> filePaths = files.stream().map(VirtualFile::getPath).collect(Collectors.toSet());
+                ApplicationManager.getApplication().invokeLater(() -> applyChanges(filePaths, oldPaths, fileApiList), project.getDisposed());
+            } catch (IndexNotReadyException e) {
+                // 索引中, 等索引完成后再刷新
+                changedFiles.addAll(files);
+                movedPaths.addAll(oldPaths);
+                DumbService.getInstance(project).runWhenSmart(() -> refreshTimer.restart());
+            } catch (Exception e) {
+                log.error("刷新 API 列表失败", e);
+            }
+        });
+    }
+
+    /**
+     * 用变更文件中最新的 API 替换缓存中这些文件原有的 API, 并局部更新树
+     *
+     * @param filePaths   变更的文件路径
+     * @param oldPaths    被移动或重命名的文件(目录)原来的路径, 这些路径下的 API 直接移除
+     * @param fileApiList 变更文件中最新的 API
+     */
+    private void applyChanges(Set<String> filePaths, Set<String> oldPaths, List<ApiListItem> fileApiList) {
+        Predicate<ApiListItem> changed = api -> filePaths.contains(api.getFilePath()) || isUnderPaths(api.getFilePath(), oldPaths);
+        List<ApiListItem> removedList = cachedApiList.stream()
+                .filter(changed)
+                .collect(Collectors.toList());
+        if (removedList.isEmpty() && fileApiList.isEmpty()) {
+            return;
+        }
+
+        List<ApiListItem> apiList = cachedApiList.stream()
+                .filter(changed.negate())
+                .collect(Collectors.toCollection(ArrayList::new));
+        apiList.addAll(fileApiList);
+        cachedApiList = apiList;
+
+        if (!searchField.getText().trim().isEmpty()) {
+            // 搜索状态下树是过滤后的结果, 重新过滤即可
+            performFilter();
+            return;
+        }
+        if (!patchTree(removedList, fileApiList)) {
+            rebuildTreeKeepExpansion();
+        }
+    }
+
+    /**
+     * 文件路径是否为指定路径(或指定目录下的文件)
+     */
+    private boolean isUnderPaths(String filePath, Set<String> paths) {
+        if (filePath == null || paths.isEmpty()) {
+            return false;
+        }
+        for (String path : paths) {
+            if (filePath.equals(path) || filePath.startsWith(path + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 原地更新受影响的 Controller/分组 节点
+     *
+     * @return false: 有节点需要新增或删除, 需要重建树
+     */
+    private boolean patchTree(List<ApiListItem> removedList, List<ApiListItem> addedList) {
+        boolean moduleGroup = currentGroupType == GroupType.MODULE;
+        Function<ApiListItem, String> keyFunction = moduleGroup ? this::controllerKey : ApiListItem::getUrlPrefix;
+        Map<String, ? extends ApiTreeNode> nodeMap = moduleGroup ? controllerNodeMap : groupNodeMap;
+
+        Set<String> changedKeys = new HashSet<>();
+        removedList.forEach(api -> changedKeys.add(keyFunction.apply(api)));
+        addedList.forEach(api -> changedKeys.add(keyFunction.apply(api)));
+
+        Map<String, List<ApiListItem>> changedApiMap = cachedApiList.stream()
+                .filter(api -> changedKeys.contains(keyFunction.apply(api)))
+                .collect(Collectors.groupingBy(keyFunction));
+        for (String key : changedKeys) {
+            if (!nodeMap.containsKey(key) || !changedApiMap.containsKey(key)) {
+                return false;
+            }
+        }
+
+        for (String key : changedKeys) {
+            ApiTreeNode node = nodeMap.get(key);
+            List<ApiListItem> apis = changedApiMap.get(key);
+            node.removeAllChildren();
+            apis.forEach(apiItem -> node.add(new ApiItemTreeNode(apiItem)));
+            if (node instanceof GroupTreeNode groupNode) {
+                groupNode.getGroup().getItems().clear();
+                groupNode.getGroup().getItems().addAll(apis);
+            }
+            treeModel.nodeStructureChanged(node);
+        }
+        return true;
+    }
+
+    /**
+     * 重建树并恢复原有的展开状态
+     */
+    private void rebuildTreeKeepExpansion() {
+        Set<String> expandedKeys = new HashSet<>();
+        for (TreePath expandedPath : TreeUtil.collectExpandedPaths(tree)) {
+            expandedKeys.add(nodeKeyPath(expandedPath));
+        }
+        buildTree(cachedApiList);
+        restoreExpansion(new TreePath(rootNode), expandedKeys);
+    }
+
+    private void restoreExpansion(TreePath path, Set<String> expandedKeys) {
+        Object node = path.getLastPathComponent();
+        if (path.getPathCount() > 1 && expandedKeys.contains(nodeKeyPath(path))) {
+            tree.expandPath(path);
+        }
+        if (node instanceof ApiTreeNode apiNode && apiNode.getNodeType() != ApiTreeNode.NodeType.API) {
+            for (int i = 0; i < apiNode.getChildCount(); i++) {
+                restoreExpansion(path.pathByAddingChild(apiNode.getChildAt(i)), expandedKeys);
+            }
+        }
+    }
+
+    /**
+     * 节点路径的唯一标识 (树重建后节点对象会变化, 使用节点标识拼接)
+     */
+    private String nodeKeyPath(TreePath path) {
+        StringBuilder keyPath = new StringBuilder();
+        for (Object node : path.getPath()) {
+            if (node instanceof ApiTreeNode apiNode) {
+                keyPath.append("/").append(apiNode.getNodeKey());
+            }
+        }
+        return keyPath.toString();
+    }
+
+    private String controllerKey(ApiListItem api) {
+        return (api.getModuleName() != null ? api.getModuleName() : "Unknown") + "/" + api.getClassName();
+    }
+
     /**
      * 初始化 UI 组件
      */
@@ -181,6 +478,23 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
             }
         });
 
+        // 自动刷新开关
+        actionGroup.add(new ToggleAction("自动刷新", "代码变更时只刷新发生变更的 Controller", AllIcons.Actions.Lightning) {
+            @Override
+            public boolean isSelected(@NotNull AnActionEvent e) {
+                return autoRefresh;
+            }
+
+            @Override
+            public void setSelected(@NotNull AnActionEvent e, boolean state) {
+                autoRefresh = state;
+                if (state) {
+                    // 关闭期间的变更未记录, 重新加载一次
+                    loadApis();
+                }
+            }
+        });
+
         // 分组方式切换按钮
         actionGroup.add(new AnAction("按模块分组", "按 Module 分组 API", AllIcons.Nodes.Module) {
             @Override
@@ -224,34 +538,48 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
      * 加载 API 列表
      */
     private void loadApis() {
+        // 取消上一次还未完成的加载
+        if (loadIndicator != null) {
+            loadIndicator.cancel();
+        }
         // 清空当前树
         rootNode.removeAllChildren();
         treeModel.reload();
-
-        // 在后台线程收集 API
-        ApplicationManager.getApplication().executeOnPooledThread(() -> {
-            try {
-                // 收集 API
-                ApiListCollector collector = ApiListCollector.getInstance(project);
-                List<ApiListItem> apiList = collector.collectAllApis();
-
-                // 缓存数据
-                cachedApiList = apiList;
-
-                // 在 EDT 线程更新 UI
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    buildTree(apiList);
-                });
-            } catch (Exception e) {
-                log.error("加载 API 列表失败", e);
-            }
-        });
+        controllerNodeMap.clear();
+        groupNodeMap.clear();
+        cachedApiList = new ArrayList<>();
+        // 全量加载会包含所有变更
+        changedFiles.clear();
+        movedPaths.clear();
+
+        // 在后台以可取消的非阻塞读锁收集 API, 每收集到一批就合并到树中 (已被新的加载取代的批次直接丢弃)
+        // 批次按文件替换已有的 API, 避免加载期间先到达的增量刷新结果被重复追加; 本次加载已发布过的文件只追加
+        AtomicReference<ProgressIndicator> indicatorRef = new AtomicReference<>();
+        Set<String> loadedPaths = new HashSet<>();
+        ProgressIndicator indicator = ApiListCollector.getInstance(project).collectAllApis(
+                partialList -> ApplicationManager.getApplication().invokeLater(() -> {
+                    ProgressIndicator current = indicatorRef.get();
+                    if (current != null && current == loadIndicator && !current.isCanceled()) {
+                        Set<String> filePaths = partialList.stream()
+                                .map(ApiListItem::getFilePath)
+                                .filter(Objects::nonNull)
+                                .filter(filePath -> !loadedPaths.contains(filePath))
+                                .collect(Collectors.toSet());
+                        loadedPaths.addAll(filePaths);
+                        applyChanges(filePaths, Collections.emptySet(), partialList);
+                    }
+                }, project.getDisposed()),
+                apiList -> log.info("API 列表加载完成, 共 {} 个 API", apiList.size()));
+        indicatorRef.set(indicator);
+        loadIndicator = indicator;
     }
 
     /**
      * 构建树 (根据当前分组类型)
      */
     private void buildTree(List<ApiListItem> apiList) {
+        controllerNodeMap.clear();
+        groupNodeMap.clear();
         if (currentGroupType == GroupType.MODULE) {
             buildModuleTree(apiList);
         } else {
@@ -468,6 +796,7 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
                 controllerMap.forEach((className, controllerApis) -> {
                     ControllerTreeNode controllerNode = new ControllerTreeNode(className);
                     packageNode.add(controllerNode);
+                    controllerNodeMap.put(controllerKey(controllerApis.get(0)), controllerNode);
 
                     // 添加 API 节点
                     controllerApis.forEach(apiItem -> {
@@ -525,6 +854,7 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
             // 创建分组节点
             GroupTreeNode groupNode = new GroupTreeNode(group);
             rootNode.add(groupNode);
+            groupNodeMap.put(group.getGroupName(), groupNode);
 
             // 添加 API 节点
             for (ApiListItem apiItem : group.getItems()) {
@@ -725,4 +1055,15 @@ public class ApiListToolWindow extends SimpleToolWindowPanel {
                 .getSystemClipboard()
                 .setContents(new java.awt.datatransfer.StringSelection(text), null);
     }
+
+    @Override
+    public void dispose() {
+        searchTimer.stop();
+        refreshTimer.stop();
+        changedFiles.clear();
+        movedPaths.clear();
+        if (loadIndicator != null) {
+            loadIndicator.cancel();
+        }
+    }
 }
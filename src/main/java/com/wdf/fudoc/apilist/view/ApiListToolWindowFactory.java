@@ -24,6 +24,7 @@ public class ApiListToolWindowFactory implements ToolWindowFactory, DumbAware {
         // 创建 Content 并添加到 ToolWindow
         ContentFactory contentFactory = ContentFactory.getInstance();
         Content content = contentFactory.createContent(apiListToolWindow, "", false);
+        content.setDisposer(apiListToolWindow);
         toolWindow.getContentManager().addContent(content);
     }
 }
@@ -7,10 +7,16 @@ import com.wdf.fudoc.apidoc.data.SettingData;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocEnumData;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocParamData;
+import com.wdf.fudoc.common.constant.FuDocConstants;
 import com.wdf.fudoc.request.http.data.HttpClientData;
 import com.wdf.fudoc.util.FuStringUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -29,11 +35,38 @@ public class FuDocRender {
      * @return markdown格式的接口文档内容
      */
     public static String markdownRender(SettingData settingData, List<FuDocItemData> dataList) {
-        StringBuilder sb = new StringBuilder();
-        for (FuDocItemData fuDocItemData : dataList) {
-            sb.append(markdownRender(fuDocItemData, settingData)).append("\r\n");
+        StringWriter writer = new StringWriter();
+        try {
+            markdownRender(settingData, dataList.iterator(), writer);
+        } catch (IOException e) {
+            //StringWriter不会抛出IO异常
+            throw new UncheckedIOException(e);
         }
-        return sb.toString();
+        return writer.toString();
+    }
+
+
+    /**
+     * 将多个接口文档数据逐个渲染并直接写入到输出流中(渲染完一个接口写一个 不会在内存中保留所有接口的文档内容)
+     *
+     * @param settingData 配置数据
+     * @param iterator    接口文档数据(可以是按需组装的迭代器)
+     * @param writer      接口文档内容输出
+     * @return 写入的接口数量
+     */
+    public static int markdownRender(SettingData settingData, Iterator<FuDocItemData> iterator, Writer writer) throws IOException {
+        String templateContent = settingData.getFuDocTemplateValue();
+        if (FuStringUtils.isBlank(templateContent)) {
+            return 0;
+        }
+        int count = 0;
+        while (iterator.hasNext()) {
+            if (FreeMarkerConfig.generateContent("fu_doc.ftl", templateContent, iterator.next(), writer)) {
+                writer.write(FuDocConstants.LINE);
+                count++;
+            }
+        }
+        return count;
     }
 
 
@@ -36,6 +36,7 @@ public interface FuDocConstants {
 
     String IDEA_DIR = ".idea";
     String API_DIR = "api";
+    String DOC_DIR = "doc";
 
     Integer API_NAVIGATION_LIMIT = 100;
     Integer API_NAVIGATION_MAX_LIMIT = 300;
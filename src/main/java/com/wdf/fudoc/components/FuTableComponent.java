@@ -441,6 +441,21 @@ public class FuTableComponent<T> extends DefaultTableModel implements EditableMo
         addRow(data);
     }
 
+    /**
+     * 数据对象被修改后刷新表格中对应的行
+     *
+     * @param row 行数
+     */
+    public void refreshRow(int row) {
+        if (row < 0 || row >= this.dataList.size()) {
+            return;
+        }
+        T data = this.dataList.get(row);
+        for (int column = 0; column < this.columnList.size(); column++) {
+            super.setValueAt(FuTableColumnFactory.getValue(data, this.columnList.get(column)), row, column);
+        }
+    }
+
     /**
      * 将数据转换为table数据格式
      *
@@ -31,4 +31,13 @@ public class HeaderKeyValueBO extends KeyValueTableBO {
      */
     private String level = "接口请求头";
 
+
+    @Override
+    public HeaderKeyValueBO copy() {
+        HeaderKeyValueBO target = new HeaderKeyValueBO(select, requestParamType, key, value, description);
+        target.isEditable = this.isEditable;
+        target.level = this.level;
+        return target;
+    }
+
 }
@@ -71,4 +71,11 @@ public class KeyValueTableBO {
         this.value = value;
         this.description = description;
     }
+
+    /**
+     * 复制当前行数据
+     */
+    public KeyValueTableBO copy() {
+        return new KeyValueTableBO(select, requestParamType, key, value, description, isEditable);
+    }
 }
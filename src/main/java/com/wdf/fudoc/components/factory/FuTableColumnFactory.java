@@ -21,6 +21,8 @@ import com.wdf.fudoc.request.po.FuCookiePO;
 import com.wdf.fudoc.request.po.GlobalKeyValuePO;
 import com.wdf.fudoc.request.pojo.ConfigAuthTableBO;
 import com.wdf.fudoc.request.pojo.ConfigEnvTableBO;
+import com.wdf.fudoc.request.pojo.FuRunnerItemBO;
+import com.wdf.fudoc.request.view.renderer.RunnerStatusCellRenderer;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.util.List;
@@ -228,6 +230,24 @@ public class FuTableColumnFactory {
     }
 
 
+    /**
+     * 批量执行请求table
+     */
+    public static List<Column> requestRunner() {
+        List<Column> columns = Lists.newArrayList();
+        columns.add(new BooleanColumn<>("", FuRunnerItemBO::getSelect, FuRunnerItemBO::setSelect));
+        columns.add(new BooleanColumn<>("优先执行", FuRunnerItemBO::getFirst, FuRunnerItemBO::setFirst));
+        columns.add(new StringColumn<>("接口名称", FuRunnerItemBO::getApiName, FuRunnerItemBO::setApiName));
+        columns.add(new StringColumn<>("请求方式", FuRunnerItemBO::getMethod, FuRunnerItemBO::setMethod));
+        columns.add(new StringColumn<>("接口地址", FuRunnerItemBO::getUrl, FuRunnerItemBO::setUrl));
+        columns.add(new StringColumn<>("执行状态", new RunnerStatusCellRenderer(), FuRunnerItemBO::getStatus, FuRunnerItemBO::setStatus));
+        columns.add(new StringColumn<>("状态码", FuRunnerItemBO::getHttpCode, FuRunnerItemBO::setHttpCode));
+        columns.add(new StringColumn<>("耗时(ms)", FuRunnerItemBO::getTime, FuRunnerItemBO::setTime));
+        columns.add(new StringColumn<>("失败信息", FuRunnerItemBO::getErrorMsg, FuRunnerItemBO::setErrorMsg));
+        return columns;
+    }
+
+
     /**
      * 环境配置数据
      */
@@ -0,0 +1,105 @@
+package com.wdf.fudoc.console;
+
+import com.intellij.execution.ui.ConsoleView;
+import com.intellij.openapi.fileTypes.FileType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 先缓存日志 之后再一次性输出到目标日志中
+ * <p>
+ * 并发执行多个请求时 每个请求各自缓存日志 全部完成后按顺序输出 避免控制台中的日志交错
+ *
+ * @author wangdingfu
+ * @date 2025-02-25 10:12:40
+ */
+public class FuBufferedLogger implements FuLogger {
+
+    /**
+     * 输出的目标日志(只用于判断是否需要输出日志)
+     */
+    private final FuLogger target;
+
+    private final List<Consumer<FuLogger>> logList = new ArrayList<>();
+
+    @Getter
+    @Setter
+    private String prefix;
+
+    public FuBufferedLogger(FuLogger target) {
+        this.target = target;
+    }
+
+
+    @Override
+    public ConsoleView getConsoleView() {
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return target.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.logList.clear();
+    }
+
+    @Override
+    public void infoLog(String console, Object... params) {
+        String currentPrefix = this.prefix;
+        this.logList.add(logger -> {
+            logger.setPrefix(currentPrefix);
+            logger.infoLog(console, params);
+        });
+    }
+
+    @Override
+    public void errorLog(String console, Object... params) {
+        String currentPrefix = this.prefix;
+        this.logList.add(logger -> {
+            logger.setPrefix(currentPrefix);
+            logger.errorLog(console, params);
+        });
+    }
+
+    @Override
+    public void debugLog(String console, Object... params) {
+        String currentPrefix = this.prefix;
+        this.logList.add(logger -> {
+            logger.setPrefix(currentPrefix);
+            logger.debugLog(console, params);
+        });
+    }
+
+    @Override
+    public void println() {
+        this.logList.add(FuLogger::println);
+    }
+
+    @Override
+    public void printAsFileType(String content, FileType fileType) {
+        this.logList.add(logger -> logger.printAsFileType(content, fileType));
+    }
+
+    @Override
+    public void close() {
+        this.logList.clear();
+    }
+
+
+    /**
+     * 将缓存的日志输出到目标日志中
+     */
+    public void flush() {
+        String targetPrefix = target.getPrefix();
+        this.logList.forEach(log -> log.accept(target));
+        target.setPrefix(targetPrefix);
+        this.logList.clear();
+    }
+}
@@ -1,8 +1,10 @@
 package com.wdf.fudoc.console;
 
 import cn.hutool.core.text.StrFormatter;
+import com.intellij.execution.impl.ConsoleViewUtil;
 import com.intellij.execution.ui.ConsoleView;
 import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.openapi.fileTypes.FileType;
 import com.wdf.fudoc.common.constant.FuDocConstants;
 import lombok.Getter;
 import lombok.Setter;
@@ -52,9 +54,20 @@ public class FuConsoleLogger implements FuLogger {
 
     @Override
     public void println() {
+        if (Objects.isNull(this.consoleView)) {
+            return;
+        }
         this.consoleView.print(FuDocConstants.LINE, ConsoleViewContentType.NORMAL_OUTPUT);
     }
 
+    @Override
+    public void printAsFileType(String content, FileType fileType) {
+        if (Objects.isNull(this.consoleView)) {
+            return;
+        }
+        ConsoleViewUtil.printAsFileType(this.consoleView, content, fileType);
+    }
+
     @Override
     public void close() {
         consoleView.clear();
@@ -1,6 +1,7 @@
 package com.wdf.fudoc.console;
 
 import com.intellij.execution.ui.ConsoleView;
+import com.intellij.openapi.fileTypes.FileType;
 
 /**
  * @author wangdingfu
@@ -46,6 +47,14 @@ public interface FuLogger {
 
     void println();
 
+    /**
+     * 按文件类型高亮输出内容
+     *
+     * @param content  输出内容
+     * @param fileType 文件类型
+     */
+    void printAsFileType(String content, FileType fileType);
+
     void close();
 
 }
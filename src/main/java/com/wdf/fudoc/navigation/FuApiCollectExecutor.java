@@ -0,0 +1,147 @@
+package com.wdf.fudoc.navigation;
+
+import com.google.common.collect.Lists;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.navigation.index.FuApiIndexHelper;
+import com.wdf.fudoc.navigation.index.FuApiIndexItem;
+import com.wdf.fudoc.util.ObjectUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * api收集执行器(api导航、api列表共用)
+ * <p>
+ * 收集过程拆分为多个步骤(读取索引、分批解析无法通过索引确定请求地址的controller) 每个步骤都在可取消的非阻塞读锁中执行
+ * 写操作到来时会让出读锁 写操作完成后重新执行当前步骤 不会阻塞用户输入 每个步骤完成后立即发布该步骤收集到的api
+ *
+ * @author wangdingfu
+ * @date 2025-02-17 10:12:35
+ */
+@Slf4j
+public class FuApiCollectExecutor {
+
+    /**
+     * 收集api专用线程池(有界 不占用公共线程池)
+     */
+    private static final ExecutorService EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("Fu Api Collect", 2);
+
+    /**
+     * 每批解析的controller数量
+     */
+    private static final int BATCH_SIZE = 20;
+
+
+    /**
+     * 读取api
+     *
+     * @param <T> api对象
+     */
+    public interface FuApiReader<T> {
+
+        /**
+         * 将索引中查询出的api转换为api对象(在读锁中执行 可能会因为写操作而重新执行)
+         */
+        List<T> readIndexApi(List<FuApiIndexItem> indexItemList);
+
+        /**
+         * 解析controller中的api(在读锁中执行 可能会因为写操作而重新执行)
+         */
+        List<T> readControllerApi(PsiClass psiClass);
+    }
+
+
+    /**
+     * 异步收集指定范围内的api
+     *
+     * @param project         当前项目
+     * @param searchScope     收集范围
+     * @param apiReader       读取api
+     * @param partialConsumer 每个步骤收集到的api(在后台线程中回调)
+     * @param finishConsumer  全部收集完成后回调所有的api(在后台线程中回调 被取消时不会回调)
+     * @return 进度指示器 调用cancel()即可取消本次收集
+     */
+    public static <T> ProgressIndicator collect(Project project, GlobalSearchScope searchScope, FuApiReader<T> apiReader,
+                                                Consumer<List<T>> partialConsumer, Consumer<List<T>> finishConsumer) {
+        ProgressIndicator indicator = new EmptyProgressIndicator();
+        EXECUTOR.execute(() -> {
+            try {
+                ProgressManager.getInstance().runProcess(() -> {
+                    List<T> apiList = collect(project, searchScope, apiReader, partialConsumer);
+                    if (Objects.nonNull(finishConsumer)) {
+                        finishConsumer.accept(apiList);
+                    }
+                }, indicator);
+            } catch (ProcessCanceledException e) {
+                log.info("收集api已取消");
+            } catch (Exception e) {
+                log.error("收集api失败", e);
+                //收集失败时标记为取消 避免调用方一直等待
+                indicator.cancel();
+            }
+        });
+        return indicator;
+    }
+
+
+    /**
+     * 同步收集指定范围内的api(需要在后台线程中调用 不能在读锁中调用)
+     */
+    public static <T> List<T> collect(Project project, GlobalSearchScope searchScope, FuApiReader<T> apiReader, Consumer<List<T>> partialConsumer) {
+        long start = System.currentTimeMillis();
+        List<T> apiList = Lists.newArrayList();
+        // 1. 从索引中读取api
+        List<T> indexApiList = ReadAction.nonBlocking(() -> apiReader.readIndexApi(FuApiIndexHelper.findAllApi(project, searchScope)))
+                .inSmartMode(project).expireWith(project).executeSynchronously();
+        publish(apiList, indexApiList, partialConsumer);
+        log.info("从索引中读取【{}】条api. 共计耗时:{}ms", apiList.size(), System.currentTimeMillis() - start);
+
+        // 2. 分批解析无法通过索引确定请求地址的controller
+        List<SmartPsiElementPointer<PsiClass>> controllerList = ReadAction.nonBlocking(() -> {
+            SmartPointerManager smartPointerManager = SmartPointerManager.getInstance(project);
+            return ObjectUtils.listToList(FuApiIndexHelper.findUnresolvedController(project, searchScope), smartPointerManager::createSmartPsiElementPointer);
+        }).inSmartMode(project).expireWith(project).executeSynchronously();
+        if (Objects.isNull(controllerList)) {
+            return apiList;
+        }
+        for (List<SmartPsiElementPointer<PsiClass>> batchList : Lists.partition(controllerList, BATCH_SIZE)) {
+            List<T> batchApiList = ReadAction.nonBlocking(() -> {
+                List<T> resultList = Lists.newArrayList();
+                for (SmartPsiElementPointer<PsiClass> pointer : batchList) {
+                    PsiClass psiClass = pointer.getElement();
+                    if (Objects.nonNull(psiClass)) {
+                        resultList.addAll(apiReader.readControllerApi(psiClass));
+                    }
+                }
+                return resultList;
+            }).inSmartMode(project).expireWith(project).executeSynchronously();
+            publish(apiList, batchApiList, partialConsumer);
+        }
+        log.info("已读取【{}】条api. 共计耗时:{}ms", apiList.size(), System.currentTimeMillis() - start);
+        return apiList;
+    }
+
+
+    private static <T> void publish(List<T> apiList, List<T> partialList, Consumer<List<T>> partialConsumer) {
+        if (Objects.isNull(partialList) || partialList.isEmpty()) {
+            return;
+        }
+        apiList.addAll(partialList);
+        if (Objects.nonNull(partialConsumer)) {
+            partialConsumer.accept(partialList);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.intellij.ide.actions.searcheverywhere.FoundItemDescriptor;
 import com.intellij.ide.actions.searcheverywhere.WeightedSearchEverywhereContributor;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
@@ -21,7 +22,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Api导航实现
@@ -34,6 +38,11 @@ public class FuApiNavigationContributor implements WeightedSearchEverywhereContr
 
     public static final String INSTANCE = "Fu Api";
 
+    /**
+     * 搜索时等待api读取的间隔
+     */
+    private static final long COLLECT_WAIT_MILLIS = 100;
+
     private final Project project;
     private final ProjectRecentApi projectRecentApi;
     /**
@@ -41,10 +50,26 @@ public class FuApiNavigationContributor implements WeightedSearchEverywhereContr
      */
     private final FuApiMatcher fuApiMatcher;
 
+    /**
+     * 已读取到的api(后台读取中会持续追加)
+     */
+    private final List<ApiNavigationItem> apiList = ContainerUtil.createLockFreeCopyOnWriteList();
+
+    /**
+     * api全部读取完成
+     */
+    private final CountDownLatch collectLatch = new CountDownLatch(1);
+
+    /**
+     * 读取api的进度 关闭搜索框时取消读取
+     */
+    private final ProgressIndicator collectIndicator;
+
     public FuApiNavigationContributor(AnActionEvent initEvent) {
         this.project = initEvent.getProject();
         projectRecentApi = RecentNavigationManager.create(project);
-        this.fuApiMatcher = new FuApiMatcher(project, FuApiNavigationExecutor.getInstance(project, projectRecentApi).getApiList());
+        this.fuApiMatcher = new FuApiMatcher(project);
+        this.collectIndicator = FuApiNavigationExecutor.getInstance(project, projectRecentApi).getApiList(apiList::addAll, finish -> collectLatch.countDown());
     }
 
 
@@ -66,8 +91,47 @@ public class FuApiNavigationContributor implements WeightedSearchEverywhereContr
             log.info("匹配历史搜索的api【{}】条. 共计耗时:{}ms", recentApiList.size(), System.currentTimeMillis() - start);
             return;
         }
-        boolean flag = fuApiMatcher.matchApi(pattern, progressIndicator, consumer);
-        log.info("匹配 api【{}】{}. 共计耗时:{}ms", pattern, flag, System.currentTimeMillis() - start);
+        //api还在读取中时 先匹配已读取到的api 后续读取到的api再追加匹配
+        int matchedSize = 0;
+        boolean finished;
+        do {
+            finished = awaitCollect(progressIndicator);
+            //lock-free列表不支持subList 先拷贝一份当前已读取到的api
+            List<ApiNavigationItem> collectedList = new ArrayList<>(apiList);
+            int size = collectedList.size();
+            if (size > matchedSize) {
+                if (!fuApiMatcher.matchApi(pattern, collectedList.subList(matchedSize, size), progressIndicator, consumer)) {
+                    break;
+                }
+                matchedSize = size;
+            }
+        } while (!finished);
+        log.info("匹配 api【{}】{}条. 共计耗时:{}ms", pattern, matchedSize, System.currentTimeMillis() - start);
+    }
+
+
+    /**
+     * 短暂等待api读取完成
+     *
+     * @return true: 已全部读取完成
+     */
+    private boolean awaitCollect(ProgressIndicator progressIndicator) {
+        progressIndicator.checkCanceled();
+        if (collectIndicator.isCanceled()) {
+            return true;
+        }
+        try {
+            return collectLatch.await(COLLECT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException(e);
+        }
+    }
+
+
+    @Override
+    public void dispose() {
+        collectIndicator.cancel();
     }
 
 
@@ -0,0 +1,297 @@
+package com.wdf.fudoc.navigation.index;
+
+import com.google.common.collect.Lists;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.wdf.fudoc.apidoc.constant.AnnotationConstants;
+import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
+import com.wdf.fudoc.apidoc.helper.DocCommentParseHelper;
+import com.wdf.fudoc.common.constant.FuDocConstants;
+import com.wdf.fudoc.common.enumtype.ControllerAnnotation;
+import com.wdf.fudoc.util.FuApiUtils;
+import com.wdf.fudoc.util.FuStringUtils;
+import org.apache.commons.collections.CollectionUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * api索引(key:请求地址 value:该请求地址对应的api集合)
+ * <p>
+ * 由IDEA在java文件变更时增量维护 搜索api和api列表直接从索引中读取 无需每次全量扫描所有controller
+ * 索引阶段只能读取当前文件的内容(不能解析引用) 所以请求地址中使用了常量的controller只会记录在{@link #UNRESOLVED_KEY}下
+ * 由查询方按原有方式解析psi获取
+ *
+ * @author wangdingfu
+ * @date 2025-02-10 10:20:45
+ */
+public class FuApiIndex extends FileBasedIndexExtension<String, List<FuApiIndexData>> {
+
+    public static final ID<String, List<FuApiIndexData>> NAME = ID.create("com.wdf.fudoc.api.index");
+
+    /**
+     * 无法在索引阶段确定请求地址的controller
+     */
+    public static final String UNRESOLVED_KEY = "#unresolved";
+
+    private static final int VERSION = 2;
+
+    @Override
+    public @NotNull ID<String, List<FuApiIndexData>> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, List<FuApiIndexData>, FileContent> getIndexer() {
+        return this::index;
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataExternalizer<List<FuApiIndexData>> getValueExternalizer() {
+        return new FuApiIndexDataExternalizer();
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+
+    private Map<String, List<FuApiIndexData>> index(FileContent inputData) {
+        //不包含Controller字样的文件直接跳过 避免构建psi
+        if (!StringUtil.contains(inputData.getContentAsText(), "Controller")
+                || !(inputData.getPsiFile() instanceof PsiJavaFile psiJavaFile)) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<FuApiIndexData>> indexMap = new HashMap<>();
+        for (PsiClass psiClass : psiJavaFile.getClasses()) {
+            indexClass(psiClass, indexMap);
+        }
+        return indexMap;
+    }
+
+
+    private void indexClass(PsiClass psiClass, Map<String, List<FuApiIndexData>> indexMap) {
+        for (PsiClass innerClass : psiClass.getInnerClasses()) {
+            indexClass(innerClass, indexMap);
+        }
+        String className = psiClass.getQualifiedName();
+        if (Objects.isNull(className) || !isController(psiClass)) {
+            return;
+        }
+        Map<String, List<FuApiIndexData>> classIndexMap = new HashMap<>();
+        if (!indexMethods(psiClass, className, classIndexMap)) {
+            addIndex(indexMap, UNRESOLVED_KEY, new FuApiIndexData(className, FuStringUtils.EMPTY, -1, FuStringUtils.EMPTY, FuStringUtils.EMPTY, 0));
+            return;
+        }
+        classIndexMap.forEach((url, dataList) -> dataList.forEach(data -> addIndex(indexMap, url, data)));
+    }
+
+
+    /**
+     * 索引controller中的所有api
+     *
+     * @return false: 存在无法在索引阶段确定的请求地址
+     */
+    private boolean indexMethods(PsiClass psiClass, String className, Map<String, List<FuApiIndexData>> classIndexMap) {
+        List<String> classUrlList = Lists.newArrayList();
+        if (!readUrl(findAnnotation(psiClass, AnnotationConstants.REQUEST_MAPPING), classUrlList)) {
+            return false;
+        }
+        PsiMethod[] methods = psiClass.getMethods();
+        for (int index = 0; index < methods.length; index++) {
+            PsiMethod psiMethod = methods[index];
+            for (String mapping : AnnotationConstants.MAPPING) {
+                PsiAnnotation psiAnnotation = findAnnotation(psiMethod, mapping);
+                if (Objects.isNull(psiAnnotation)) {
+                    continue;
+                }
+                List<String> methodUrlList = Lists.newArrayList();
+                if (!readUrl(psiAnnotation, methodUrlList)) {
+                    return false;
+                }
+                RequestType requestType = readRequestType(mapping, psiAnnotation);
+                if (Objects.nonNull(requestType) && CollectionUtils.isNotEmpty(methodUrlList)) {
+                    String title = readTitle(psiMethod);
+                    List<String> urlList = FuApiUtils.joinUrl(classUrlList, methodUrlList);
+                    for (int urlIndex = 0; urlIndex < urlList.size(); urlIndex++) {
+                        addIndex(classIndexMap, urlList.get(urlIndex), new FuApiIndexData(className, psiMethod.getName(), index, requestType.name(), title, urlIndex));
+                    }
+                }
+                break;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean isController(PsiClass psiClass) {
+        for (ControllerAnnotation value : ControllerAnnotation.values()) {
+            if (Objects.nonNull(findAnnotation(psiClass, value.getQualifiedName()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 根据注解的引用文本查找注解(索引阶段不能解析注解的全限定名)
+     */
+    private static PsiAnnotation findAnnotation(PsiModifierListOwner owner, String qualifiedName) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if (Objects.isNull(modifierList)) {
+            return null;
+        }
+        String shortName = StringUtil.getShortName(qualifiedName);
+        for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+            PsiJavaCodeReferenceElement referenceElement = psiAnnotation.getNameReferenceElement();
+            if (Objects.isNull(referenceElement)) {
+                continue;
+            }
+            String referenceText = referenceElement.getText();
+            if (shortName.equals(referenceText) || qualifiedName.equals(referenceText)) {
+                return psiAnnotation;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * 读取注解上的请求地址(只支持字符串字面量及其拼接)
+     *
+     * @return false: 请求地址中引用了常量等无法在索引阶段确定的值
+     */
+    private static boolean readUrl(PsiAnnotation psiAnnotation, List<String> urlList) {
+        if (Objects.isNull(psiAnnotation)) {
+            return true;
+        }
+        PsiAnnotationMemberValue value = psiAnnotation.findDeclaredAttributeValue(FuDocConstants.VALUE);
+        if (Objects.isNull(value)) {
+            return true;
+        }
+        if (value instanceof PsiArrayInitializerMemberValue arrayValue) {
+            for (PsiAnnotationMemberValue initializer : arrayValue.getInitializers()) {
+                if (!readConstant(initializer, urlList)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return readConstant(value, urlList);
+    }
+
+
+    private static boolean readConstant(PsiAnnotationMemberValue value, List<String> urlList) {
+        if (value instanceof PsiLiteralExpression literalExpression && literalExpression.getValue() instanceof String url) {
+            urlList.add(url);
+            return true;
+        }
+        if (value instanceof PsiPolyadicExpression polyadicExpression) {
+            StringBuilder url = new StringBuilder();
+            for (PsiExpression operand : polyadicExpression.getOperands()) {
+                if (!(operand instanceof PsiLiteralExpression literalExpression) || Objects.isNull(literalExpression.getValue())) {
+                    return false;
+                }
+                url.append(literalExpression.getValue());
+            }
+            urlList.add(url.toString());
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * 与{@link FuApiUtils#getMethodUrl}保持一致: RequestMapping未指定method时默认为GET
+     */
+    private static RequestType readRequestType(String mapping, PsiAnnotation psiAnnotation) {
+        RequestType requestType = RequestType.getByAnnotationName(mapping);
+        if (!AnnotationConstants.REQUEST_MAPPING.equals(mapping)) {
+            return requestType;
+        }
+        PsiAnnotationMemberValue method = psiAnnotation.findDeclaredAttributeValue("method");
+        if (method instanceof PsiArrayInitializerMemberValue arrayValue) {
+            PsiAnnotationMemberValue[] initializers = arrayValue.getInitializers();
+            method = initializers.length > 0 ? initializers[0] : null;
+        }
+        if (Objects.isNull(method)) {
+            return RequestType.GET;
+        }
+        if (!(method instanceof PsiReferenceExpression referenceExpression)) {
+            return requestType;
+        }
+        PsiExpression qualifier = referenceExpression.getQualifierExpression();
+        if (Objects.nonNull(qualifier) && !StringUtil.getShortName(AnnotationConstants.HTTP_METHOD).equals(StringUtil.getShortName(qualifier.getText()))) {
+            return requestType;
+        }
+        return RequestType.getRequestType(referenceExpression.getReferenceName());
+    }
+
+
+    private static String readTitle(PsiMethod psiMethod) {
+        PsiDocComment docComment = psiMethod.getDocComment();
+        String title = Objects.nonNull(docComment)
+                ? DocCommentParseHelper.getCommentContent(docComment)
+                : DocCommentParseHelper.parsePsiComment(psiMethod).getCommentTitle();
+        return FuStringUtils.isBlank(title) ? FuStringUtils.EMPTY : title;
+    }
+
+
+    private static void addIndex(Map<String, List<FuApiIndexData>> indexMap, String url, FuApiIndexData data) {
+        indexMap.computeIfAbsent(url, key -> Lists.newArrayList()).add(data);
+    }
+
+
+    private static class FuApiIndexDataExternalizer implements DataExternalizer<List<FuApiIndexData>> {
+
+        @Override
+        public void save(@NotNull DataOutput out, List<FuApiIndexData> value) throws IOException {
+            out.writeInt(value.size());
+            for (FuApiIndexData data : value) {
+                IOUtil.writeUTF(out, data.getClassName());
+                IOUtil.writeUTF(out, data.getMethodName());
+                out.writeInt(data.getMethodIndex());
+                IOUtil.writeUTF(out, data.getRequestType());
+                IOUtil.writeUTF(out, data.getTitle());
+                out.writeInt(data.getUrlIndex());
+            }
+        }
+
+        @Override
+        public List<FuApiIndexData> read(@NotNull DataInput in) throws IOException {
+            int size = in.readInt();
+            List<FuApiIndexData> dataList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                dataList.add(new FuApiIndexData(IOUtil.readUTF(in), IOUtil.readUTF(in), in.readInt(), IOUtil.readUTF(in), IOUtil.readUTF(in), in.readInt()));
+            }
+            return dataList;
+        }
+    }
+}
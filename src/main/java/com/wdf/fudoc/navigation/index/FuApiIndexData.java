@@ -0,0 +1,47 @@
+package com.wdf.fudoc.navigation.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * api索引中存储的单条api数据(只包含当前文件内即可确定的信息 不依赖任何引用解析)
+ *
+ * @author wangdingfu
+ * @date 2025-02-10 10:12:31
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FuApiIndexData {
+
+    /**
+     * controller类的全限定名
+     */
+    private final String className;
+
+    /**
+     * 方法名称
+     */
+    private final String methodName;
+
+    /**
+     * 方法在类中的下标(用于区分重载方法)
+     */
+    private final int methodIndex;
+
+    /**
+     * 请求类型 {@link com.wdf.fudoc.apidoc.constant.enumtype.RequestType#name()}
+     */
+    private final String requestType;
+
+    /**
+     * api标题(方法注释)
+     */
+    private final String title;
+
+    /**
+     * 请求地址在方法映射的所有地址中的下标(按声明顺序)
+     */
+    private final int urlIndex;
+}
@@ -0,0 +1,153 @@
+package com.wdf.fudoc.navigation.index;
+
+import com.google.common.collect.Lists;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * api索引查询(需要在读锁中调用)
+ *
+ * @author wangdingfu
+ * @date 2025-02-10 11:08:52
+ */
+public class FuApiIndexHelper {
+
+    /**
+     * 从索引中查询指定范围内的所有api
+     *
+     * @param project     当前项目
+     * @param searchScope 查询范围
+     * @return 能通过索引确定请求地址的api集合(一个方法映射了多个地址时 按声明顺序排在前面的地址在前)
+     */
+    public static List<FuApiIndexItem> findAllApi(Project project, GlobalSearchScope searchScope) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        List<String> urlList = Lists.newArrayList();
+        fileBasedIndex.processAllKeys(FuApiIndex.NAME, url -> {
+            if (!FuApiIndex.UNRESOLVED_KEY.equals(url)) {
+                urlList.add(url);
+            }
+            return true;
+        }, searchScope, null);
+        List<FuApiIndexItem> apiList = Lists.newArrayList();
+        Map<String, PsiClass> classCache = new HashMap<>();
+        for (String url : urlList) {
+            fileBasedIndex.processValues(FuApiIndex.NAME, url, null, (file, dataList) -> {
+                for (FuApiIndexData data : dataList) {
+                    PsiMethod psiMethod = findMethod(project, file, data, classCache);
+                    RequestType requestType = RequestType.valueOf(data.getRequestType());
+                    if (Objects.nonNull(psiMethod)) {
+                        apiList.add(new FuApiIndexItem(psiMethod, url, requestType, data.getClassName(), data.getTitle(), data.getUrlIndex()));
+                    }
+                }
+                return true;
+            }, searchScope);
+        }
+        //索引key的遍历顺序不固定 按地址的声明顺序稳定排序
+        apiList.sort(Comparator.comparingInt(FuApiIndexItem::getUrlIndex));
+        return apiList;
+    }
+
+
+    /**
+     * 从索引中查询指定范围内的所有controller(包含请求地址无法通过索引确定的controller)
+     *
+     * @param project     当前项目
+     * @param searchScope 查询范围
+     * @return controller集合(已去重)
+     */
+    public static List<PsiClass> findAllController(Project project, GlobalSearchScope searchScope) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        List<String> keyList = Lists.newArrayList();
+        fileBasedIndex.processAllKeys(FuApiIndex.NAME, keyList::add, searchScope, null);
+        Map<String, PsiClass> classCache = new LinkedHashMap<>();
+        for (String key : keyList) {
+            fileBasedIndex.processValues(FuApiIndex.NAME, key, null, (file, dataList) -> {
+                for (FuApiIndexData data : dataList) {
+                    findClass(project, file, data.getClassName(), classCache);
+                }
+                return true;
+            }, searchScope);
+        }
+        return classCache.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+
+    /**
+     * 查询请求地址无法通过索引确定的controller(例如请求地址引用了常量) 需要调用方自行解析
+     */
+    public static List<PsiClass> findUnresolvedController(Project project, GlobalSearchScope searchScope) {
+        List<PsiClass> psiClassList = Lists.newArrayList();
+        Map<String, PsiClass> classCache = new HashMap<>();
+        FileBasedIndex.getInstance().processValues(FuApiIndex.NAME, FuApiIndex.UNRESOLVED_KEY, null, (file, dataList) -> {
+            for (FuApiIndexData data : dataList) {
+                PsiClass psiClass = findClass(project, file, data.getClassName(), classCache);
+                if (Objects.nonNull(psiClass)) {
+                    psiClassList.add(psiClass);
+                }
+            }
+            return true;
+        }, searchScope);
+        return psiClassList;
+    }
+
+
+    private static PsiMethod findMethod(Project project, VirtualFile file, FuApiIndexData data, Map<String, PsiClass> classCache) {
+        PsiClass psiClass = findClass(project, file, data.getClassName(), classCache);
+        if (Objects.isNull(psiClass)) {
+            return null;
+        }
+        PsiMethod[] methods = psiClass.getMethods();
+        int methodIndex = data.getMethodIndex();
+        if (methodIndex >= 0 && methodIndex < methods.length && data.getMethodName().equals(methods[methodIndex].getName())) {
+            return methods[methodIndex];
+        }
+        //索引与psi不一致时(文件刚修改还未重新索引) 退化为按方法名查找
+        PsiMethod[] methodsByName = psiClass.findMethodsByName(data.getMethodName(), false);
+        return methodsByName.length > 0 ? methodsByName[0] : null;
+    }
+
+
+    /**
+     * 从文件中查找类(基于stub 不会解析文件的语法树)
+     */
+    private static PsiClass findClass(Project project, VirtualFile file, String className, Map<String, PsiClass> classCache) {
+        String cacheKey = file.getPath() + "#" + className;
+        if (classCache.containsKey(cacheKey)) {
+            return classCache.get(cacheKey);
+        }
+        PsiClass psiClass = null;
+        if (PsiManager.getInstance(project).findFile(file) instanceof PsiJavaFile psiJavaFile) {
+            psiClass = findClass(psiJavaFile.getClasses(), className);
+        }
+        classCache.put(cacheKey, psiClass);
+        return psiClass;
+    }
+
+    private static PsiClass findClass(PsiClass[] psiClasses, String className) {
+        for (PsiClass psiClass : psiClasses) {
+            if (className.equals(psiClass.getQualifiedName())) {
+                return psiClass;
+            }
+            PsiClass innerClass = findClass(psiClass.getInnerClasses(), className);
+            if (Objects.nonNull(innerClass)) {
+                return innerClass;
+            }
+        }
+        return null;
+    }
+}
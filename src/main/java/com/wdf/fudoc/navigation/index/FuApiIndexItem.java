@@ -0,0 +1,35 @@
+package com.wdf.fudoc.navigation.index;
+
+import com.intellij.psi.PsiMethod;
+import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 从api索引中查询出的api(已定位到具体的PsiMethod)
+ *
+ * @author wangdingfu
+ * @date 2025-02-10 11:02:17
+ */
+@Getter
+@AllArgsConstructor
+public class FuApiIndexItem {
+
+    private final PsiMethod psiMethod;
+
+    private final String url;
+
+    private final RequestType requestType;
+
+    /**
+     * controller类的全限定名
+     */
+    private final String className;
+
+    private final String title;
+
+    /**
+     * 请求地址在方法映射的所有地址中的下标(按声明顺序)
+     */
+    private final int urlIndex;
+}
@@ -34,14 +34,16 @@ public class FuApiMatcher {
 
     private final Project project;
 
-    private final List<ApiNavigationItem> apiList;
-
-    public FuApiMatcher(Project project, List<ApiNavigationItem> apiList) {
+    public FuApiMatcher(Project project) {
         this.project = project;
-        this.apiList = apiList;
     }
 
-    public boolean matchApi(String matchText, ProgressIndicator progressIndicator, Processor<? super FoundItemDescriptor<ApiNavigationItem>> consumer) {
+    /**
+     * 从api集合中匹配api 并将匹配结果按匹配度排序后交给处理器
+     *
+     * @return false: 处理器要求停止(无需继续匹配)
+     */
+    public boolean matchApi(String matchText, List<ApiNavigationItem> apiList, ProgressIndicator progressIndicator, Processor<? super FoundItemDescriptor<ApiNavigationItem>> consumer) {
         List<Pair<ApiNavigationItem, MatchResult>> matchApiList = new SmartList<>();
         MinusculeMatcher fullMatcher = MatchUrlUtils.getFullMatcher(project, matchText);
 
@@ -53,7 +55,7 @@ public class FuApiMatcher {
             }
         }
         if (CollectionUtils.isEmpty(matchApiList)) {
-            return false;
+            return true;
         }
         if (matchApiList.size() == 1) {
             Pair<ApiNavigationItem, MatchResult> pair = matchApiList.get(0);
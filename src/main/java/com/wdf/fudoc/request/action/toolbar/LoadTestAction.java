@@ -0,0 +1,107 @@
+package com.wdf.fudoc.request.action.toolbar;
+
+import cn.fudoc.common.notification.FuDocNotification;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.wdf.fudoc.console.FuLogger;
+import com.wdf.fudoc.request.callback.FuRequestCallback;
+import com.wdf.fudoc.request.dialog.FuLoadTestDialog;
+import com.wdf.fudoc.request.loadtest.FuLoadTestConfig;
+import com.wdf.fudoc.request.loadtest.FuLoadTestExecutor;
+import com.wdf.fudoc.request.loadtest.FuLoadTestResult;
+import com.wdf.fudoc.request.manager.FuRequestConsoleManager;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.tab.request.RequestTabView;
+import com.wdf.fudoc.util.FuStringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * 压测当前请求 压测结果输出到控制台
+ *
+ * @author wangdingfu
+ * @date 2025-02-21 11:20:08
+ */
+@Slf4j
+public class LoadTestAction extends AnAction {
+
+    private final FuRequestCallback fuRequestCallback;
+
+    public LoadTestAction(FuRequestCallback fuRequestCallback) {
+        super("Load Test", "压测当前请求", AllIcons.Actions.ProfileCPU);
+        this.fuRequestCallback = fuRequestCallback;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        RequestTabView requestTabView = fuRequestCallback.getRequestTabView();
+        FuHttpRequestData fuHttpRequestData;
+        if (Objects.isNull(project) || Objects.isNull(requestTabView) || Objects.isNull(fuHttpRequestData = requestTabView.getFuHttpRequestData())) {
+            return;
+        }
+        //将界面上编辑的内容同步到请求数据中
+        requestTabView.doSendBefore(fuHttpRequestData);
+        if (FuStringUtils.isBlank(fuHttpRequestData.getRequest().getRequestUrl())) {
+            FuDocNotification.notifyWarn("请求地址为空 无法压测");
+            return;
+        }
+        String apiName = FuStringUtils.defaultIfBlank(fuHttpRequestData.getApiName(), "request");
+        FuLoadTestDialog fuLoadTestDialog = new FuLoadTestDialog(project, apiName);
+        if (!fuLoadTestDialog.showAndGet()) {
+            return;
+        }
+        FuLoadTestConfig config = fuLoadTestDialog.getConfig();
+        if (fuLoadTestDialog.isExportCsv()) {
+            FileSaverDescriptor descriptor = new FileSaverDescriptor("Export CSV", "导出压测结果", "csv");
+            VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project).save(ProjectUtil.guessProjectDir(project), apiName + "-load-test.csv");
+            if (Objects.isNull(fileWrapper)) {
+                return;
+            }
+            config.setCsvPath(fileWrapper.getFile().getAbsolutePath());
+        }
+        //压测过程中界面上的请求数据可能被继续编辑
+        FuHttpRequestData requestData = fuHttpRequestData.copy();
+        FuLogger fuLogger = fuRequestCallback.getFuLogger();
+        fuLogger.clear();
+        fuRequestCallback.selectConsole();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Load test " + apiName, true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                FuLoadTestResult result = FuLoadTestExecutor.execute(project, requestData, config, fuLogger, indicator);
+                FuRequestConsoleManager.logLoadTest(fuLogger, config, result);
+                if (FuStringUtils.isNotBlank(config.getCsvPath())) {
+                    exportCsv(Path.of(config.getCsvPath()), result);
+                }
+            }
+        });
+    }
+
+
+    private void exportCsv(Path path, FuLoadTestResult result) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            result.writeCsv(writer);
+            FuDocNotification.notifyInfo("压测结果已导出至" + path);
+        } catch (IOException e) {
+            log.error("导出压测结果失败", e);
+            FuDocNotification.notifyError("导出压测结果失败: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wdf.fudoc.request.action.toolbar;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.wdf.fudoc.request.callback.FuRequestCallback;
+import com.wdf.fudoc.request.dialog.FuRequestRunnerDialog;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.tab.request.RequestTabView;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * 批量执行已保存的请求(默认展示当前请求所属module的请求)
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 11:40:27
+ */
+public class RequestRunnerAction extends AnAction {
+
+    private final FuRequestCallback fuRequestCallback;
+
+    public RequestRunnerAction(FuRequestCallback fuRequestCallback) {
+        super("Run Requests", "批量执行已保存的请求", AllIcons.Actions.RunAll);
+        this.fuRequestCallback = fuRequestCallback;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.isNull(project)) {
+            return;
+        }
+        RequestTabView requestTabView = fuRequestCallback.getRequestTabView();
+        FuHttpRequestData fuHttpRequestData = Objects.isNull(requestTabView) ? null : requestTabView.getFuHttpRequestData();
+        new FuRequestRunnerDialog(project, Objects.isNull(fuHttpRequestData) ? null : fuHttpRequestData.getModuleId()).show();
+    }
+}
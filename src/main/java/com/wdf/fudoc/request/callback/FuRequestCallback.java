@@ -2,6 +2,7 @@ package com.wdf.fudoc.request.callback;
 
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.psi.PsiElement;
+import com.wdf.fudoc.console.FuLogger;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.tab.request.RequestTabView;
 
@@ -25,6 +26,16 @@ public interface FuRequestCallback {
 
     RequestTabView getRequestTabView();
 
+    /**
+     * 获取控制台日志输出
+     */
+    FuLogger getFuLogger();
+
+    /**
+     * 切换到控制台tab
+     */
+    void selectConsole();
+
 
     default boolean isWindow() {
         return false;
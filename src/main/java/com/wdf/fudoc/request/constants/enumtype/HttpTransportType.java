@@ -0,0 +1,33 @@
+package com.wdf.fudoc.request.constants.enumtype;
+
+import java.util.Arrays;
+
+/**
+ * 【Fu Request】发起http请求的方式
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 10:21:37
+ */
+public enum HttpTransportType {
+
+    /**
+     * java.net.http.HttpClient 项目级别连接池 支持HTTP/2
+     */
+    JDK("jdk"),
+
+    /**
+     * hutool(HttpURLConnection) 每次请求新建请求对象
+     */
+    HUTOOL("hutool"),
+    ;
+
+    public final String code;
+
+    HttpTransportType(String code) {
+        this.code = code;
+    }
+
+    public static HttpTransportType getByCode(String code) {
+        return Arrays.stream(values()).filter(f -> f.code.equals(code)).findFirst().orElse(JDK);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wdf.fudoc.request.constants.enumtype;
+
+import lombok.Getter;
+
+/**
+ * 批量执行请求时单个请求的执行状态
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 10:08:41
+ */
+@Getter
+public enum RunnerStatus {
+
+    WAITING("等待执行"),
+    RUNNING("执行中"),
+    SUCCESS("成功"),
+    FAIL("失败"),
+    SKIPPED("已跳过"),
+    ;
+
+    private final String message;
+
+    RunnerStatus(String message) {
+        this.message = message;
+    }
+
+    public static RunnerStatus getInstance(String message) {
+        for (RunnerStatus value : RunnerStatus.values()) {
+            if (value.getMessage().equals(message)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
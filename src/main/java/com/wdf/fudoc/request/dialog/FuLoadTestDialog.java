@@ -0,0 +1,72 @@
+package com.wdf.fudoc.request.dialog;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.util.ui.FormBuilder;
+import com.intellij.util.ui.JBUI;
+import com.wdf.fudoc.request.loadtest.FuLoadTestConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * 压测参数配置对话框
+ *
+ * @author wangdingfu
+ * @date 2025-02-21 11:05:32
+ */
+public class FuLoadTestDialog extends DialogWrapper {
+
+    private final JBIntSpinner totalRequestsSpinner;
+    private final JBIntSpinner concurrencySpinner;
+    private final JBIntSpinner rampUpSpinner;
+    private final JBIntSpinner targetRpsSpinner;
+    private final JBCheckBox exportCsvCheckBox;
+
+    public FuLoadTestDialog(@NotNull Project project, String apiName) {
+        super(project);
+        FuLoadTestConfig defaultConfig = new FuLoadTestConfig();
+        this.totalRequestsSpinner = new JBIntSpinner(defaultConfig.getTotalRequests(), 1, 1000000);
+        this.concurrencySpinner = new JBIntSpinner(defaultConfig.getConcurrency(), 1, 10000);
+        this.rampUpSpinner = new JBIntSpinner(defaultConfig.getRampUpSeconds(), 0, 3600);
+        this.targetRpsSpinner = new JBIntSpinner(defaultConfig.getTargetRps(), 0, 100000);
+        this.exportCsvCheckBox = new JBCheckBox("完成后导出每个请求的结果(csv)");
+        init();
+        setTitle("压测 " + apiName);
+    }
+
+    @Override
+    protected @Nullable JComponent createCenterPanel() {
+        JPanel panel = FormBuilder.createFormBuilder()
+                .addLabeledComponent(new JBLabel("总请求数"), totalRequestsSpinner)
+                .addLabeledComponent(new JBLabel("并发数"), concurrencySpinner)
+                .addLabeledComponent(new JBLabel("预热时间(秒)"), rampUpSpinner)
+                .addLabeledComponent(new JBLabel("每秒请求数(0不限制)"), targetRpsSpinner)
+                .addComponent(exportCsvCheckBox)
+                .getPanel();
+        panel.setPreferredSize(JBUI.size(360, 160));
+        return panel;
+    }
+
+    @Override
+    protected @NotNull Action[] createActions() {
+        return new Action[]{getOKAction(), getCancelAction()};
+    }
+
+    public boolean isExportCsv() {
+        return exportCsvCheckBox.isSelected();
+    }
+
+    public FuLoadTestConfig getConfig() {
+        FuLoadTestConfig config = new FuLoadTestConfig();
+        config.setTotalRequests(totalRequestsSpinner.getNumber());
+        config.setConcurrency(concurrencySpinner.getNumber());
+        config.setRampUpSeconds(rampUpSpinner.getNumber());
+        config.setTargetRps(targetRpsSpinner.getNumber());
+        return config;
+    }
+}
@@ -0,0 +1,239 @@
+package com.wdf.fudoc.request.dialog;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.JBUI;
+import com.wdf.fudoc.components.FuTableComponent;
+import com.wdf.fudoc.components.factory.FuTableColumnFactory;
+import com.wdf.fudoc.components.listener.FuTableListener;
+import com.wdf.fudoc.request.constants.enumtype.RunnerStatus;
+import com.wdf.fudoc.request.execute.FuRequestRunner;
+import com.wdf.fudoc.request.manager.FuRequestManager;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.pojo.FuRequestData;
+import com.wdf.fudoc.request.pojo.FuRunnerItemBO;
+import com.wdf.fudoc.util.FuStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 批量执行已保存的请求
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 11:02:15
+ */
+public class FuRequestRunnerDialog extends DialogWrapper {
+
+    private static final String ALL_MODULE = "全部";
+
+    /**
+     * 执行结果汇总中展示的最慢请求数
+     */
+    private static final int SLOWEST_SIZE = 5;
+
+    private final Project project;
+
+    /**
+     * key:module名称 value:moduleId
+     */
+    private final Map<String, String> moduleNameMap = new LinkedHashMap<>();
+
+    private final ComboBox<String> moduleComboBox;
+
+    private final JBIntSpinner parallelismSpinner = new JBIntSpinner(4, 1, 32);
+
+    private final FuTableComponent<FuRunnerItemBO> tableComponent;
+
+    private final JBLabel summaryLabel = new JBLabel();
+
+    private final RunAction runAction = new RunAction();
+
+    private final StopAction stopAction = new StopAction();
+
+    /**
+     * 当前执行的进度 为空表示没有在执行
+     */
+    private ProgressIndicator runIndicator;
+
+    public FuRequestRunnerDialog(@NotNull Project project, String moduleId) {
+        super(project, true);
+        this.project = project;
+        this.moduleNameMap.put(ALL_MODULE, null);
+        FuRequestManager.getModuleMap(project).forEach((key, value) -> this.moduleNameMap.put(value.getName(), key));
+        this.moduleComboBox = new ComboBox<>(this.moduleNameMap.keySet().toArray(new String[0]));
+        this.moduleNameMap.entrySet().stream().filter(f -> Objects.nonNull(moduleId) && moduleId.equals(f.getValue()))
+                .findFirst().ifPresent(f -> this.moduleComboBox.setSelectedItem(f.getKey()));
+        this.moduleComboBox.addActionListener(e -> loadRequest());
+        this.tableComponent = FuTableComponent.create(null, FuTableColumnFactory.requestRunner(), FuRunnerItemBO.class, new FuTableListener<>() {
+            @Override
+            public boolean isCellEditable(int rowIndex, int columnIndex) {
+                //只有选中及优先执行两列可以编辑 执行中不允许编辑
+                return Objects.isNull(runIndicator) && columnIndex < 2;
+            }
+        });
+        this.stopAction.setEnabled(false);
+        setTitle("批量执行请求");
+        setModal(false);
+        init();
+        loadRequest();
+    }
+
+
+    @Override
+    protected @Nullable JComponent createCenterPanel() {
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        topPanel.add(new JBLabel("Module"));
+        topPanel.add(this.moduleComboBox);
+        topPanel.add(new JBLabel("并行数"));
+        topPanel.add(this.parallelismSpinner);
+        JPanel rootPanel = new JPanel(new BorderLayout());
+        rootPanel.add(topPanel, BorderLayout.NORTH);
+        rootPanel.add(this.tableComponent.createMainPanel(), BorderLayout.CENTER);
+        this.summaryLabel.setBorder(JBUI.Borders.empty(5));
+        rootPanel.add(this.summaryLabel, BorderLayout.SOUTH);
+        rootPanel.setPreferredSize(JBUI.size(900, 500));
+        return rootPanel;
+    }
+
+
+    @Override
+    protected Action @NotNull [] createActions() {
+        return new Action[]{this.runAction, this.stopAction, getCancelAction()};
+    }
+
+
+    /**
+     * 加载选中module已保存的请求
+     */
+    private void loadRequest() {
+        String moduleId = this.moduleNameMap.get((String) this.moduleComboBox.getSelectedItem());
+        List<FuRunnerItemBO> itemList = FuRequestManager.getRecentList(this.project, moduleId).stream().map(this::buildItem).collect(Collectors.toList());
+        this.tableComponent.setDataList(itemList);
+        this.summaryLabel.setText("共" + itemList.size() + "个请求");
+    }
+
+
+    private FuRunnerItemBO buildItem(FuHttpRequestData requestData) {
+        FuRunnerItemBO item = new FuRunnerItemBO();
+        FuRequestData request = requestData.getRequest();
+        item.setApiName(requestData.getApiName());
+        if (Objects.nonNull(request)) {
+            item.setMethod(Objects.isNull(request.getRequestType()) ? null : request.getRequestType().getRequestType());
+            item.setUrl(request.getRequestUrl());
+        }
+        item.setRequestData(requestData);
+        return item;
+    }
+
+
+    private void run() {
+        if (Objects.nonNull(this.runIndicator)) {
+            return;
+        }
+        List<FuRunnerItemBO> itemList = this.tableComponent.getDataList();
+        if (itemList.stream().noneMatch(f -> Boolean.TRUE.equals(f.getSelect()))) {
+            this.summaryLabel.setText("请选择需要执行的请求");
+            return;
+        }
+        ProgressIndicator indicator = new EmptyProgressIndicator();
+        this.runIndicator = indicator;
+        switchStatus(true);
+        this.summaryLabel.setText("执行中...");
+        int parallelism = this.parallelismSpinner.getNumber();
+        AppExecutorUtil.getAppExecutorService().execute(() -> {
+            long wallTime = FuRequestRunner.run(this.project, itemList, parallelism,
+                    index -> ApplicationManager.getApplication().invokeLater(() -> this.tableComponent.refreshRow(index), ModalityState.any()), indicator);
+            ApplicationManager.getApplication().invokeLater(() -> {
+                this.runIndicator = null;
+                switchStatus(false);
+                this.summaryLabel.setText(buildSummary(itemList, wallTime));
+            }, ModalityState.any());
+        });
+    }
+
+
+    private void switchStatus(boolean running) {
+        this.runAction.setEnabled(!running);
+        this.stopAction.setEnabled(running);
+        this.moduleComboBox.setEnabled(!running);
+        this.parallelismSpinner.setEnabled(!running);
+    }
+
+
+    /**
+     * 执行结果汇总: 总耗时、成功失败数以及最慢的几个请求
+     */
+    private String buildSummary(List<FuRunnerItemBO> itemList, long wallTime) {
+        Map<String, Long> countMap = itemList.stream().filter(f -> FuStringUtils.isNotBlank(f.getStatus()))
+                .collect(Collectors.groupingBy(FuRunnerItemBO::getStatus, LinkedHashMap::new, Collectors.counting()));
+        StringBuilder summary = new StringBuilder("<html>总耗时: ").append(wallTime).append("ms");
+        for (RunnerStatus runnerStatus : RunnerStatus.values()) {
+            Long count = countMap.get(runnerStatus.getMessage());
+            if (Objects.nonNull(count)) {
+                summary.append(" | ").append(runnerStatus.getMessage()).append(": ").append(count);
+            }
+        }
+        List<FuRunnerItemBO> slowestList = itemList.stream().filter(f -> f.getCostTime() >= 0)
+                .sorted(Comparator.comparingLong(FuRunnerItemBO::getCostTime).reversed()).limit(SLOWEST_SIZE).toList();
+        if (!slowestList.isEmpty()) {
+            summary.append("<br>最慢请求: ");
+            summary.append(slowestList.stream().map(m -> m.getApiName() + "(" + m.getCostTime() + "ms)").collect(Collectors.joining(", ")));
+        }
+        return summary.append("</html>").toString();
+    }
+
+
+    @Override
+    protected void dispose() {
+        if (Objects.nonNull(this.runIndicator)) {
+            this.runIndicator.cancel();
+        }
+        super.dispose();
+    }
+
+
+    private class RunAction extends DialogWrapperAction {
+
+        private RunAction() {
+            super("执行");
+        }
+
+        @Override
+        protected void doAction(ActionEvent e) {
+            run();
+        }
+    }
+
+
+    private class StopAction extends DialogWrapperAction {
+
+        private StopAction() {
+            super("停止");
+        }
+
+        @Override
+        protected void doAction(ActionEvent e) {
+            if (Objects.nonNull(runIndicator)) {
+                runIndicator.cancel();
+            }
+        }
+    }
+}
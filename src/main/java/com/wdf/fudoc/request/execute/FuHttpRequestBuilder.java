@@ -7,6 +7,7 @@ import cn.hutool.http.Method;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
 import com.wdf.fudoc.apidoc.constant.enumtype.RequestParamType;
 import com.wdf.fudoc.apidoc.constant.enumtype.RequestType;
 import com.wdf.fudoc.apidoc.data.FuDocDataContent;
@@ -20,7 +21,9 @@ import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.pojo.FuRequestBodyData;
 import com.wdf.fudoc.request.pojo.FuRequestData;
 import com.wdf.fudoc.spring.SpringBootEnvLoader;
+import com.wdf.fudoc.storage.FuCookieStore;
 import com.wdf.fudoc.util.ObjectUtils;
+import com.wdf.fudoc.util.VariableTemplateUtils;
 import org.apache.commons.collections.CollectionUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
@@ -53,7 +56,12 @@ public class FuHttpRequestBuilder {
 
     private final boolean isScript;
 
-    public FuHttpRequestBuilder(FuHttpRequestData fuHttpRequestData, HttpRequest httpRequest, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
+    /**
+     * 接口所属应用 解析第一个变量时获取
+     */
+    private String applicationName;
+
+    public FuHttpRequestBuilder(Project project, FuHttpRequestData fuHttpRequestData, HttpRequest httpRequest, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
         this.httpRequest = httpRequest;
         this.fuLogger = fuLogger;
         this.configPO = fuRequestConfigPO;
@@ -71,11 +79,6 @@ public class FuHttpRequestBuilder {
         //添加全局请求头
         this.addHeader(this.httpRequest, configPO.getGlobalHeaderList());
 
-        //添加Cookie
-        List<FuCookiePO> cookies = configPO.getCookies();
-        if (CollectionUtils.isNotEmpty(cookies)) {
-            httpRequest.cookie(cookies.stream().map(this::buildCookie).collect(Collectors.toList()));
-        }
         //添加form-data
         addForm(body.getFormDataList(), true);
         //添加x-www-form-urlencoded
@@ -90,6 +93,12 @@ public class FuHttpRequestBuilder {
         String baseUrl = formatBaseUrl(request.getBaseUrl(), request.getPathVariables());
         //设置请求地址(GET请求参数直接在请求地址中)
         httpRequest.setUrl(formatUrl(request.getRequestUrl(baseUrl)));
+
+        //添加Cookie(只添加与请求地址匹配的cookie)
+        List<FuCookiePO> cookies = FuCookieStore.getInstance(project).match(httpRequest.getUrl());
+        if (CollectionUtils.isNotEmpty(cookies)) {
+            httpRequest.cookie(cookies.stream().map(this::buildCookie).collect(Collectors.toList()));
+        }
     }
 
 
@@ -119,15 +128,7 @@ public class FuHttpRequestBuilder {
 
 
     private String formatUrl(String url) {
-        if (url.contains("{{") && url.contains("}}")) {
-            String[] varList = FuStringUtils.substringsBetween(url, "{{", "}}");
-            if (Objects.nonNull(varList)) {
-                for (String variable : varList) {
-                    url = url.replace("{{" + variable + "}}", formatVariable(variable));
-                }
-            }
-        }
-        return url;
+        return VariableTemplateUtils.render(url, this::formatVariable);
     }
 
 
@@ -160,17 +161,17 @@ public class FuHttpRequestBuilder {
 
 
     private String formatValue(String value) {
-        if (FuStringUtils.isNotBlank(value) && value.startsWith("{{") && value.endsWith("}}")) {
-            return formatVariable(FuStringUtils.substringBetween(value, "{{", "}}"));
-        }
-        return value;
+        return VariableTemplateUtils.render(value, this::formatVariable);
     }
 
     private String formatVariable(String variable) {
         if (variable.startsWith(FuDocConstants.FU_AUTH)) {
             return getAuthVariable(variable);
         }
-        return configPO.variable(variable, SpringBootEnvLoader.getApplication(this.module));
+        if (Objects.isNull(this.applicationName)) {
+            this.applicationName = SpringBootEnvLoader.getApplication(this.module);
+        }
+        return configPO.variable(variable, this.applicationName);
     }
 
 
@@ -218,7 +219,7 @@ public class FuHttpRequestBuilder {
     }
 
     private String formatJsonContent(String json) {
-        if (!this.isScript || FuStringUtils.isBlank(json) || !(json.contains("{{") && json.contains("}}"))) {
+        if (!this.isScript || !VariableTemplateUtils.hasVariable(json)) {
             return json;
         }
         try {
@@ -268,11 +269,11 @@ public class FuHttpRequestBuilder {
         }
     }
 
-    public static FuHttpRequestBuilder getInstance(FuHttpRequestData fuHttpRequestData, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
+    public static FuHttpRequestBuilder getInstance(Project project, FuHttpRequestData fuHttpRequestData, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
         FuRequestData request = fuHttpRequestData.getRequest();
         String requestUrl = request.getRequestUrl();
         RequestType requestType = request.getRequestType();
-        return new FuHttpRequestBuilder(fuHttpRequestData, createHttpRequest(requestType, requestUrl), fuRequestConfigPO, fuLogger);
+        return new FuHttpRequestBuilder(project, fuHttpRequestData, createHttpRequest(requestType, requestUrl), fuRequestConfigPO, fuLogger);
     }
 
     public HttpRequest builder() {
@@ -1,10 +1,11 @@
 package com.wdf.fudoc.request.execute;
 
+import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.file.FileNameUtil;
 import cn.hutool.core.util.CharsetUtil;
-import cn.hutool.http.HttpResponse;
 import cn.hutool.http.HttpUtil;
 import com.wdf.fudoc.request.constants.enumtype.ResponseType;
+import com.wdf.fudoc.request.execute.transport.FuHttpResponse;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.pojo.FuResponseData;
 import com.wdf.fudoc.util.HttpResponseUtil;
@@ -32,13 +33,12 @@ public class FuHttpResponseBuilder {
      * @param fuHttpRequestData http请求数据对象
      * @param httpResponse      http响应数据
      */
-    public static void buildSuccessResponse(FuHttpRequestData fuHttpRequestData, HttpResponse httpResponse) {
+    public static void buildSuccessResponse(FuHttpRequestData fuHttpRequestData, FuHttpResponse httpResponse) {
         FuResponseData response = ifNecessaryCreateResponse(fuHttpRequestData);
-        response.setHttpResponse(httpResponse);
-        response.setBody(httpResponse.bodyBytes());
+        clearBody(response);
         response.setStatus(httpResponse.getStatus());
         fuHttpRequestData.setHttpCode(httpResponse.getStatus());
-        Map<String, List<String>> headers = httpResponse.headers();
+        Map<String, List<String>> headers = httpResponse.getHeaders();
         if(MapUtils.isNotEmpty(headers)){
             Map<String, List<String>> responseHeaders = new HashMap<>(headers);
             responseHeaders.remove(null);
@@ -50,15 +50,56 @@ public class FuHttpResponseBuilder {
                 response.setContentType(contentType);
             }
         }
-        response.setContentLength(httpResponse.contentLength());
+        //响应内容实际大小(已解压)
+        response.setContentLength(httpResponse.getBodyLength());
         response.setResponseType(ResponseType.SUCCESS);
+        if (httpResponse.isSpilled()) {
+            response.setBodyFile(httpResponse.getBodyFile().getAbsolutePath());
+        }
         String fileNameFromDisposition = HttpResponseUtil.getFileNameFromDisposition(httpResponse);
         if (FuStringUtils.isNotBlank(fileNameFromDisposition)) {
             response.setFileName(FileNameUtil.cleanInvalid(fileNameFromDisposition));
+            response.setBody(httpResponse.getBody());
         } else {
-            //只有当不是文件时 才将body中的内容写入content中
-            response.setContent(HttpUtil.getString(response.getBody(), CharsetUtil.CHARSET_UTF_8, null == response.getCharsetFromResponse()));
+            //只有当不是文件时 才将body中的内容写入content中(内容已转存到文件时只读取开头部分用于展示)
+            response.setContent(httpResponse.bodyString());
+            response.setTruncated(httpResponse.isSpilled());
+        }
+    }
+
+
+    /**
+     * 获取完整的响应内容(内容已转存到文件时从文件中读取)
+     *
+     * @param response 响应数据
+     * @return 完整的响应内容
+     */
+    public static String getFullContent(FuResponseData response) {
+        if (Objects.isNull(response)) {
+            return null;
+        }
+        String bodyFile = response.getBodyFile();
+        if (!response.isTruncated() || FuStringUtils.isBlank(bodyFile) || !FileUtil.exist(bodyFile)) {
+            return response.getContent();
+        }
+        String charsetName = HttpUtil.getCharset(response.getContentType());
+        return FileUtil.readString(bodyFile, CharsetUtil.parse(charsetName, CharsetUtil.CHARSET_UTF_8));
+    }
+
+
+    /**
+     * 清除上一次请求的响应内容
+     */
+    public static void clearBody(FuResponseData response) {
+        if (FuStringUtils.isNotBlank(response.getBodyFile())) {
+            FileUtil.del(response.getBodyFile());
         }
+        response.setBody(null);
+        response.setBodyFile(null);
+        response.setTruncated(false);
+        response.setContent(null);
+        response.setFileName(null);
+        response.setFilePath(null);
     }
 
 
@@ -0,0 +1,206 @@
+package com.wdf.fudoc.request.execute;
+
+import com.google.common.collect.Lists;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.apidoc.data.FuDocData;
+import com.wdf.fudoc.apidoc.data.FuDocDataContent;
+import com.wdf.fudoc.console.FuConsoleLogger;
+import com.wdf.fudoc.console.FuLogger;
+import com.wdf.fudoc.request.constants.enumtype.RunnerStatus;
+import com.wdf.fudoc.request.manager.FuRequestManager;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.pojo.FuResponseData;
+import com.wdf.fudoc.request.pojo.FuRunnerItemBO;
+import com.wdf.fudoc.spring.SpringBootEnvLoader;
+import com.wdf.fudoc.storage.FuRequestConfigStorage;
+import com.wdf.fudoc.util.FuStringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量执行已保存的请求
+ * <p>
+ * 执行顺序:
+ * 1. 每个应用的全局前置脚本只执行一次
+ * 2. 标记为优先执行的请求(例如登录接口)按顺序逐个执行 有一个失败则跳过其余所有请求
+ * 3. 其余请求按指定的并行数并行执行
+ * 请求的响应不会覆盖已保存的请求记录
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 10:30:52
+ */
+@Slf4j
+public class FuRequestRunner {
+
+    /**
+     * 批量执行时不输出单个请求的日志
+     */
+    private static final FuLogger SILENT_LOGGER = new FuConsoleLogger(null);
+
+    /**
+     * 等待并行请求执行完成时检查是否取消的间隔
+     */
+    private static final long WAIT_INTERVAL_MILLIS = 200;
+
+
+    /**
+     * 请求执行状态变更监听
+     */
+    public interface RunnerListener {
+
+        /**
+         * 请求执行状态变更(在后台线程中回调)
+         *
+         * @param index 请求在列表中的位置
+         */
+        void onChange(int index);
+    }
+
+
+    /**
+     * 执行选中的请求(需要在后台线程中调用)
+     *
+     * @param project     当前项目
+     * @param itemList    请求列表(只执行选中的请求 执行结果直接写入列表中)
+     * @param parallelism 并行数
+     * @param listener    执行状态变更监听
+     * @param indicator   取消后不再发起新的请求
+     * @return 总耗时(单位:ms)
+     */
+    public static long run(Project project, List<FuRunnerItemBO> itemList, int parallelism, RunnerListener listener, ProgressIndicator indicator) {
+        long start = System.currentTimeMillis();
+        List<Integer> firstList = Lists.newArrayList();
+        List<Integer> parallelList = Lists.newArrayList();
+        for (int index = 0; index < itemList.size(); index++) {
+            FuRunnerItemBO item = itemList.get(index);
+            reset(item);
+            if (Boolean.TRUE.equals(item.getSelect())) {
+                item.setStatus(RunnerStatus.WAITING.getMessage());
+                (Boolean.TRUE.equals(item.getFirst()) ? firstList : parallelList).add(index);
+            }
+            listener.onChange(index);
+        }
+        FuRequestConfigPO configPO = FuRequestConfigStorage.get(project).readData();
+        Map<String, Module> moduleMap = FuRequestManager.getModuleMap(project);
+        //每个应用的前置脚本只执行一次
+        Set<String> applicationSet = new HashSet<>();
+        for (FuRunnerItemBO item : itemList) {
+            Module module = moduleMap.get(item.getRequestData().getModuleId());
+            if (Boolean.TRUE.equals(item.getSelect()) && Objects.nonNull(module) && applicationSet.add(SpringBootEnvLoader.getApplication(module))) {
+                HttpApiExecutor.doPreScript(project, module, configPO, SILENT_LOGGER);
+            }
+        }
+
+        //优先执行的请求逐个执行
+        for (Integer index : firstList) {
+            if (indicator.isCanceled() || !execute(project, itemList.get(index), index, moduleMap, configPO, listener)) {
+                skip(itemList, listener);
+                return System.currentTimeMillis() - start;
+            }
+        }
+
+        //其余请求并行执行
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("Fu Request Runner", Math.max(1, parallelism));
+        CountDownLatch latch = new CountDownLatch(parallelList.size());
+        for (Integer index : parallelList) {
+            executor.execute(() -> {
+                try {
+                    if (!indicator.isCanceled()) {
+                        execute(project, itemList.get(index), index, moduleMap, configPO, listener);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            while (!latch.await(WAIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (indicator.isCanceled()) {
+                    //已取消时不等待正在进行的请求
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        skip(itemList, listener);
+        return System.currentTimeMillis() - start;
+    }
+
+
+    /**
+     * 执行单个请求
+     *
+     * @return true: 请求成功
+     */
+    private static boolean execute(Project project, FuRunnerItemBO item, int index, Map<String, Module> moduleMap,
+                                   FuRequestConfigPO configPO, RunnerListener listener) {
+        item.setStatus(RunnerStatus.RUNNING.getMessage());
+        listener.onChange(index);
+        FuHttpRequestData requestData = item.getRequestData().copy();
+        Module module = moduleMap.get(requestData.getModuleId());
+        requestData.setModule(module);
+        //解析变量时需要读取接口所属的应用
+        FuDocDataContent.setData(FuDocData.builder().module(module).build());
+        try {
+            HttpExecutor.execute(project, requestData, configPO, SILENT_LOGGER);
+        } catch (Exception e) {
+            log.info("批量执行请求【{}】异常", requestData.getApiName(), e);
+        } finally {
+            FuDocDataContent.remove();
+        }
+        FuResponseData response = requestData.getResponse();
+        boolean success = requestData.isOk();
+        long time = Objects.isNull(requestData.getTime()) ? 0 : requestData.getTime();
+        item.setCostTime(time);
+        item.setTime(String.valueOf(time));
+        item.setHttpCode(Objects.isNull(requestData.getHttpCode()) ? null : String.valueOf(requestData.getHttpCode()));
+        item.setStatus((success ? RunnerStatus.SUCCESS : RunnerStatus.FAIL).getMessage());
+        if (!success) {
+            item.setErrorMsg(Objects.isNull(response) ? "接口请求地址不合法"
+                    : FuStringUtils.defaultIfBlank(response.getErrorDetail(), "HTTP " + requestData.getHttpCode()));
+        }
+        if (Objects.nonNull(response)) {
+            //只保留执行结果 响应内容不再需要
+            FuHttpResponseBuilder.clearBody(response);
+        }
+        listener.onChange(index);
+        return success;
+    }
+
+
+    /**
+     * 将未执行的请求标记为已跳过
+     */
+    private static void skip(List<FuRunnerItemBO> itemList, RunnerListener listener) {
+        for (int index = 0; index < itemList.size(); index++) {
+            FuRunnerItemBO item = itemList.get(index);
+            if (RunnerStatus.WAITING.getMessage().equals(item.getStatus())) {
+                item.setStatus(RunnerStatus.SKIPPED.getMessage());
+                listener.onChange(index);
+            }
+        }
+    }
+
+
+    private static void reset(FuRunnerItemBO item) {
+        item.setStatus(null);
+        item.setHttpCode(null);
+        item.setTime(null);
+        item.setErrorMsg(null);
+        item.setCostTime(-1);
+    }
+}
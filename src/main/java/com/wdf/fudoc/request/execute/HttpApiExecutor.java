@@ -35,8 +35,24 @@ public class HttpApiExecutor {
         long start = System.currentTimeMillis();
         FuRequestConfigStorage fuRequestConfigStorage = FuRequestConfigStorage.get(project);
         FuRequestConfigPO fuRequestConfigPO = fuRequestConfigStorage.readData();
+        doPreScript(project, fuHttpRequestData.getModule(), fuRequestConfigPO, fuLogger);
+        log.info("执行脚本共计耗时:{}ms", System.currentTimeMillis() - start);
+        //发起请求
+        long start1 = System.currentTimeMillis();
+        HttpExecutor.execute(project, fuHttpRequestData, fuRequestConfigPO, fuLogger);
+        log.info("发起[{}]接口请求共计耗时:{}ms", fuHttpRequestData.getApiName(), System.currentTimeMillis() - start1);
+    }
+
 
-        Module module = fuHttpRequestData.getModule();
+    /**
+     * 执行接口所属应用配置的全局前置脚本
+     *
+     * @param project           当前项目
+     * @param module            接口所属module 为空时不执行
+     * @param fuRequestConfigPO 【Fu Request】配置
+     * @return true: 执行了前置脚本
+     */
+    public static boolean doPreScript(Project project, Module module, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
         String application;
         GlobalPreScriptPO globalPreScriptPO;
         if (Objects.nonNull(module) && FuStringUtils.isNotBlank(application = SpringBootEnvLoader.getApplication(module))
@@ -45,11 +61,8 @@ public class HttpApiExecutor {
             fuLogger.setPrefix(ScriptType.PRE_SCRIPT.getView());
             JsExecutor.execute(new FuContext(project, fuRequestConfigPO, globalPreScriptPO, fuLogger));
             fuLogger.setPrefix(null);
+            return true;
         }
-        log.info("执行脚本共计耗时:{}ms", System.currentTimeMillis() - start);
-        //发起请求
-        long start1 = System.currentTimeMillis();
-        HttpExecutor.execute(fuHttpRequestData, fuRequestConfigPO, fuLogger);
-        log.info("发起[{}]接口请求共计耗时:{}ms", fuHttpRequestData.getApiName(), System.currentTimeMillis() - start1);
+        return false;
     }
 }
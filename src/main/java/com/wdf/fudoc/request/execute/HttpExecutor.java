@@ -1,27 +1,30 @@
 package com.wdf.fudoc.request.execute;
 
-import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.URLUtil;
 import cn.hutool.http.HttpRequest;
-import cn.hutool.http.HttpResponse;
+import com.intellij.openapi.project.Project;
 import com.wdf.fudoc.console.FuLogger;
 import com.wdf.fudoc.request.constants.enumtype.RequestStatus;
 import com.wdf.fudoc.request.constants.enumtype.ResponseType;
+import com.wdf.fudoc.request.execute.transport.FuHttpResponse;
+import com.wdf.fudoc.request.execute.transport.FuHttpTransport;
+import com.wdf.fudoc.request.execute.transport.FuHttpTransportManager;
 import com.wdf.fudoc.request.manager.FuRequestConsoleManager;
-import com.wdf.fudoc.request.po.FuCookiePO;
 import com.wdf.fudoc.request.po.FuRequestConfigPO;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.pojo.FuResponseData;
+import com.wdf.fudoc.storage.FuCookieStore;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.net.ConnectException;
 import java.net.HttpCookie;
+import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.net.http.HttpTimeoutException;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 
 /**
@@ -34,9 +37,10 @@ public class HttpExecutor {
     /**
      * 执行请求
      *
+     * @param project           当前项目(同一个项目的请求共用连接池)
      * @param fuHttpRequestData 发起http所需的数据对象
      */
-    public static void execute(FuHttpRequestData fuHttpRequestData, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
+    public static void execute(Project project, FuHttpRequestData fuHttpRequestData, FuRequestConfigPO fuRequestConfigPO, FuLogger fuLogger) {
         long start = System.currentTimeMillis();
         String requestUrl = fuHttpRequestData.getRequest().getRequestUrl();
         if (FuStringUtils.isBlank(requestUrl)) {
@@ -49,16 +53,19 @@ public class HttpExecutor {
             return;
         }
         //将【Fu Request】请求数据对象转换为http请求数据
-        HttpRequest httpRequest = FuHttpRequestBuilder.getInstance(fuHttpRequestData, fuRequestConfigPO, fuLogger).builder();
+        HttpRequest httpRequest = FuHttpRequestBuilder.getInstance(project, fuHttpRequestData, fuRequestConfigPO, fuLogger).builder();
+        FuHttpTransport fuHttpTransport = FuHttpTransportManager.getInstance(project).getTransport(fuRequestConfigPO);
         RequestStatus requestStatus = RequestStatus.FAIL;
+        fuHttpRequestData.setTiming(null);
         try {
-            HttpResponse httpResponse = httpRequest.execute();
+            FuHttpResponse httpResponse = fuHttpTransport.execute(httpRequest, fuRequestConfigPO);
             requestStatus = RequestStatus.SUCCESS;
+            fuHttpRequestData.setTiming(httpResponse.getTiming());
             FuHttpResponseBuilder.buildSuccessResponse(fuHttpRequestData, httpResponse);
             //将cookie保存在当前项目下
             List<HttpCookie> cookies = httpResponse.getCookies();
             if (CollectionUtils.isNotEmpty(cookies)) {
-                fuRequestConfigPO.addCookies(cookies.stream().map(HttpExecutor::buildCookie).collect(Collectors.toList()));
+                FuCookieStore.getInstance(project).store(httpRequest.getUrl(), cookies);
             }
             //记录日志到Console中展示
             FuRequestConsoleManager.requestConsole(fuLogger, httpRequest, httpResponse);
@@ -68,9 +75,13 @@ public class HttpExecutor {
 
             // IDEA 2025.1+ 修复: 安全处理异常信息,防止 NPE
             Throwable cause = e.getCause();
-            if (cause instanceof ConnectException) {
-                fuResponseData.setErrorDetail("错误：connect ECONNREFUSED " + httpRequest.getConnection().getUrl().getAuthority());
-                fuResponseData.setResponseType(ResponseType.ERR_CONNECTION_REFUSED);
+            ResponseType responseType = getErrorType(e);
+            fuResponseData.setResponseType(responseType);
+            if (ResponseType.ERR_CONNECTION_REFUSED.equals(responseType)) {
+                fuResponseData.setErrorDetail("错误：connect ECONNREFUSED " + urlForHttp.getAuthority());
+            } else if (ResponseType.TIME_OUT.equals(responseType)) {
+                requestStatus = RequestStatus.TIMEOUT;
+                fuResponseData.setErrorDetail("错误：请求超时 " + urlForHttp.getAuthority());
             } else {
                 // 优先使用 cause 的消息,如果没有 cause 则使用异常本身的消息
                 String errorMessage = cause != null ? cause.getMessage() : e.getMessage();
@@ -78,7 +89,6 @@ public class HttpExecutor {
                     errorMessage = e.getClass().getSimpleName();
                 }
                 fuResponseData.setErrorDetail(errorMessage);
-                fuResponseData.setResponseType(ResponseType.ERR_UNKNOWN);
             }
             //记录日志到Console中展示
             FuRequestConsoleManager.requestConsole(fuLogger, httpRequest, e);
@@ -90,10 +100,21 @@ public class HttpExecutor {
         }
     }
 
-    private static FuCookiePO buildCookie(HttpCookie httpCookie) {
-        FuCookiePO fuCookiePO = new FuCookiePO();
-        BeanUtil.copyProperties(httpCookie, fuCookiePO);
-        return fuCookiePO;
+    /**
+     * 根据请求异常判断响应类型
+     *
+     * @param e 发起请求时抛出的异常
+     * @return 拒绝连接、超时或未知错误
+     */
+    public static ResponseType getErrorType(Exception e) {
+        Throwable cause = e.getCause();
+        if (e instanceof ConnectException || cause instanceof ConnectException) {
+            return ResponseType.ERR_CONNECTION_REFUSED;
+        }
+        if (e instanceof HttpTimeoutException || cause instanceof SocketTimeoutException) {
+            return ResponseType.TIME_OUT;
+        }
+        return ResponseType.ERR_UNKNOWN;
     }
 
 
@@ -0,0 +1,83 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.IdUtil;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.wdf.fudoc.common.constant.FuDocConstants;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 暂存响应内容的临时文件管理(应用级别)
+ * <p>
+ * 本次IDE运行期间的临时文件都放在同一个目录下 IDE退出(服务销毁)时删除整个目录
+ * 上次未正常退出遗留的目录在首次创建临时文件时清理
+ *
+ * @author wangdingfu
+ * @date 2025-02-20 10:36:12
+ */
+@Slf4j
+public class FuHttpBodyFileManager implements Disposable {
+
+    /**
+     * 遗留目录超过该时间未修改时清理(避免删除同时运行的其他IDE实例的目录)
+     */
+    private static final long STALE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private File sessionDir;
+
+    public static FuHttpBodyFileManager getInstance() {
+        return ApplicationManager.getApplication().getService(FuHttpBodyFileManager.class);
+    }
+
+
+    /**
+     * 创建暂存响应内容的临时文件
+     *
+     * @return 临时文件
+     */
+    public synchronized File createBodyFile() {
+        if (Objects.isNull(sessionDir)) {
+            File bodyDir = FileUtil.file(FileUtil.getTmpDir(), FuDocConstants.FU_DOC_PATH, FuDocConstants.FU_REQUEST_PATH, "body");
+            cleanStale(bodyDir);
+            sessionDir = FileUtil.mkdir(FileUtil.file(bodyDir, IdUtil.fastSimpleUUID()));
+        }
+        return FileUtil.touch(FileUtil.file(sessionDir, IdUtil.fastUUID() + ".body"));
+    }
+
+
+    private void cleanStale(File bodyDir) {
+        File[] files = bodyDir.listFiles();
+        if (Objects.isNull(files)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (File file : files) {
+            if (now - file.lastModified() > STALE_MILLIS) {
+                delete(file);
+            }
+        }
+    }
+
+
+    @Override
+    public synchronized void dispose() {
+        if (Objects.nonNull(sessionDir)) {
+            delete(sessionDir);
+            sessionDir = null;
+        }
+    }
+
+
+    private void delete(File file) {
+        try {
+            FileUtil.del(file);
+        } catch (Exception e) {
+            log.info("删除响应内容临时文件【{}】失败", file, e);
+        }
+    }
+}
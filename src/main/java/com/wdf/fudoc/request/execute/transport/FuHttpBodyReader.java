@@ -0,0 +1,141 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.core.io.FileUtil;
+import com.wdf.fudoc.util.FuStringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 读取响应内容
+ * <p>
+ * 边下载边读取 响应内容超过阈值后转存到临时文件中 避免大响应(导出文件、大列表)全部加载到内存
+ *
+ * @author wangdingfu
+ * @date 2025-02-20 09:52:31
+ */
+public class FuHttpBodyReader {
+
+    /**
+     * 响应内容超过该大小后写入临时文件
+     */
+    public static final int SPILL_THRESHOLD = 4 * 1024 * 1024;
+
+    /**
+     * 转存到文件的响应内容 只读取该大小的内容用于展示
+     */
+    public static final int PREVIEW_SIZE = 1024 * 1024;
+
+
+    /**
+     * 读取响应内容到响应对象中(读取完毕后关闭输入流)
+     *
+     * @param inputStream     响应内容输入流
+     * @param contentEncoding 响应内容压缩方式 为空时表示输入流已解压
+     * @param fuHttpResponse  响应对象
+     */
+    public static void read(InputStream inputStream, String contentEncoding, FuHttpResponse fuHttpResponse) throws IOException {
+        File bodyFile = null;
+        OutputStream fileOutputStream = null;
+        try (InputStream in = decode(inputStream, contentEncoding)) {
+            ByteArrayOutputStream memory = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                length += read;
+                if (Objects.isNull(fileOutputStream) && length > SPILL_THRESHOLD) {
+                    //超过阈值 已读取的内容和剩余内容都写入临时文件
+                    bodyFile = FuHttpBodyFileManager.getInstance().createBodyFile();
+                    fileOutputStream = new BufferedOutputStream(Files.newOutputStream(bodyFile.toPath()));
+                    memory.writeTo(fileOutputStream);
+                    memory = null;
+                }
+                if (Objects.nonNull(fileOutputStream)) {
+                    fileOutputStream.write(buffer, 0, read);
+                } else {
+                    memory.write(buffer, 0, read);
+                }
+            }
+            if (Objects.nonNull(fileOutputStream)) {
+                fileOutputStream.close();
+                fuHttpResponse.setBodyFile(bodyFile);
+            } else {
+                fuHttpResponse.setBody(memory.toByteArray());
+            }
+            fuHttpResponse.setBodyLength(length);
+        } catch (IOException | RuntimeException e) {
+            if (Objects.nonNull(bodyFile)) {
+                closeQuietly(fileOutputStream);
+                FileUtil.del(bodyFile);
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * 读取文件开头的内容(不会将整个文件加载到内存)
+     * <p>
+     * 不使用内存映射 映射在被回收前会锁住文件(Windows) 导致清除响应内容时无法删除该文件
+     *
+     * @param file     响应内容文件
+     * @param charset  编码
+     * @param maxBytes 最多读取的字节数
+     * @return 文件开头的内容
+     */
+    public static String readPrefix(File file, Charset charset, int maxBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), maxBytes));
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                //继续读取直到读满或者文件结束
+            }
+            buffer.flip();
+            return charset.decode(buffer).toString();
+        }
+    }
+
+
+    private static InputStream decode(InputStream inputStream, String contentEncoding) throws IOException {
+        if (FuStringUtils.isBlank(contentEncoding)) {
+            return inputStream;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (!"gzip".equals(encoding) && !"deflate".equals(encoding)) {
+            return inputStream;
+        }
+        //没有响应内容时(例如HEAD请求)无需解压
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, 1);
+        int first = pushbackInputStream.read();
+        if (first == -1) {
+            return pushbackInputStream;
+        }
+        pushbackInputStream.unread(first);
+        return "gzip".equals(encoding) ? new GZIPInputStream(pushbackInputStream) : new InflaterInputStream(pushbackInputStream);
+    }
+
+
+    private static void closeQuietly(OutputStream outputStream) {
+        try {
+            if (Objects.nonNull(outputStream)) {
+                outputStream.close();
+            }
+        } catch (IOException ignored) {
+            //已经在处理异常 忽略关闭时的异常
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.http.Header;
+import cn.hutool.http.HttpUtil;
+import com.google.common.collect.Lists;
+import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.HttpResponseUtil;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * http响应结果(与发起请求的方式无关)
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 10:31:20
+ */
+@Slf4j
+@Getter
+@Setter
+public class FuHttpResponse {
+
+    /**
+     * http协议版本 例如:HTTP/1.1
+     */
+    private String httpVersion;
+
+    /**
+     * 响应状态码
+     */
+    private int status;
+
+    /**
+     * 响应头
+     */
+    private Map<String, List<String>> headers;
+
+    /**
+     * 响应内容(已解压) 响应内容过大时为空 内容在{@link #bodyFile}中
+     */
+    private byte[] body;
+
+    /**
+     * 响应内容超过{@link FuHttpBodyReader#SPILL_THRESHOLD}时暂存的临时文件
+     */
+    private File bodyFile;
+
+    /**
+     * 响应内容实际大小(已解压) 单位:字节
+     */
+    private long bodyLength;
+
+    /**
+     * 各阶段耗时
+     */
+    private FuHttpTiming timing = new FuHttpTiming();
+
+
+    /**
+     * 获取响应头(忽略大小写)
+     */
+    public String header(String name) {
+        return HttpResponseUtil.getFirstHeaderIgnoreCase(this.headers, name);
+    }
+
+    /**
+     * 响应内容是否已转存到临时文件
+     */
+    public boolean isSpilled() {
+        return Objects.nonNull(this.bodyFile);
+    }
+
+    /**
+     * 按响应头中的编码读取响应内容 响应头中未指定编码时从内容中识别 默认utf-8
+     * 响应内容已转存到临时文件时只读取开头{@link FuHttpBodyReader#PREVIEW_SIZE}大小的内容
+     */
+    public String bodyString() {
+        String charsetName = HttpUtil.getCharset(header(Header.CONTENT_TYPE.getValue()));
+        Charset charset = CharsetUtil.parse(charsetName, CharsetUtil.CHARSET_UTF_8);
+        if (isSpilled()) {
+            try {
+                return FuHttpBodyReader.readPrefix(this.bodyFile, charset, FuHttpBodyReader.PREVIEW_SIZE);
+            } catch (IOException e) {
+                log.info("读取响应内容文件【{}】失败", this.bodyFile.getAbsolutePath(), e);
+                return null;
+            }
+        }
+        if (Objects.isNull(this.body)) {
+            return null;
+        }
+        return HttpUtil.getString(this.body, charset, FuStringUtils.isBlank(charsetName));
+    }
+
+    /**
+     * 读取响应头中的cookie
+     */
+    public List<HttpCookie> getCookies() {
+        List<HttpCookie> cookieList = Lists.newArrayList();
+        for (String setCookie : HttpResponseUtil.getHeaderIgnoreCase(this.headers, Header.SET_COOKIE.getValue())) {
+            try {
+                cookieList.addAll(HttpCookie.parse(setCookie));
+            } catch (IllegalArgumentException e) {
+                log.info("解析cookie【{}】失败", setCookie, e);
+            }
+        }
+        return cookieList;
+    }
+}
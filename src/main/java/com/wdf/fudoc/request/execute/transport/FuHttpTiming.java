@@ -0,0 +1,30 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * http请求各阶段耗时 单位:ms 小于0表示当前请求方式无法统计该阶段
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 10:35:12
+ */
+@Getter
+@Setter
+public class FuHttpTiming {
+
+    /**
+     * 建立连接耗时(复用连接时为0)
+     */
+    private long connect = -1;
+
+    /**
+     * 发送请求到收到响应头的耗时(TTFB)
+     */
+    private long waiting = -1;
+
+    /**
+     * 读取响应内容耗时
+     */
+    private long download = -1;
+}
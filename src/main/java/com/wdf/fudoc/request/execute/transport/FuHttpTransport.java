@@ -0,0 +1,27 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.http.HttpRequest;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+
+import java.io.IOException;
+
+/**
+ * 发起http请求
+ * <p>
+ * {@link com.wdf.fudoc.request.execute.FuHttpRequestBuilder}负责将【Fu Request】请求数据组装成请求对象 具体如何发起请求由实现类决定
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 10:28:45
+ */
+public interface FuHttpTransport {
+
+    /**
+     * 发起http请求(同步 需要在后台线程中调用)
+     *
+     * @param httpRequest 组装好的请求对象
+     * @param configPO    【Fu Request】配置(超时时间等)
+     * @return 响应结果(响应内容已读取完毕)
+     * @throws IOException 请求失败
+     */
+    FuHttpResponse execute(HttpRequest httpRequest, FuRequestConfigPO configPO) throws IOException;
+}
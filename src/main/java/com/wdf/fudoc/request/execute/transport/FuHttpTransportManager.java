@@ -0,0 +1,58 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.wdf.fudoc.request.constants.enumtype.HttpTransportType;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+
+import java.util.Objects;
+
+/**
+ * 【Fu Request】发起请求方式管理(项目级别)
+ * <p>
+ * 同一个项目内的请求共用一个HttpClient 保持连接复用 避免每次请求都重新建立TCP/TLS连接
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 11:40:18
+ */
+public class FuHttpTransportManager implements Disposable {
+
+    private JdkHttpTransport jdkHttpTransport;
+
+    public static FuHttpTransportManager getInstance(Project project) {
+        return project.getService(FuHttpTransportManager.class);
+    }
+
+
+    /**
+     * 根据配置获取发起请求的方式
+     *
+     * @param configPO 【Fu Request】配置
+     * @return 发起请求的方式
+     */
+    public synchronized FuHttpTransport getTransport(FuRequestConfigPO configPO) {
+        if (HttpTransportType.HUTOOL.equals(HttpTransportType.getByCode(configPO.getHttpTransport()))) {
+            return HutoolHttpTransport.INSTANCE;
+        }
+        if (Objects.isNull(jdkHttpTransport) || jdkHttpTransport.getConnectTimeout() != configPO.getConnectTimeout()) {
+            //连接超时时间变更后重新创建连接池
+            close();
+            jdkHttpTransport = new JdkHttpTransport(configPO.getConnectTimeout());
+        }
+        return jdkHttpTransport;
+    }
+
+
+    private void close() {
+        if (Objects.nonNull(jdkHttpTransport)) {
+            jdkHttpTransport.close();
+            jdkHttpTransport = null;
+        }
+    }
+
+
+    @Override
+    public synchronized void dispose() {
+        close();
+    }
+}
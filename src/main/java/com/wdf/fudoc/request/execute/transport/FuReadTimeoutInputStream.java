@@ -0,0 +1,119 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应内容读取超时控制
+ * <p>
+ * HttpClient的请求超时只覆盖到收到响应头为止 读取响应内容时一直等不到数据会永久阻塞
+ * 单次读取等待超过超时时间时中断读取线程 与hutool的读取超时语义一致(两次收到数据之间的最长等待时间 不限制整体下载时间)
+ *
+ * @author wangdingfu
+ * @date 2025-03-12 16:08:25
+ */
+public class FuReadTimeoutInputStream extends FilterInputStream {
+
+    /**
+     * 检查是否超时的最小间隔(单位:ms)
+     */
+    private static final long MIN_CHECK_INTERVAL = 50;
+
+    private final long timeout;
+
+    private final ScheduledFuture<?> checkFuture;
+
+    /**
+     * 本次读取开始的时间
+     */
+    private volatile long readStart;
+
+    /**
+     * 正在读取的线程 没有在读取时为null
+     */
+    private Thread readThread;
+
+    private volatile boolean timedOut;
+
+
+    public FuReadTimeoutInputStream(InputStream in, long timeout) {
+        super(in);
+        this.timeout = timeout;
+        long interval = Math.max(timeout / 4, MIN_CHECK_INTERVAL);
+        this.checkFuture = AppExecutorUtil.getAppScheduledExecutorService().scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+
+    @Override
+    public int read() throws IOException {
+        begin();
+        try {
+            return super.read();
+        } catch (IOException e) {
+            throw timedOut ? timeoutException() : e;
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        begin();
+        try {
+            return super.read(b, off, len);
+        } catch (IOException e) {
+            throw timedOut ? timeoutException() : e;
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        checkFuture.cancel(false);
+        super.close();
+    }
+
+
+    private synchronized void begin() throws IOException {
+        if (timedOut) {
+            throw timeoutException();
+        }
+        readStart = System.currentTimeMillis();
+        readThread = Thread.currentThread();
+    }
+
+
+    private void end() {
+        synchronized (this) {
+            readThread = null;
+        }
+        if (timedOut) {
+            //清除超时时设置的中断标识 避免影响后续操作
+            Thread.interrupted();
+        }
+    }
+
+
+    /**
+     * 定时检查 读取等待超时时中断读取线程(HttpClient的响应流在中断后会关闭并抛出异常)
+     */
+    private synchronized void check() {
+        if (Objects.nonNull(readThread) && !timedOut && System.currentTimeMillis() - readStart >= timeout) {
+            timedOut = true;
+            readThread.interrupt();
+        }
+    }
+
+
+    private SocketTimeoutException timeoutException() {
+        return new SocketTimeoutException("读取响应内容超时(超过" + timeout + "ms未收到数据)");
+    }
+}
@@ -0,0 +1,46 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.http.HttpRequest;
+import cn.hutool.http.HttpResponse;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通过hutool(HttpURLConnection)发起请求 连接由HttpURLConnection自行复用 不支持HTTP/2
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 10:48:03
+ */
+public class HutoolHttpTransport implements FuHttpTransport {
+
+    public static final HutoolHttpTransport INSTANCE = new HutoolHttpTransport();
+
+    @Override
+    public FuHttpResponse execute(HttpRequest httpRequest, FuRequestConfigPO configPO) throws IOException {
+        if (configPO.getConnectTimeout() > 0) {
+            httpRequest.setConnectionTimeout(configPO.getConnectTimeout());
+        }
+        if (configPO.getReadTimeout() > 0) {
+            httpRequest.setReadTimeout(configPO.getReadTimeout());
+        }
+        long start = System.nanoTime();
+        //异步模式下只读取响应头 响应内容在读取时才会下载
+        try (HttpResponse httpResponse = httpRequest.executeAsync()) {
+            long headerTime = System.nanoTime();
+            FuHttpResponse fuHttpResponse = new FuHttpResponse();
+            //hutool返回的输入流已解压
+            FuHttpBodyReader.read(httpResponse.bodyStream(), null, fuHttpResponse);
+            long end = System.nanoTime();
+            fuHttpResponse.setHttpVersion(httpResponse.httpVersion());
+            fuHttpResponse.setStatus(httpResponse.getStatus());
+            fuHttpResponse.setHeaders(new HashMap<>(httpResponse.headers()));
+            FuHttpTiming timing = fuHttpResponse.getTiming();
+            timing.setWaiting(TimeUnit.NANOSECONDS.toMillis(headerTime - start));
+            timing.setDownload(TimeUnit.NANOSECONDS.toMillis(end - headerTime));
+            return fuHttpResponse;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.wdf.fudoc.request.execute.transport;
+
+import cn.hutool.core.io.resource.Resource;
+import cn.hutool.core.net.url.UrlBuilder;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.http.ContentType;
+import cn.hutool.http.Header;
+import cn.hutool.http.HttpRequest;
+import cn.hutool.http.HttpUtil;
+import cn.hutool.http.Method;
+import cn.hutool.http.body.FormUrlEncodedBody;
+import cn.hutool.http.body.MultipartBody;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+import com.wdf.fudoc.util.FuStringUtils;
+import org.apache.commons.collections.MapUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通过java.net.http.HttpClient发起请求
+ * <p>
+ * 同一个项目共用一个HttpClient(由{@link FuHttpTransportManager}管理) 连接会被保持并复用
+ * https请求通过ALPN协商使用HTTP/2 http请求固定使用HTTP/1.1(避免h2c升级请求兼容性问题)
+ *
+ * @author wangdingfu
+ * @date 2025-02-19 11:02:56
+ */
+public class JdkHttpTransport implements FuHttpTransport {
+
+    /**
+     * HttpClient不允许手动设置的请求头(由HttpClient自行维护)
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient httpClient;
+
+    /**
+     * 创建HttpClient时使用的连接超时时间 配置变更后需要重新创建
+     */
+    private final int connectTimeout;
+
+    public JdkHttpTransport(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(AppExecutorUtil.getAppExecutorService())
+                .sslContext(createTrustAllContext());
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        this.httpClient = builder.build();
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * 关闭连接池(正在进行中的请求不受影响)
+     */
+    public void close() {
+        httpClient.shutdown();
+    }
+
+
+    @Override
+    public FuHttpResponse execute(HttpRequest httpRequest, FuRequestConfigPO configPO) throws IOException {
+        java.net.http.HttpRequest request = buildRequest(httpRequest, configPO);
+        long start = System.nanoTime();
+        long[] headerTime = new long[1];
+        HttpResponse<InputStream> response;
+        try {
+            //收到响应头后立即返回 响应内容边下载边读取
+            response = httpClient.send(request, responseInfo -> {
+                headerTime[0] = System.nanoTime();
+                return HttpResponse.BodySubscribers.ofInputStream();
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("请求已中断");
+        }
+        FuHttpResponse fuHttpResponse = new FuHttpResponse();
+        fuHttpResponse.setHttpVersion(response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1");
+        fuHttpResponse.setStatus(response.statusCode());
+        fuHttpResponse.setHeaders(new HashMap<>(response.headers().map()));
+        //请求的超时时间只覆盖到收到响应头 读取响应内容时需要单独控制超时
+        try (InputStream body = configPO.getReadTimeout() > 0 ? new FuReadTimeoutInputStream(response.body(), configPO.getReadTimeout()) : response.body()) {
+            //HttpClient不会自动解压响应内容
+            FuHttpBodyReader.read(body, fuHttpResponse.header(Header.CONTENT_ENCODING.getValue()), fuHttpResponse);
+        }
+        long end = System.nanoTime();
+        FuHttpTiming timing = fuHttpResponse.getTiming();
+        timing.setWaiting(TimeUnit.NANOSECONDS.toMillis(headerTime[0] - start));
+        timing.setDownload(TimeUnit.NANOSECONDS.toMillis(end - headerTime[0]));
+        return fuHttpResponse;
+    }
+
+
+    /**
+     * 将hutool请求对象转换为HttpClient的请求对象
+     */
+    private java.net.http.HttpRequest buildRequest(HttpRequest httpRequest, FuRequestConfigPO configPO) throws IOException {
+        Charset charset = CharsetUtil.parse(httpRequest.charset(), CharsetUtil.CHARSET_UTF_8);
+        Method method = httpRequest.getMethod();
+        Map<String, Object> form = httpRequest.form();
+        String url = httpRequest.getUrl();
+        byte[] body = httpRequest.bodyBytes();
+        String contentType = null;
+        if (Objects.isNull(body) && MapUtils.isNotEmpty(form)) {
+            if (Method.GET.equals(method)) {
+                //GET请求的表单参数拼接在请求地址上
+                url = HttpUtil.urlWithForm(url, form, charset, false);
+            } else if (isMultipart(form)) {
+                MultipartBody multipartBody = MultipartBody.create(form, charset);
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                multipartBody.write(outputStream);
+                body = outputStream.toByteArray();
+                contentType = multipartBody.getContentType();
+            } else {
+                body = FormUrlEncodedBody.create(form, charset).toString().getBytes(charset);
+                contentType = ContentType.FORM_URLENCODED.toString(charset);
+            }
+        }
+        URI uri = UrlBuilder.of(url, charset).toURI();
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uri);
+        if (!"https".equalsIgnoreCase(uri.getScheme())) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        if (configPO.getReadTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(configPO.getReadTimeout()));
+        }
+        //multipart请求的Content-Type需要携带boundary 以生成的为准
+        boolean multipart = Objects.nonNull(contentType) && contentType.startsWith("multipart");
+        boolean hasContentType = false;
+        for (Map.Entry<String, List<String>> entry : httpRequest.headers().entrySet()) {
+            String name = entry.getKey();
+            if (FuStringUtils.isBlank(name) || RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            boolean isContentType = Header.CONTENT_TYPE.getValue().equalsIgnoreCase(name);
+            if (isContentType && multipart) {
+                continue;
+            }
+            hasContentType |= isContentType;
+            for (String value : entry.getValue()) {
+                builder.header(name, FuStringUtils.defaultString(value));
+            }
+        }
+        if (Objects.nonNull(contentType) && !hasContentType) {
+            builder.header(Header.CONTENT_TYPE.getValue(), contentType);
+        }
+        java.net.http.HttpRequest.BodyPublisher bodyPublisher = Objects.isNull(body)
+                ? java.net.http.HttpRequest.BodyPublishers.noBody()
+                : java.net.http.HttpRequest.BodyPublishers.ofByteArray(body);
+        return builder.method(method.name(), bodyPublisher).build();
+    }
+
+
+    private static boolean isMultipart(Map<String, Object> form) {
+        return form.values().stream().anyMatch(value -> value instanceof Resource || value instanceof File);
+    }
+
+
+    /**
+     * 与hutool默认行为保持一致 信任所有证书(本地或测试环境通常使用自签名证书)
+     * 使用X509ExtendedTrustManager时主机名校验也由该类负责 因此同时跳过了主机名校验
+     */
+    private static SSLContext createTrustAllContext() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{new TrustAllManager()}, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static class TrustAllManager extends X509ExtendedTrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class GlobalRequestData {
      * 请求数据集合
      * key: 【apiKey】 组成格式:moduleId+`controller url`+`#methodName`+`(请求参数类型...)`
      * value:当前接口的http请求所需的数据
+     * 已迁移到{@link com.wdf.fudoc.storage.FuRequestHistoryStore} 仅用于读取旧版本的数据
      */
     private Map<String, String> requestDataMap = new ConcurrentHashMap<>();
 
@@ -5,11 +5,20 @@ import com.wdf.fudoc.console.FuLogger;
 import com.wdf.fudoc.request.js.context.FuContext;
 import lombok.extern.slf4j.Slf4j;
 import com.wdf.fudoc.util.FuStringUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.ScriptableObject;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 执行JS脚本
+ * <p>
+ * 脚本编译后按脚本名称+脚本内容缓存 标准对象只初始化一次并密封后共享
+ * 每次执行只创建一个轻量的子作用域用于存放fu、console以及脚本中声明的变量
  *
  * @author wangdingfu
  * @date 2023-05-31 10:18:41
@@ -17,6 +26,21 @@ import org.mozilla.javascript.ScriptableObject;
 @Slf4j
 public class JsExecutor {
 
+    /**
+     * 缓存的已编译脚本数量上限 超过后清空重新编译
+     */
+    private static final int MAX_CACHE_SIZE = 64;
+
+    /**
+     * 已编译的脚本 key:脚本名称+脚本内容md5
+     */
+    private static final Map<String, Script> SCRIPT_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 所有脚本共享的标准对象作用域(已密封 脚本无法修改)
+     */
+    private static volatile ScriptableObject sharedScope;
+
 
     /**
      * 执行javaScript脚本
@@ -33,11 +57,14 @@ public class JsExecutor {
         boolean success = false;
         FuLogger fuLogger = fuContext.getFuLogger();
         try {
-            // 将Java对象绑定到Rhino执行上下文中
-            ScriptableObject scriptableObject = cx.initStandardObjects();
-            ScriptableObject.putProperty(scriptableObject, "fu", fuContext);
-            ScriptableObject.putProperty(scriptableObject, "console", fuLogger);
-            cx.evaluateString(scriptableObject, fuContext.getScript(), "<cmd>", 1, null);
+            // 将Java对象绑定到本次执行的作用域中
+            ScriptableObject shared = getSharedScope(cx);
+            Scriptable scope = cx.newObject(shared);
+            scope.setPrototype(shared);
+            scope.setParentScope(null);
+            ScriptableObject.putProperty(scope, "fu", fuContext);
+            ScriptableObject.putProperty(scope, "console", fuLogger);
+            getScript(cx, fuContext.getScriptName(), script).exec(cx, scope);
             success = true;
         } catch (Exception e) {
             log.info("执行脚本【{}】异常", fuContext.getScriptName(), e);
@@ -50,6 +77,41 @@ public class JsExecutor {
         }
     }
 
+
+    /**
+     * 获取已编译的脚本 脚本内容变更后会重新编译
+     */
+    private static Script getScript(Context cx, String scriptName, String script) {
+        String key = scriptName + ":" + DigestUtils.md5Hex(script);
+        Script compiled = SCRIPT_CACHE.get(key);
+        if (compiled == null) {
+            //编译失败时抛出异常 不会缓存
+            compiled = cx.compileString(script, "<cmd>", 1, null);
+            if (SCRIPT_CACHE.size() >= MAX_CACHE_SIZE) {
+                SCRIPT_CACHE.clear();
+            }
+            SCRIPT_CACHE.put(key, compiled);
+        }
+        return compiled;
+    }
+
+
+    private static ScriptableObject getSharedScope(Context cx) {
+        ScriptableObject scope = sharedScope;
+        if (scope == null) {
+            synchronized (JsExecutor.class) {
+                scope = sharedScope;
+                if (scope == null) {
+                    scope = cx.initStandardObjects(null, true);
+                    scope.sealObject();
+                    sharedScope = scope;
+                }
+            }
+        }
+        return scope;
+    }
+
+
     private static void logResult(FuLogger fuLogger, Long time, boolean success) {
         fuLogger.info(FuConsoleConstants.LINE);
         fuLogger.info("EXECUTE " + (success ? "SUCCESS" : "FAIL"));
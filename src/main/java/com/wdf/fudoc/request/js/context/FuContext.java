@@ -2,19 +2,35 @@ package com.wdf.fudoc.request.js.context;
 
 import cn.hutool.json.JSONUtil;
 import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.apidoc.data.FuDocData;
+import com.wdf.fudoc.apidoc.data.FuDocDataContent;
+import com.wdf.fudoc.console.FuBufferedLogger;
 import com.wdf.fudoc.console.FuLogger;
+import com.wdf.fudoc.request.execute.FuHttpResponseBuilder;
 import com.wdf.fudoc.request.execute.HttpExecutor;
 import com.wdf.fudoc.request.po.FuRequestConfigPO;
 import com.wdf.fudoc.request.po.GlobalPreScriptPO;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
-import com.wdf.fudoc.request.pojo.FuResponseData;
 import lombok.Getter;
 import lombok.Setter;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -25,6 +41,23 @@ import java.util.Objects;
 @Setter
 public class FuContext {
 
+    /**
+     * 脚本中并发发起请求的最大并行数
+     */
+    private static final int MAX_PARALLELISM = 8;
+
+    /**
+     * 脚本中并发发起请求时默认的单个请求超时时间(单位:ms)
+     */
+    private static final long DEFAULT_TIMEOUT = 60000;
+
+    /**
+     * 请求排队等待执行时 检查是否已开始执行的最小间隔(单位:ms)
+     */
+    private static final long QUEUE_CHECK_INTERVAL = 100;
+
+    private static final ExecutorService SEND_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("Fu Request Script", MAX_PARALLELISM);
+
     /**
      * 配置对象
      */
@@ -67,11 +100,130 @@ public class FuContext {
         fuLogger.setPrefix(null);
         fuHttpRequestData.setScript(true);
         //发起请求
-        HttpExecutor.execute(fuHttpRequestData, this.configPO, fuLogger);
+        HttpExecutor.execute(this.project, fuHttpRequestData, this.configPO, fuLogger);
+
+        fuLogger.setPrefix(prefix);
+        //脚本中需要完整的响应内容
+        return FuHttpResponseBuilder.getFullContent(fuHttpRequestData.getResponse());
+    }
+
+
+    /**
+     * 并发发起多个接口请求 并返回每个请求的响应结果
+     * <p>
+     * 脚本中调用方式: var result = fu.doSendAll(["login", "token"]); result.get("login")
+     *
+     * @param keys 请求key集合
+     * @return key:请求key value:响应结果(请求失败或超时为空字符串)
+     */
+    public Map<String, String> doSendAll(Object keys) {
+        return doSendAll(keys, DEFAULT_TIMEOUT);
+    }
+
 
+    /**
+     * 并发发起多个接口请求 并返回每个请求的响应结果
+     * <p>
+     * 请求的日志按照传入key的顺序输出到控制台
+     *
+     * @param keys    请求key集合
+     * @param timeout 单个请求的超时时间(单位:ms 从该请求开始执行时计时 超过最大并行数排队等待的时间不计入)
+     * @return key:请求key value:响应结果(请求失败或超时为空字符串)
+     */
+    public Map<String, String> doSendAll(Object keys, long timeout) {
+        Map<String, FuHttpRequestData> fuHttpRequestDataMap = preScriptPO.getFuHttpRequestDataMap();
+        Map<String, Future<?>> futureMap = new LinkedHashMap<>();
+        Map<String, FuBufferedLogger> loggerMap = new LinkedHashMap<>();
+        //key:请求key value:请求开始执行的时间(0表示还在排队)
+        Map<String, AtomicLong> startTimeMap = new HashMap<>();
+        //解析变量时需要读取接口所属的应用
+        FuDocData fuDocData = FuDocDataContent.getFuDocData();
+        Set<String> keySet = toKeys(keys);
+        for (String key : keySet) {
+            FuHttpRequestData fuHttpRequestData = fuHttpRequestDataMap.get(key);
+            if (Objects.isNull(fuHttpRequestData)) {
+                continue;
+            }
+            fuHttpRequestData.setScript(true);
+            FuBufferedLogger bufferedLogger = new FuBufferedLogger(fuLogger);
+            loggerMap.put(key, bufferedLogger);
+            AtomicLong startTime = new AtomicLong();
+            startTimeMap.put(key, startTime);
+            futureMap.put(key, SEND_EXECUTOR.submit(() -> {
+                startTime.set(System.currentTimeMillis());
+                FuDocDataContent.setData(fuDocData);
+                try {
+                    HttpExecutor.execute(this.project, fuHttpRequestData, this.configPO, bufferedLogger);
+                } finally {
+                    FuDocDataContent.remove();
+                }
+            }));
+        }
+        Map<String, String> resultMap = new LinkedHashMap<>();
+        long requestTimeout = Math.max(timeout, 0);
+        String prefix = fuLogger.getPrefix();
+        fuLogger.setPrefix(null);
+        for (String key : keySet) {
+            Future<?> future = futureMap.get(key);
+            if (Objects.isNull(future)) {
+                resultMap.put(key, FuStringUtils.EMPTY);
+                continue;
+            }
+            try {
+                await(future, startTimeMap.get(key), requestTimeout);
+                loggerMap.get(key).flush();
+                resultMap.put(key, FuHttpResponseBuilder.getFullContent(fuHttpRequestDataMap.get(key).getResponse()));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                fuLogger.error("请求[{}]超时(执行超过{}ms)", key, requestTimeout);
+                resultMap.put(key, FuStringUtils.EMPTY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futureMap.values().forEach(f -> f.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                loggerMap.get(key).flush();
+                fuLogger.error("请求[{}]失败: {}", key, e.getCause());
+                resultMap.put(key, FuStringUtils.EMPTY);
+            }
+        }
         fuLogger.setPrefix(prefix);
-        FuResponseData response = fuHttpRequestData.getResponse();
-        return response.getContent();
+        return resultMap;
+    }
+
+
+    /**
+     * 等待请求完成 超时时间从请求开始执行时计算 请求还在排队时继续等待其开始执行
+     */
+    private static void await(Future<?> future, AtomicLong startTime, long timeout) throws InterruptedException, ExecutionException, TimeoutException {
+        while (true) {
+            long start = startTime.get();
+            long waitTime = start > 0 ? start + timeout - System.currentTimeMillis() : Math.max(timeout, QUEUE_CHECK_INTERVAL);
+            try {
+                future.get(Math.max(waitTime, 0), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (start > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 将脚本中传入的key(数组、集合或单个key)转换成去重后的key集合
+     */
+    private static Set<String> toKeys(Object keys) {
+        Set<String> keySet = new LinkedHashSet<>();
+        if (keys instanceof Collection<?> collection) {
+            collection.stream().filter(Objects::nonNull).map(Object::toString).forEach(keySet::add);
+        } else if (keys instanceof Object[] array) {
+            Arrays.stream(array).filter(Objects::nonNull).map(Object::toString).forEach(keySet::add);
+        } else if (Objects.nonNull(keys)) {
+            keySet.add(keys.toString());
+        }
+        return keySet;
     }
 
     public String stringify(Object object) {
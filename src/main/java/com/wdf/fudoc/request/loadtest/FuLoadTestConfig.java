@@ -0,0 +1,40 @@
+package com.wdf.fudoc.request.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 压测参数
+ *
+ * @author wangdingfu
+ * @date 2025-02-21 10:12:45
+ */
+@Getter
+@Setter
+public class FuLoadTestConfig {
+
+    /**
+     * 总请求数
+     */
+    private int totalRequests = 100;
+
+    /**
+     * 并发数(同时发起请求的虚拟线程数)
+     */
+    private int concurrency = 10;
+
+    /**
+     * 预热时间(单位:秒) 并发线程在该时间内逐个启动 0表示同时启动
+     */
+    private int rampUpSeconds = 0;
+
+    /**
+     * 目标每秒请求数 0表示不限制
+     */
+    private int targetRps = 0;
+
+    /**
+     * 压测结果导出的csv文件路径 为空时不导出
+     */
+    private String csvPath;
+}
@@ -0,0 +1,206 @@
+package com.wdf.fudoc.request.loadtest;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.http.HttpRequest;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.wdf.fudoc.console.FuLogger;
+import com.wdf.fudoc.request.constants.enumtype.ResponseType;
+import com.wdf.fudoc.request.execute.FuHttpRequestBuilder;
+import com.wdf.fudoc.request.execute.HttpExecutor;
+import com.wdf.fudoc.request.execute.transport.FuHttpResponse;
+import com.wdf.fudoc.request.execute.transport.FuHttpTransport;
+import com.wdf.fudoc.request.execute.transport.FuHttpTransportManager;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.pojo.FuRequestBodyData;
+import com.wdf.fudoc.request.pojo.FuRequestData;
+import com.wdf.fudoc.storage.FuRequestConfigStorage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 【Fu Request】压测执行器
+ * <p>
+ * 按并发数启动对应数量的虚拟线程 每个线程循环领取请求序号并发起请求 直到发起的请求数达到总请求数
+ * 每次请求都通过{@link FuHttpRequestBuilder}重新构建(变量、鉴权用户、cookie与单次发起请求一致) 响应内容读取后直接丢弃
+ *
+ * @author wangdingfu
+ * @date 2025-02-21 10:35:26
+ */
+@Slf4j
+public class FuLoadTestExecutor {
+
+    /**
+     * 等待压测结束时刷新进度的间隔
+     */
+    private static final long PROGRESS_INTERVAL_MILLIS = 200;
+
+
+    /**
+     * 执行压测(需要在后台线程中调用)
+     *
+     * @param project           当前项目(与单次发起请求共用连接池)
+     * @param fuHttpRequestData 压测的请求(不会被修改)
+     * @param config            压测参数
+     * @param fuLogger          构建请求时的错误日志输出位置
+     * @param indicator         进度指示器 取消后不再发起新的请求
+     * @return 压测结果
+     */
+    public static FuLoadTestResult execute(Project project, FuHttpRequestData fuHttpRequestData, FuLoadTestConfig config,
+                                           FuLogger fuLogger, ProgressIndicator indicator) {
+        FuRequestConfigPO configPO = FuRequestConfigStorage.get(project).readData();
+        FuHttpRequestData template = fuHttpRequestData.copy();
+        FuRequestData request = template.getRequest();
+        if (Objects.isNull(request.getBody())) {
+            //构建请求时会补全请求体 提前补全避免多个线程同时修改
+            request.setBody(new FuRequestBodyData());
+        }
+        int total = Math.max(1, config.getTotalRequests());
+        int concurrency = Math.max(1, Math.min(config.getConcurrency(), total));
+        FuLoadTestResult result = new FuLoadTestResult(total);
+        LoadTestContext context = new LoadTestContext(project, template, configPO, FuHttpTransportManager.getInstance(project).getTransport(configPO),
+                fuLogger, indicator, result, config.getTargetRps());
+        long rampUp = TimeUnit.SECONDS.toNanos(Math.max(0, config.getRampUpSeconds()));
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int worker = 0; worker < concurrency; worker++) {
+                //预热时间内均匀启动各个并发线程
+                long startDelay = rampUp * worker / concurrency;
+                executor.execute(() -> runWorker(context, context.start + startDelay));
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (indicator.isCanceled()) {
+                    //中断等待中的线程 正在进行的请求会在超时或完成后结束
+                    executor.shutdownNow();
+                }
+                indicator.setFraction(result.getCompleted() / (double) total);
+                indicator.setText2(result.getCompleted() + " / " + total);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        result.finish(System.nanoTime() - context.start);
+        log.info("压测接口【{}】完成. 共发起{}次请求. 共计耗时:{}ms", template.getApiName(), result.getCompleted(),
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsed()));
+        return result;
+    }
+
+
+    private static void runWorker(LoadTestContext context, long startTime) {
+        if (!parkUntil(startTime)) {
+            return;
+        }
+        int index;
+        while (!context.indicator.isCanceled() && (index = context.next.getAndIncrement()) < context.result.getTotal()) {
+            if (context.interval > 0 && !parkUntil(context.acquireSlot())) {
+                return;
+            }
+            sendRequest(context, index);
+        }
+    }
+
+
+    private static void sendRequest(LoadTestContext context, int index) {
+        long start = System.nanoTime();
+        int status = 0;
+        long bodyLength = 0;
+        ResponseType responseType = ResponseType.SUCCESS;
+        try {
+            HttpRequest httpRequest = FuHttpRequestBuilder.getInstance(context.project, context.template, context.configPO, context.fuLogger).builder();
+            start = System.nanoTime();
+            FuHttpResponse httpResponse = context.transport.execute(httpRequest, context.configPO);
+            status = httpResponse.getStatus();
+            bodyLength = httpResponse.getBodyLength();
+            if (httpResponse.isSpilled()) {
+                FileUtil.del(httpResponse.getBodyFile());
+            }
+        } catch (Exception e) {
+            log.debug("压测请求第{}次请求异常", index + 1, e);
+            responseType = HttpExecutor.getErrorType(e);
+        }
+        long end = System.nanoTime();
+        context.result.record(index, start - context.start, end - start, status, responseType, bodyLength);
+    }
+
+
+    /**
+     * 等待到指定时间
+     *
+     * @return false: 等待过程中被中断
+     */
+    private static boolean parkUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * 一次压测中各个线程共享的数据
+     */
+    private static class LoadTestContext {
+
+        private final Project project;
+        private final FuHttpRequestData template;
+        private final FuRequestConfigPO configPO;
+        private final FuHttpTransport transport;
+        private final FuLogger fuLogger;
+        private final ProgressIndicator indicator;
+        private final FuLoadTestResult result;
+
+        /**
+         * 压测开始时间
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * 下一个请求序号
+         */
+        private final AtomicInteger next = new AtomicInteger();
+
+        /**
+         * 限制每秒请求数时两次请求之间的间隔(单位:纳秒) 0表示不限制
+         */
+        private final long interval;
+
+        /**
+         * 下一个可以发起请求的时间
+         */
+        private final AtomicLong nextSlot = new AtomicLong(start);
+
+        private LoadTestContext(Project project, FuHttpRequestData template, FuRequestConfigPO configPO, FuHttpTransport transport,
+                                FuLogger fuLogger, ProgressIndicator indicator, FuLoadTestResult result, int targetRps) {
+            this.project = project;
+            this.template = template;
+            this.configPO = configPO;
+            this.transport = transport;
+            this.fuLogger = fuLogger;
+            this.indicator = indicator;
+            this.result = result;
+            this.interval = targetRps > 0 ? TimeUnit.SECONDS.toNanos(1) / targetRps : 0;
+        }
+
+        /**
+         * 领取一个发起请求的时间 各个请求的发起时间间隔固定 落后时不会集中补发
+         */
+        private long acquireSlot() {
+            long now = System.nanoTime();
+            return Math.max(now, nextSlot.getAndUpdate(slot -> Math.max(slot, now) + interval));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.wdf.fudoc.request.loadtest;
+
+import com.wdf.fudoc.request.constants.enumtype.ResponseType;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 压测结果
+ * <p>
+ * 每个请求按序号记录在固定位置 多个线程同时记录时互不影响
+ *
+ * @author wangdingfu
+ * @date 2025-02-21 10:20:13
+ */
+public class FuLoadTestResult {
+
+    /**
+     * 耗时分布区间的上限(单位:毫秒) 超过最后一个区间的归入最后一行
+     */
+    private static final long[] HISTOGRAM_BOUNDS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    /**
+     * 计划发起的请求数
+     */
+    @Getter
+    private final int total;
+
+    /**
+     * 请求发起时间(相对压测开始时间 单位:纳秒)
+     */
+    private final AtomicLongArray startTimes;
+
+    /**
+     * 请求耗时(单位:纳秒)
+     */
+    private final AtomicLongArray latencies;
+
+    /**
+     * 响应状态码 请求异常时为0
+     */
+    private final AtomicIntegerArray statusCodes;
+
+    /**
+     * 响应内容大小(单位:字节)
+     */
+    private final AtomicLongArray bodyLengths;
+
+    /**
+     * 响应类型 未发起的请求为空
+     */
+    private final AtomicReferenceArray<ResponseType> responseTypes;
+
+    private final AtomicInteger completed = new AtomicInteger();
+
+    /**
+     * 压测总耗时(单位:纳秒)
+     */
+    @Getter
+    private long elapsed;
+
+    public FuLoadTestResult(int total) {
+        this.total = total;
+        this.startTimes = new AtomicLongArray(total);
+        this.latencies = new AtomicLongArray(total);
+        this.statusCodes = new AtomicIntegerArray(total);
+        this.bodyLengths = new AtomicLongArray(total);
+        this.responseTypes = new AtomicReferenceArray<>(total);
+    }
+
+
+    /**
+     * 记录一次请求结果
+     *
+     * @param index        请求序号
+     * @param startTime    请求发起时间(相对压测开始时间 单位:纳秒)
+     * @param latency      请求耗时(单位:纳秒)
+     * @param status       响应状态码 请求异常时为0
+     * @param responseType 响应类型
+     * @param bodyLength   响应内容大小
+     */
+    public void record(int index, long startTime, long latency, int status, ResponseType responseType, long bodyLength) {
+        this.startTimes.set(index, startTime);
+        this.latencies.set(index, latency);
+        this.statusCodes.set(index, status);
+        this.bodyLengths.set(index, bodyLength);
+        this.responseTypes.set(index, responseType);
+        this.completed.incrementAndGet();
+    }
+
+    public void finish(long elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * 已完成的请求数
+     */
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 吞吐量(每秒完成的请求数)
+     */
+    public double getThroughput() {
+        return elapsed <= 0 ? 0 : getCompleted() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+
+    /**
+     * 收到响应的请求耗时(已排序 单位:纳秒) 连接失败等异常请求的耗时没有参考意义 不参与统计
+     */
+    public long[] sortedLatencies() {
+        long[] values = new long[total];
+        int size = 0;
+        for (int i = 0; i < total; i++) {
+            if (ResponseType.SUCCESS.equals(responseTypes.get(i))) {
+                values[size++] = latencies.get(i);
+            }
+        }
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 计算百分位耗时(最近排名法)
+     *
+     * @param sorted     已排序的耗时
+     * @param percentile 百分位 例如:99
+     * @return 耗时(单位:纳秒)
+     */
+    public static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * 耗时分布 key:区间上限(单位:毫秒 最后一个区间为-1) value:请求数
+     */
+    public static Map<Long, Integer> histogram(long[] sorted) {
+        Map<Long, Integer> histogram = new LinkedHashMap<>();
+        for (long bound : HISTOGRAM_BOUNDS) {
+            histogram.put(bound, 0);
+        }
+        histogram.put(-1L, 0);
+        for (long latency : sorted) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(latency);
+            long bound = Arrays.stream(HISTOGRAM_BOUNDS).filter(f -> millis < f).findFirst().orElse(-1L);
+            histogram.merge(bound, 1, Integer::sum);
+        }
+        return histogram;
+    }
+
+    /**
+     * 耗时分布最后一个区间的下限(单位:毫秒)
+     */
+    public static long histogramMax() {
+        return HISTOGRAM_BOUNDS[HISTOGRAM_BOUNDS.length - 1];
+    }
+
+    /**
+     * 按响应类型统计请求数
+     */
+    public Map<ResponseType, Integer> countByResponseType() {
+        Map<ResponseType, Integer> countMap = new EnumMap<>(ResponseType.class);
+        for (int i = 0; i < total; i++) {
+            ResponseType responseType = responseTypes.get(i);
+            if (Objects.nonNull(responseType)) {
+                countMap.merge(responseType, 1, Integer::sum);
+            }
+        }
+        return countMap;
+    }
+
+    /**
+     * 按状态码统计收到响应的请求数
+     */
+    public Map<Integer, Integer> countByStatus() {
+        Map<Integer, Integer> countMap = new TreeMap<>();
+        for (int i = 0; i < total; i++) {
+            if (ResponseType.SUCCESS.equals(responseTypes.get(i))) {
+                countMap.merge(statusCodes.get(i), 1, Integer::sum);
+            }
+        }
+        return countMap;
+    }
+
+
+    /**
+     * 将每个请求的结果以csv格式写出(未发起的请求不写出)
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("index,start_ms,latency_ms,status,response_type,body_bytes\n");
+        for (int i = 0; i < total; i++) {
+            ResponseType responseType = responseTypes.get(i);
+            if (Objects.isNull(responseType)) {
+                continue;
+            }
+            writer.write((i + 1) + "," + toMillis(startTimes.get(i)) + "," + toMillis(latencies.get(i)) + ","
+                    + statusCodes.get(i) + "," + responseType.name() + "," + bodyLengths.get(i) + "\n");
+        }
+    }
+
+
+    /**
+     * 纳秒转换为毫秒(保留三位小数)
+     */
+    public static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+    }
+}
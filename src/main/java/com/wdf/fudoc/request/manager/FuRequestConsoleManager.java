@@ -1,12 +1,11 @@
 package com.wdf.fudoc.request.manager;
 
+import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.http.HttpRequest;
-import cn.hutool.http.HttpResponse;
 import cn.hutool.http.body.FormUrlEncodedBody;
 import cn.hutool.json.JSONUtil;
 import com.google.common.collect.Lists;
-import com.intellij.execution.impl.ConsoleViewUtil;
 import com.intellij.execution.ui.ConsoleViewContentType;
 import com.intellij.httpClient.http.request.HttpRequestFileType;
 import com.wdf.fudoc.compat.JsonFileTypeCompat;
@@ -16,13 +15,20 @@ import com.wdf.fudoc.common.constant.FuConsoleConstants;
 import com.wdf.fudoc.console.FuConsoleLogger;
 import com.wdf.fudoc.console.FuLogger;
 import com.wdf.fudoc.request.constants.enumtype.RequestStatus;
+import com.wdf.fudoc.request.constants.enumtype.ResponseType;
+import com.wdf.fudoc.request.execute.transport.FuHttpResponse;
+import com.wdf.fudoc.request.execute.transport.FuHttpTiming;
+import com.wdf.fudoc.request.loadtest.FuLoadTestConfig;
+import com.wdf.fudoc.request.loadtest.FuLoadTestResult;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.pojo.FuRequestConsoleData;
 import com.wdf.fudoc.request.pojo.FuResponseConsoleData;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,7 +39,7 @@ import java.util.Objects;
 public class FuRequestConsoleManager {
 
 
-    public static void requestConsole(FuLogger fuLogger, HttpRequest httpRequest, HttpResponse httpResponse) {
+    public static void requestConsole(FuLogger fuLogger, HttpRequest httpRequest, FuHttpResponse httpResponse) {
         if (Objects.isNull(fuLogger) || fuLogger.isEmpty()) {
             return;
         }
@@ -81,6 +87,14 @@ public class FuRequestConsoleManager {
         log(fuLogger, fuHttpRequestData.getTime() + " ms", fuHttpRequestData.getTime() < 3000);
         fuLogger.println();
 
+        //耗时明细
+        FuHttpTiming timing = fuHttpRequestData.getTiming();
+        if (Objects.nonNull(timing)) {
+            logTiming(fuLogger, "Connect: ", timing.getConnect());
+            logTiming(fuLogger, "Waiting (TTFB): ", timing.getWaiting());
+            logTiming(fuLogger, "Download: ", timing.getDownload());
+        }
+
         //第四行
         fuLogger.debugLog("[FU REQUEST] ");
         fuLogger.debugLog(FuConsoleConstants.LINE);
@@ -89,6 +103,84 @@ public class FuRequestConsoleManager {
     }
 
 
+    /**
+     * 输出压测结果
+     */
+    public static void logLoadTest(FuLogger fuLogger, FuLoadTestConfig config, FuLoadTestResult result) {
+        if (Objects.isNull(fuLogger) || fuLogger.isEmpty()) {
+            return;
+        }
+        fuLogger.debug(FuConsoleConstants.LINE);
+        fuLogger.debug(FuConsoleConstants.lineContent("LOAD TEST"));
+        fuLogger.debug(FuConsoleConstants.LINE);
+        logLoadTestItem(fuLogger, "Requests: ", result.getCompleted() + " / " + result.getTotal(), result.getCompleted() == result.getTotal());
+        logLoadTestItem(fuLogger, "Concurrency: ", String.valueOf(config.getConcurrency()), true);
+        if (config.getRampUpSeconds() > 0) {
+            logLoadTestItem(fuLogger, "Ramp-up: ", config.getRampUpSeconds() + " s", true);
+        }
+        if (config.getTargetRps() > 0) {
+            logLoadTestItem(fuLogger, "Target RPS: ", String.valueOf(config.getTargetRps()), true);
+        }
+        logLoadTestItem(fuLogger, "Total time: ", FuLoadTestResult.toMillis(result.getElapsed()) + " ms", true);
+        logLoadTestItem(fuLogger, "Throughput: ", String.format(Locale.ROOT, "%.2f req/s", result.getThroughput()), true);
+
+        //耗时统计(只统计收到响应的请求)
+        long[] latencies = result.sortedLatencies();
+        if (latencies.length > 0) {
+            fuLogger.println();
+            logLoadTestItem(fuLogger, "Latency min: ", FuLoadTestResult.toMillis(latencies[0]) + " ms", true);
+            logLoadTestItem(fuLogger, "Latency avg: ", FuLoadTestResult.toMillis((long) Arrays.stream(latencies).average().orElse(0)) + " ms", true);
+            logLoadTestItem(fuLogger, "Latency p50: ", FuLoadTestResult.toMillis(FuLoadTestResult.percentile(latencies, 50)) + " ms", true);
+            logLoadTestItem(fuLogger, "Latency p90: ", FuLoadTestResult.toMillis(FuLoadTestResult.percentile(latencies, 90)) + " ms", true);
+            logLoadTestItem(fuLogger, "Latency p99: ", FuLoadTestResult.toMillis(FuLoadTestResult.percentile(latencies, 99)) + " ms", true);
+            logLoadTestItem(fuLogger, "Latency max: ", FuLoadTestResult.toMillis(latencies[latencies.length - 1]) + " ms", true);
+            //耗时分布
+            fuLogger.println();
+            Map<Long, Integer> histogram = FuLoadTestResult.histogram(latencies);
+            int maxCount = histogram.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+            histogram.forEach((bound, count) -> {
+                String name = bound < 0 ? ">= " + FuLoadTestResult.histogramMax() + " ms" : "< " + bound + " ms";
+                fuLogger.debugLog("[FU REQUEST] ");
+                fuLogger.infoLog(FuStringUtils.rightPad(name, 12));
+                fuLogger.infoLog(FuStringUtils.leftPad(String.valueOf(count), 8) + " ");
+                log(fuLogger, "#".repeat(count == 0 ? 0 : Math.max(1, count * 40 / maxCount)), true);
+                fuLogger.println();
+            });
+        }
+
+        //按响应类型及状态码统计
+        fuLogger.println();
+        result.countByResponseType().forEach((responseType, count) ->
+                logLoadTestItem(fuLogger, responseType.name() + ": ", String.valueOf(count), ResponseType.SUCCESS.equals(responseType)));
+        result.countByStatus().forEach((status, count) ->
+                logLoadTestItem(fuLogger, "Status Code " + status + ": ", String.valueOf(count), status >= 200 && status < 400));
+
+        fuLogger.debugLog("[FU REQUEST] ");
+        fuLogger.debugLog(FuConsoleConstants.LINE);
+        fuLogger.println();
+        fuLogger.println();
+    }
+
+
+    private static void logLoadTestItem(FuLogger fuLogger, String name, String value, boolean isSuccess) {
+        fuLogger.debugLog("[FU REQUEST] ");
+        fuLogger.infoLog(name);
+        log(fuLogger, value, isSuccess);
+        fuLogger.println();
+    }
+
+
+    private static void logTiming(FuLogger fuLogger, String name, long time) {
+        if (time < 0) {
+            return;
+        }
+        fuLogger.debugLog("[FU REQUEST] ");
+        fuLogger.infoLog(name);
+        log(fuLogger, time + " ms", true);
+        fuLogger.println();
+    }
+
+
     private static void log(FuLogger fuLogger, String logContent, boolean isSuccess) {
         if (fuLogger instanceof FuConsoleLogger fuConsoleLogger) {
             fuConsoleLogger.log(logContent, isSuccess ? ConsoleViewContentType.USER_INPUT : ConsoleViewContentType.ERROR_OUTPUT);
@@ -107,10 +199,10 @@ public class FuRequestConsoleManager {
         requestConsoleData.setMethodName(httpRequest.getMethod().name());
         requestConsoleData.setUrl(httpRequest.getUrl());
         requestConsoleData.setHeaders(buildHeaderList(httpRequest.headers()));
-        ConsoleViewUtil.printAsFileType(fuLogger.getConsoleView(), FuDocRender.render(requestConsoleData, "console/request_console.ftl"), HttpRequestFileType.INSTANCE);
+        fuLogger.printAsFileType(FuDocRender.render(requestConsoleData, "console/request_console.ftl"), HttpRequestFileType.INSTANCE);
         String bodyContent = buildRequestBody(httpRequest);
         if (JSONUtil.isTypeJSON(bodyContent)) {
-            ConsoleViewUtil.printAsFileType(fuLogger.getConsoleView(), bodyContent, JsonFileTypeCompat.getJsonFileType());
+            fuLogger.printAsFileType(bodyContent, JsonFileTypeCompat.getJsonFileType());
         } else {
             fuLogger.info(bodyContent);
         }
@@ -119,24 +211,32 @@ public class FuRequestConsoleManager {
     }
 
 
-    private static void logResponse(FuLogger fuLogger, HttpResponse httpResponse) {
+    private static void logResponse(FuLogger fuLogger, FuHttpResponse httpResponse) {
         fuLogger.println();
         fuLogger.debug(FuConsoleConstants.LINE);
         fuLogger.debug(FuConsoleConstants.lineContent("RESPONSE"));
         fuLogger.debug(FuConsoleConstants.LINE);
 
         FuResponseConsoleData responseConsoleData = new FuResponseConsoleData();
-        responseConsoleData.setHttpType(httpResponse.httpVersion());
+        responseConsoleData.setHttpType(httpResponse.getHttpVersion());
         responseConsoleData.setHttpStatus(httpResponse.getStatus());
-        responseConsoleData.setHeaders(buildHeaderList(httpResponse.headers()));
-        String bodyContent = httpResponse.body();
+        responseConsoleData.setHeaders(buildHeaderList(httpResponse.getHeaders()));
+        String bodyContent = httpResponse.bodyString();
         responseConsoleData.setResponseBody(bodyContent);
-        ConsoleViewUtil.printAsFileType(fuLogger.getConsoleView(), FuDocRender.render(responseConsoleData, "console/response_console.ftl"), HttpRequestFileType.INSTANCE);
+        fuLogger.printAsFileType(FuDocRender.render(responseConsoleData, "console/response_console.ftl"), HttpRequestFileType.INSTANCE);
         if (FuStringUtils.isBlank(bodyContent)) {
             return;
         }
+        if (httpResponse.isSpilled()) {
+            //响应内容过大 只输出开头部分
+            fuLogger.info(bodyContent);
+            fuLogger.println();
+            fuLogger.info("... [响应内容过大(" + FileUtil.readableFileSize(httpResponse.getBodyLength()) + ")，仅输出开头部分，完整内容: "
+                    + httpResponse.getBodyFile().getAbsolutePath() + "]");
+            return;
+        }
         if (JSONUtil.isTypeJSON(bodyContent)) {
-            ConsoleViewUtil.printAsFileType(fuLogger.getConsoleView(), JSONUtil.toJsonPrettyStr(bodyContent), JsonFileTypeCompat.getJsonFileType());
+            fuLogger.printAsFileType(JSONUtil.toJsonPrettyStr(bodyContent), JsonFileTypeCompat.getJsonFileType());
             fuLogger.println();
         } else {
             fuLogger.info(bodyContent);
@@ -2,6 +2,9 @@ package com.wdf.fudoc.request.manager;
 
 import cn.hutool.core.util.IdUtil;
 import com.google.common.collect.Lists;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.wdf.fudoc.request.global.GlobalRequestData;
@@ -9,11 +12,12 @@ import com.wdf.fudoc.request.http.convert.HttpDataConvert;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
 import com.wdf.fudoc.request.state.FuRequestState;
 import com.wdf.fudoc.request.view.HttpDialogView;
+import com.wdf.fudoc.storage.FuRequestHistoryStore;
 import com.wdf.fudoc.storage.FuStorageExecutor;
 import com.wdf.fudoc.storage.handler.FuRequestStorage;
-import cn.fudoc.common.util.JsonUtil;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import com.wdf.fudoc.util.FuDocUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.util.*;
@@ -80,6 +84,26 @@ public class FuRequestManager {
         return moduleId;
     }
 
+    /**
+     * 获取当前项目中已生成标识的module
+     *
+     * @param project 当前项目
+     * @return key:moduleId value:module
+     */
+    public static Map<String, Module> getModuleMap(Project project) {
+        Map<String, String> moduleIdMap = FuRequestState.getData(project).getModuleIdMap();
+        Map<String, Module> moduleMap = new LinkedHashMap<>();
+        ReadAction.run(() -> {
+            for (Module module : ModuleManager.getInstance(project).getModules()) {
+                String moduleId = moduleIdMap.get(FuDocUtils.getModulePath(module));
+                if (FuStringUtils.isNotBlank(moduleId)) {
+                    moduleMap.put(moduleId, module);
+                }
+            }
+        });
+        return moduleMap;
+    }
+
     public static String getMethodId(Project project, String methodName) {
         GlobalRequestData data = FuRequestState.getData(project);
         Map<String, String> methodIdMap = data.getMethodIdMap();
@@ -104,9 +128,9 @@ public class FuRequestManager {
             return;
         }
 //        FuStorageExecutor.saveRequest(fuHttpRequestData);
+        //请求记录保存到单独的存储中(不再保存到fuRequest.xml)
+        FuRequestHistoryStore.getInstance(project).save(fuHttpRequestData);
         GlobalRequestData data = FuRequestState.getData(project);
-        Map<String, String> requestDataMap = data.getRequestDataMap();
-        requestDataMap.put(apiKey, JsonUtil.toJson(fuHttpRequestData));
         Map<String, List<String>> recentRequestKeyMap = data.getRecentRequestKeyMap();
         String moduleId = fuHttpRequestData.getModuleId();
         List<String> apiKeyList = recentRequestKeyMap.get(moduleId);
@@ -141,6 +165,32 @@ public class FuRequestManager {
     }
 
 
+    /**
+     * 获取最近的请求记录(每个module内按请求时间从早到晚排列)
+     *
+     * @param project  当前项目
+     * @param moduleId module标识 为空时获取所有module的请求记录
+     * @return 请求记录
+     */
+    public static List<FuHttpRequestData> getRecentList(Project project, String moduleId) {
+        Map<String, List<String>> recentRequestKeyMap = FuRequestState.getData(project).getRecentRequestKeyMap();
+        List<String> apiKeyList = Lists.newArrayList();
+        recentRequestKeyMap.forEach((key, value) -> {
+            if (FuStringUtils.isBlank(moduleId) || moduleId.equals(key)) {
+                apiKeyList.addAll(value);
+            }
+        });
+        List<FuHttpRequestData> requestList = Lists.newArrayList();
+        for (String apiKey : apiKeyList) {
+            FuHttpRequestData request = getRequest(project, apiKey);
+            if (Objects.nonNull(request)) {
+                requestList.add(request);
+            }
+        }
+        return requestList;
+    }
+
+
     /**
      * 从内存中获取指定接口的数据信息
      *
@@ -149,13 +199,7 @@ public class FuRequestManager {
      * @return 之前请求过则会返回上一次请求的数据  否则返回null
      */
     public static FuHttpRequestData getRequest(Project project, String apiKey) {
-        GlobalRequestData data = FuRequestState.getData(project);
-        Map<String, String> requestDataMap = data.getRequestDataMap();
-        String entries = requestDataMap.get(apiKey);
-        if (FuStringUtils.isBlank(entries)) {
-            return null;
-        }
-        return JsonUtil.toBean(entries, FuHttpRequestData.class);
+        return FuRequestHistoryStore.getInstance(project).get(apiKey);
     }
 
 }
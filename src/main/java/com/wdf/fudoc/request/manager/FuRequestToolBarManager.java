@@ -21,6 +21,8 @@ import cn.fudoc.common.storage.po.FuDocConfigPO;
 import com.wdf.fudoc.components.action.FuRequestViewModeAction;
 import com.wdf.fudoc.components.action.IssueAction;
 import com.wdf.fudoc.request.action.toolbar.CopyCurlAction;
+import com.wdf.fudoc.request.action.toolbar.LoadTestAction;
+import com.wdf.fudoc.request.action.toolbar.RequestRunnerAction;
 import com.wdf.fudoc.request.callback.FuRequestCallback;
 import cn.fudoc.common.enumtype.IssueSource;
 import com.wdf.fudoc.request.constants.enumtype.ViewMode;
@@ -90,6 +92,10 @@ public class FuRequestToolBarManager {
         addSyncAction(defaultActionGroup);
         //复制curl命令
         defaultActionGroup.add(new CopyCurlAction(fuRequestCallback));
+        //压测当前请求
+        defaultActionGroup.add(new LoadTestAction(fuRequestCallback));
+        //批量执行已保存的请求
+        defaultActionGroup.add(new RequestRunnerAction(fuRequestCallback));
 
         if (fuRequestCallback.isWindow()) {
             addConfigServerPortAction(defaultActionGroup);
@@ -25,4 +25,37 @@ public class FuCookiePO {
 
     private boolean secure;
 
+    /**
+     * 响应中没有指定Domain属性 只发送给设置该cookie的主机
+     */
+    private boolean hostOnly;
+
+    /**
+     * 过期时间(毫秒时间戳) 0表示不过期
+     */
+    private long expiresAt;
+
+    /**
+     * 创建时间(毫秒时间戳) 同一路径下先创建的cookie排在前面 超出数量上限时优先淘汰
+     */
+    private long createTime;
+
+
+    /**
+     * 复制当前cookie
+     */
+    public FuCookiePO copy() {
+        FuCookiePO cookie = new FuCookiePO();
+        cookie.setName(name);
+        cookie.setValue(value);
+        cookie.setDomain(domain);
+        cookie.setPath(path);
+        cookie.setExpires(expires);
+        cookie.setHttpOnly(httpOnly);
+        cookie.setSecure(secure);
+        cookie.setHostOnly(hostOnly);
+        cookie.setExpiresAt(expiresAt);
+        cookie.setCreateTime(createTime);
+        return cookie;
+    }
 }
@@ -1,16 +1,18 @@
 package com.wdf.fudoc.request.po;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.Lists;
 import com.wdf.fudoc.components.bo.KeyValueTableBO;
 import com.wdf.fudoc.components.bo.TreePathBO;
+import com.wdf.fudoc.request.constants.enumtype.HttpTransportType;
 import com.wdf.fudoc.request.constants.enumtype.ScriptType;
 import com.wdf.fudoc.request.constants.enumtype.ViewMode;
 import com.wdf.fudoc.request.pojo.ConfigAuthTableBO;
 import com.wdf.fudoc.request.pojo.ConfigEnvTableBO;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import com.wdf.fudoc.util.FuStringUtils;
 
@@ -40,6 +42,21 @@ public class FuRequestConfigPO {
      */
     private boolean autoPort = true;
 
+    /**
+     * 发起http请求的方式 {@link HttpTransportType}
+     */
+    private String httpTransport = HttpTransportType.JDK.code;
+
+    /**
+     * 建立连接超时时间 单位:ms
+     */
+    private int connectTimeout = 10000;
+
+    /**
+     * 请求超时时间(发送请求到读取完响应) 单位:ms 小于等于0时不限制
+     */
+    private int readTimeout = 0;
+
     /**
      * 全局请求头
      */
@@ -71,9 +88,26 @@ public class FuRequestConfigPO {
 
     /**
      * cookie集合
+     * 已迁移到{@link com.wdf.fudoc.storage.FuCookieStore} 仅用于读取旧版本的数据
      */
     private List<FuCookiePO> cookies = Lists.newArrayList();
 
+    /**
+     * 全局请求头索引(不持久化)
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient GlobalConfigIndex globalHeaderIndex = new GlobalConfigIndex();
+
+    /**
+     * 全局变量索引(不持久化)
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient GlobalConfigIndex globalVariableIndex = new GlobalConfigIndex();
+
 
     /**
      * 当前选中的用户名
@@ -120,13 +154,30 @@ public class FuRequestConfigPO {
     }
 
 
+    /**
+     * 设置全局请求头 设置面板保存时传入的可能是同一个集合(内容已变更) 需要重建索引
+     */
+    public synchronized void setGlobalHeaderList(List<GlobalKeyValuePO> globalHeaderList) {
+        this.globalHeaderList = globalHeaderList;
+        this.globalHeaderIndex.invalidate();
+    }
+
+    /**
+     * 设置全局变量 设置面板保存时传入的可能是同一个集合(内容已变更) 需要重建索引
+     */
+    public synchronized void setGlobalVariableList(List<GlobalKeyValuePO> globalVariableList) {
+        this.globalVariableList = globalVariableList;
+        this.globalVariableIndex.invalidate();
+    }
+
+
     public String header(String headerName, String applicationName) {
-        return getValue(findGlobalConfig(this.globalHeaderList, headerName, applicationName));
+        return getValue(this.globalHeaderIndex.find(this.globalHeaderList, headerName, applicationName));
 
     }
 
     public String variable(String variableName, String applicationName) {
-        return getValue(findGlobalConfig(this.globalVariableList, variableName, applicationName));
+        return getValue(this.globalVariableIndex.find(this.globalVariableList, variableName, applicationName));
     }
 
     private String getValue(GlobalKeyValuePO globalKeyValuePO) {
@@ -134,46 +185,25 @@ public class FuRequestConfigPO {
     }
 
 
-    private GlobalKeyValuePO findGlobalConfig(List<GlobalKeyValuePO> list, String variableName, String applicationName) {
-        return list.stream()
-                .filter(KeyValueTableBO::getSelect)
-                .filter(f -> FuStringUtils.isNotBlank(f.getApplicationName()))
-                .filter(f -> FuStringUtils.isNotBlank(f.getKey()))
-                .filter(f -> f.getKey().equals(variableName))
-                .filter(f -> applicationName.equals(f.getApplicationName()))
-                .findFirst().orElse(null);
-    }
-
-
-    private void addGlobalConfig(List<GlobalKeyValuePO> list, String applicationName, String configKey, String configValue) {
-        GlobalKeyValuePO globalConfig = findGlobalConfig(list, configKey, applicationName);
+    private void addGlobalConfig(List<GlobalKeyValuePO> list, GlobalConfigIndex index, String applicationName, String configKey, String configValue) {
+        GlobalKeyValuePO globalConfig = index.find(list, configKey, applicationName);
         if (Objects.isNull(globalConfig)) {
             globalConfig = new GlobalKeyValuePO();
+            globalConfig.setKey(configKey);
+            globalConfig.setApplicationName(applicationName);
+            globalConfig.setSelect(true);
             list.add(globalConfig);
+            index.invalidate();
         }
-        globalConfig.setKey(configKey);
         globalConfig.setValue(configValue);
-        globalConfig.setApplicationName(applicationName);
-        globalConfig.setSelect(true);
     }
 
 
-    public void addHeader(String headerName, String headerValue, String applicationName) {
-        addGlobalConfig(this.globalHeaderList, applicationName, headerName, headerValue);
-    }
-
-    public void addVariable(String variableName, String variableValue, String applicationName) {
-        addGlobalConfig(this.globalVariableList, applicationName, variableName, variableValue);
+    public synchronized void addHeader(String headerName, String headerValue, String applicationName) {
+        addGlobalConfig(this.globalHeaderList, this.globalHeaderIndex, applicationName, headerName, headerValue);
     }
 
-
-    public void addCookies(List<FuCookiePO> cookies) {
-        if (CollectionUtils.isEmpty(cookies)) {
-            return;
-        }
-        List<String> nameList = cookies.stream().map(FuCookiePO::getName).toList();
-        //移除重复的cookie
-        this.cookies.removeIf(f -> nameList.contains(f.getName()));
-        this.cookies.addAll(cookies);
+    public synchronized void addVariable(String variableName, String variableValue, String applicationName) {
+        addGlobalConfig(this.globalVariableList, this.globalVariableIndex, applicationName, variableName, variableValue);
     }
 }
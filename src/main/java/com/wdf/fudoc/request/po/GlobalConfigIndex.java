@@ -0,0 +1,91 @@
+package com.wdf.fudoc.request.po;
+
+import com.wdf.fudoc.util.FuStringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 全局请求头｜全局变量索引 key:应用名称+变量名
+ * <p>
+ * 索引基于构建时的集合 集合被整体替换后自动重建 集合内容被修改(包括重新设置同一个集合)时需要调用{@link #invalidate()}
+ *
+ * @author wangdingfu
+ * @date 2025-02-26 10:20:33
+ */
+public class GlobalConfigIndex {
+
+    private volatile Snapshot snapshot;
+
+
+    /**
+     * 查找生效的全局配置
+     *
+     * @param list            全局配置集合
+     * @param key             变量名
+     * @param applicationName 应用名称
+     * @return 启用的第一个匹配的配置 没有时返回null
+     */
+    public GlobalKeyValuePO find(List<GlobalKeyValuePO> list, String key, String applicationName) {
+        if (Objects.isNull(list) || FuStringUtils.isBlank(key) || FuStringUtils.isBlank(applicationName)) {
+            return null;
+        }
+        GlobalKeyValuePO globalKeyValuePO = getSnapshot(list).indexMap.get(buildKey(applicationName, key));
+        if (Objects.isNull(globalKeyValuePO) || isMatch(globalKeyValuePO, key, applicationName)) {
+            return globalKeyValuePO;
+        }
+        //配置在表格中被直接编辑过 重建索引后再查找
+        invalidate();
+        return getSnapshot(list).indexMap.get(buildKey(applicationName, key));
+    }
+
+
+    public void invalidate() {
+        this.snapshot = null;
+    }
+
+
+    private Snapshot getSnapshot(List<GlobalKeyValuePO> list) {
+        Snapshot current = this.snapshot;
+        if (Objects.isNull(current) || current.source != list) {
+            current = new Snapshot(list);
+            this.snapshot = current;
+        }
+        return current;
+    }
+
+
+    private static boolean isMatch(GlobalKeyValuePO globalKeyValuePO, String key, String applicationName) {
+        return Boolean.TRUE.equals(globalKeyValuePO.getSelect())
+                && key.equals(globalKeyValuePO.getKey())
+                && applicationName.equals(globalKeyValuePO.getApplicationName());
+    }
+
+
+    private static String buildKey(String applicationName, String key) {
+        return applicationName + "\u0000" + key;
+    }
+
+
+    private static class Snapshot {
+
+        private final List<GlobalKeyValuePO> source;
+
+        private final Map<String, GlobalKeyValuePO> indexMap;
+
+        private Snapshot(List<GlobalKeyValuePO> source) {
+            this.source = source;
+            this.indexMap = new HashMap<>();
+            for (GlobalKeyValuePO globalKeyValuePO : source.toArray(new GlobalKeyValuePO[0])) {
+                if (Objects.nonNull(globalKeyValuePO) && Boolean.TRUE.equals(globalKeyValuePO.getSelect())
+                        && FuStringUtils.isNotBlank(globalKeyValuePO.getApplicationName())
+                        && FuStringUtils.isNotBlank(globalKeyValuePO.getKey())) {
+                    //同名变量以第一个为准
+                    this.indexMap.putIfAbsent(buildKey(globalKeyValuePO.getApplicationName(), globalKeyValuePO.getKey()), globalKeyValuePO);
+                }
+            }
+        }
+    }
+}
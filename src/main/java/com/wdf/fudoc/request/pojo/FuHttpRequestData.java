@@ -2,6 +2,7 @@ package com.wdf.fudoc.request.pojo;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.intellij.openapi.module.Module;
+import com.wdf.fudoc.request.execute.transport.FuHttpTiming;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -63,6 +64,12 @@ public class FuHttpRequestData {
     @JsonIgnore
     private Long time;
 
+    /**
+     * 请求各阶段耗时
+     */
+    @JsonIgnore
+    private FuHttpTiming timing;
+
     /**
      * http状态码
      */
@@ -84,4 +91,25 @@ public class FuHttpRequestData {
     public boolean isOk() {
         return Objects.nonNull(this.httpCode) && this.httpCode >= 200 && this.httpCode < 300;
     }
+
+
+    /**
+     * 深拷贝当前请求数据
+     */
+    public FuHttpRequestData copy() {
+        FuHttpRequestData target = new FuHttpRequestData();
+        target.apiKey = this.apiKey;
+        target.requestId = this.requestId;
+        target.moduleId = this.moduleId;
+        target.module = this.module;
+        target.apiName = this.apiName;
+        target.request = Objects.isNull(this.request) ? null : this.request.copy();
+        target.response = Objects.isNull(this.response) ? null : this.response.copy();
+        target.requestStatus = this.requestStatus;
+        target.time = this.time;
+        target.timing = this.timing;
+        target.httpCode = this.httpCode;
+        target.isScript = this.isScript;
+        return target;
+    }
 }
@@ -2,11 +2,13 @@ package com.wdf.fudoc.request.pojo;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.wdf.fudoc.components.bo.KeyValueTableBO;
+import com.wdf.fudoc.util.ObjectUtils;
 import lombok.Getter;
 import lombok.Setter;
 import net.minidev.json.annotate.JsonIgnore;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * http请求body内容
@@ -44,4 +46,18 @@ public class FuRequestBodyData {
      * 请求字节流
      */
     private byte[] binary;
+
+
+    /**
+     * 深拷贝当前请求body
+     */
+    public FuRequestBodyData copy() {
+        FuRequestBodyData target = new FuRequestBodyData();
+        target.formDataList = Objects.isNull(this.formDataList) ? null : ObjectUtils.listToList(this.formDataList, KeyValueTableBO::copy);
+        target.formUrlEncodedList = Objects.isNull(this.formUrlEncodedList) ? null : ObjectUtils.listToList(this.formUrlEncodedList, KeyValueTableBO::copy);
+        target.json = this.json;
+        target.raw = this.raw;
+        target.binary = Objects.isNull(this.binary) ? null : this.binary.clone();
+        return target;
+    }
 }
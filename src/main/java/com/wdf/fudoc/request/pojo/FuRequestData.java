@@ -83,6 +83,26 @@ public class FuRequestData {
     private FuRequestBodyData body;
 
 
+    /**
+     * 深拷贝当前请求数据
+     */
+    public FuRequestData copy() {
+        FuRequestData target = new FuRequestData();
+        target.requestType = this.requestType;
+        target.domain = this.domain;
+        target.contextPath = this.contextPath;
+        target.baseUrl = this.baseUrl;
+        target.paramUrl = this.paramUrl;
+        target.requestUrl = this.requestUrl;
+        target.isFile = this.isFile;
+        target.headers = Objects.isNull(this.headers) ? null : ObjectUtils.listToList(this.headers, HeaderKeyValueBO::copy);
+        target.params = Objects.isNull(this.params) ? null : ObjectUtils.listToList(this.params, KeyValueTableBO::copy);
+        target.pathVariables = Objects.isNull(this.pathVariables) ? null : ObjectUtils.listToList(this.pathVariables, KeyValueTableBO::copy);
+        target.body = Objects.isNull(this.body) ? null : this.body.copy();
+        return target;
+    }
+
+
     public void addHeader(String key, String value) {
         if (Objects.isNull(this.headers)) {
             this.headers = Lists.newArrayList();
@@ -1,6 +1,5 @@
 package com.wdf.fudoc.request.pojo;
 
-import cn.hutool.http.HttpResponse;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.wdf.fudoc.request.constants.enumtype.ResponseType;
@@ -8,8 +7,11 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * http请求响应结果
@@ -22,12 +24,6 @@ import java.util.Map;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class FuResponseData {
 
-    /**
-     * http响应对象
-     */
-    @JsonIgnore
-    private HttpResponse httpResponse;
-
     /**
      * 响应类型
      */
@@ -48,6 +44,17 @@ public class FuResponseData {
     @JsonIgnore
     private byte[] body;
 
+    /**
+     * 响应内容过大时暂存响应内容的临时文件路径(此时content中只有开头部分内容)
+     */
+    @JsonIgnore
+    private String bodyFile;
+
+    /**
+     * content是否只包含响应内容的开头部分
+     */
+    private boolean truncated;
+
     /**
      * 响应状态码
      */
@@ -83,4 +90,29 @@ public class FuResponseData {
      * 响应结果编码
      */
     private Charset charsetFromResponse;
+
+
+    /**
+     * 拷贝当前响应数据
+     */
+    public FuResponseData copy() {
+        FuResponseData target = new FuResponseData();
+        target.responseType = this.responseType;
+        target.content = this.content;
+        target.contentType = this.contentType;
+        target.body = Objects.isNull(this.body) ? null : this.body.clone();
+        target.bodyFile = this.bodyFile;
+        target.truncated = this.truncated;
+        target.status = this.status;
+        target.errorDetail = this.errorDetail;
+        if (Objects.nonNull(this.headers)) {
+            target.headers = new LinkedHashMap<>();
+            this.headers.forEach((key, value) -> target.headers.put(key, Objects.isNull(value) ? null : new ArrayList<>(value)));
+        }
+        target.contentLength = this.contentLength;
+        target.fileName = this.fileName;
+        target.filePath = this.filePath;
+        target.charsetFromResponse = this.charsetFromResponse;
+        return target;
+    }
 }
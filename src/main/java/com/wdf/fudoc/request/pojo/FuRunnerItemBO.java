@@ -0,0 +1,58 @@
+package com.wdf.fudoc.request.pojo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 批量执行请求时表格中的一行
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 10:05:18
+ */
+@Getter
+@Setter
+public class FuRunnerItemBO {
+
+    /**
+     * 是否执行
+     */
+    private Boolean select = true;
+
+    /**
+     * 是否优先执行(例如登录接口) 优先执行的请求按顺序逐个执行 全部完成后再并行执行其余请求
+     */
+    private Boolean first = false;
+
+    private String apiName;
+
+    private String method;
+
+    private String url;
+
+    /**
+     * 执行状态
+     */
+    private String status;
+
+    private String httpCode;
+
+    /**
+     * 耗时(单位:ms)
+     */
+    private String time;
+
+    /**
+     * 失败原因
+     */
+    private String errorMsg;
+
+    /**
+     * 耗时(单位:ms) 未执行时为-1
+     */
+    private long costTime = -1;
+
+    /**
+     * 保存的请求数据
+     */
+    private FuHttpRequestData requestData;
+}
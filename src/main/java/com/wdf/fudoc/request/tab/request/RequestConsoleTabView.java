@@ -23,6 +23,8 @@ import java.util.Objects;
  */
 public class RequestConsoleTabView implements FuTab, HttpCallback {
 
+    public static final String CONSOLE = "Console";
+
     @Getter
     private final FuLogger fuLogger;
     private final JPanel slidePanel;
@@ -36,7 +38,7 @@ public class RequestConsoleTabView implements FuTab, HttpCallback {
 
     @Override
     public TabInfo getTabInfo() {
-        return FuTabComponent.getInstance("Console", FuDocIcons.CONSOLE, fuLogger.getConsoleView().getComponent()).builder();
+        return FuTabComponent.getInstance(CONSOLE, FuDocIcons.CONSOLE, fuLogger.getConsoleView().getComponent()).builder();
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.wdf.fudoc.request.tab.request;
 
 import cn.hutool.core.io.FileUtil;
-import cn.hutool.http.HttpResponse;
 import cn.hutool.json.JSONUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -98,13 +97,16 @@ public class ResponseTabView implements FuTab, HttpCallback {
                 if (FuStringUtils.isNotBlank(fileName)) {
                     //响应结果是文件
                     response.setFileName(fileName);
-                    HttpResponse httpResponse = response.getHttpResponse();
-                    //issue:#22 解决第二次进入下载界面时由于没有缓存文件字节流导致空指针异常问题
-                    if (Objects.nonNull(httpResponse)) {
+                    byte[] body = response.getBody();
+                    if (FuStringUtils.isNotBlank(response.getBodyFile())) {
+                        //响应内容已在下载时写入临时文件 直接使用该文件
+                        response.setFilePath(response.getBodyFile());
+                    } else if (Objects.nonNull(body)) {
+                        //issue:#22 解决第二次进入下载界面时由于没有缓存文件字节流导致空指针异常问题
                         //将文件暂存到临时目录
                         String suffix = FileUtil.getSuffix(fileName);
                         File tmpFile = ResourceUtils.createFuRequestFileDir(project.getName(), suffix);
-                        FileUtil.writeBytes(httpResponse.bodyBytes(), tmpFile);
+                        FileUtil.writeBytes(body, tmpFile);
                         response.setFilePath(tmpFile.getPath());
                     }
                     //响应面板切换到文件下载面板
@@ -124,11 +126,16 @@ public class ResponseTabView implements FuTab, HttpCallback {
                         currentContentType = contentType;
 
                         try {
-                            // 检查内容长度
-                            if (content.length() > MAX_CONTENT_LENGTH) {
+                            if (response.isTruncated()) {
+                                // 响应内容过大 只展示开头部分
+                                log.warn("响应内容过大，大小: {}, 只展示开头部分", response.getContentLength());
+                                responseContentView.setContent(content + buildTruncatedTip(response), contentType, response.getContentLength());
+                                switchPanel(4, responseContentView.getComponent());
+                            } else if (content.length() > MAX_CONTENT_LENGTH) {
+                                // 检查内容长度
                                 log.warn("响应内容过长，长度: {}, 将截断显示", content.length());
                                 // 使用新的响应内容视图（支持大文件）
-                                responseContentView.setContent(content, contentType);
+                                responseContentView.setContent(content, contentType, response.getContentLength());
                                 switchPanel(4, responseContentView.getComponent());
                             } else {
                                 // 判断是否为JSON格式
@@ -139,7 +146,7 @@ public class ResponseTabView implements FuTab, HttpCallback {
                                     switchPanel(1, fuEditorComponent.getMainPanel());
                                 } else {
                                     // 非JSON格式，使用新的响应内容视图
-                                    responseContentView.setContent(content, contentType);
+                                    responseContentView.setContent(content, contentType, response.getContentLength());
                                     switchPanel(4, responseContentView.getComponent());
                                 }
                             }
@@ -251,6 +258,15 @@ public class ResponseTabView implements FuTab, HttpCallback {
         return false;
     }
 
+    /**
+     * 响应内容只展示了开头部分时的提示
+     */
+    private String buildTruncatedTip(FuResponseData response) {
+        String bodyFile = response.getBodyFile();
+        String tip = "\n\n... [响应内容过大(" + FileUtil.readableFileSize(response.getContentLength()) + ")，仅展示开头部分";
+        return FuStringUtils.isBlank(bodyFile) || !FileUtil.exist(bodyFile) ? tip + "] ..." : tip + "，完整内容: " + bodyFile + "] ...";
+    }
+
     /**
      * 格式化 JSON 内容
      * 避免长字符串换行时导致格式问题
@@ -1,6 +1,6 @@
 package com.wdf.fudoc.request.tab.settings;
 
-import com.google.common.collect.Lists;
+import com.intellij.openapi.project.Project;
 import com.intellij.ui.tabs.TabInfo;
 import com.wdf.fudoc.common.FuDataTab;
 import com.wdf.fudoc.components.FuTabComponent;
@@ -8,6 +8,7 @@ import com.wdf.fudoc.components.FuTableComponent;
 import com.wdf.fudoc.components.factory.FuTableColumnFactory;
 import com.wdf.fudoc.request.po.FuCookiePO;
 import com.wdf.fudoc.request.po.FuRequestConfigPO;
+import com.wdf.fudoc.storage.FuCookieStore;
 import icons.FuDocIcons;
 
 /**
@@ -22,18 +23,21 @@ public class GlobalCookiesTab implements FuDataTab<FuRequestConfigPO> {
      */
     private final FuTableComponent<FuCookiePO> fuTableComponent;
 
-    public GlobalCookiesTab() {
+    private final FuCookieStore fuCookieStore;
+
+    public GlobalCookiesTab(Project project) {
+        this.fuCookieStore = FuCookieStore.getInstance(project);
         this.fuTableComponent = FuTableComponent.create(FuTableColumnFactory.cookie(), FuCookiePO.class);
     }
 
     @Override
     public void initData(FuRequestConfigPO data) {
-        this.fuTableComponent.setDataList(Lists.newArrayList(data.getCookies()));
+        this.fuTableComponent.setDataList(this.fuCookieStore.list());
     }
 
     @Override
     public void saveData(FuRequestConfigPO data) {
-        data.setCookies(Lists.newArrayList(this.fuTableComponent.getDataList()));
+        this.fuCookieStore.replaceAll(this.fuTableComponent.getDataList());
     }
 
     @Override
@@ -80,7 +80,7 @@ public class FuRequestSettingView extends DialogWrapper {
         this.globalConfigTab = new GlobalConfigTab(project);
         this.globalVariableTab = new GlobalVariableTab(project, getDisposable());
         this.globalHeaderTab = new GlobalHeaderTab(project, getDisposable());
-        this.globalCookiesTab = new GlobalCookiesTab();
+        this.globalCookiesTab = new GlobalCookiesTab(project);
         this.globalPreScriptTab = new GlobalScriptTab(project, ScriptType.PRE_SCRIPT, getDisposable());
 //        this.globalPostScriptTab = new GlobalScriptTab(project, ScriptType.POST_SCRIPT, getDisposable());
         //初始化数据
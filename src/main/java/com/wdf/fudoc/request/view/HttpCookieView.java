@@ -1,14 +1,11 @@
 package com.wdf.fudoc.request.view;
 
-import com.google.common.collect.Lists;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.wdf.fudoc.components.FuTableComponent;
 import com.wdf.fudoc.components.factory.FuTableColumnFactory;
 import com.wdf.fudoc.request.po.FuCookiePO;
-import com.wdf.fudoc.request.po.FuRequestConfigPO;
-import com.wdf.fudoc.storage.FuRequestConfigStorage;
-import com.wdf.fudoc.storage.FuRequestConfigStorage;
+import com.wdf.fudoc.storage.FuCookieStore;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
@@ -25,12 +22,12 @@ public class HttpCookieView extends DialogWrapper {
      */
     private final FuTableComponent<FuCookiePO> fuTableComponent;
 
-    private final FuRequestConfigStorage storage;
+    private final FuCookieStore fuCookieStore;
 
     public HttpCookieView(@Nullable Project project) {
         super(project, false);
-        this.storage = FuRequestConfigStorage.get(project);
-        this.fuTableComponent = FuTableComponent.create(FuTableColumnFactory.cookie(), storage.readData().getCookies(), FuCookiePO.class);
+        this.fuCookieStore = FuCookieStore.getInstance(project);
+        this.fuTableComponent = FuTableComponent.create(FuTableColumnFactory.cookie(), fuCookieStore.list(), FuCookiePO.class);
         setModal(true);
         init();
         setTitle("Cookie管理");
@@ -46,9 +43,7 @@ public class HttpCookieView extends DialogWrapper {
 
     @Override
     protected void doOKAction() {
-        FuRequestConfigPO fuRequestConfigPO = storage.readData();
-        fuRequestConfigPO.setCookies(this.fuTableComponent.getDataList());
-        storage.saveData(fuRequestConfigPO);
+        fuCookieStore.replaceAll(this.fuTableComponent.getDataList());
         super.doOKAction();
     }
 }
@@ -18,6 +18,7 @@ import com.wdf.fudoc.request.constants.RequestConstants;
 import com.wdf.fudoc.request.manager.FuRequestManager;
 import com.wdf.fudoc.request.manager.FuRequestToolBarManager;
 import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.console.FuLogger;
 import com.wdf.fudoc.request.tab.request.RequestConsoleTabView;
 import com.wdf.fudoc.request.tab.request.RequestTabView;
 import com.wdf.fudoc.request.tab.request.ResponseTabView;
@@ -107,6 +108,16 @@ public class HttpDialogView extends DialogWrapper implements HttpCallback, SendH
         sendRequestHandler.stopHttp();
     }
 
+    @Override
+    public FuLogger getFuLogger() {
+        return this.requestConsoleTabView.getFuLogger();
+    }
+
+    @Override
+    public void selectConsole() {
+        this.fuTabBuilder.select(RequestConsoleTabView.CONSOLE);
+    }
+
     @Override
     protected void dispose() {
         //当前窗体被销毁了 需要手动移除
@@ -21,7 +21,6 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.*;
-import java.nio.charset.StandardCharsets;
 
 /**
  * 响应内容显示组件
@@ -47,6 +46,10 @@ public class ResponseContentView {
 
     // 最大显示内容长度（超过则截断显示）
     private static final int MAX_CONTENT_LENGTH = 10 * 1024 * 1024; // 10MB
+    // 超过该长度的内容不再完整解析判断是否为JSON
+    private static final int JSON_PARSE_THRESHOLD = 100 * 1024; // 100KB
+    // 根据内容判断类型时只检查开头部分
+    private static final int CONTENT_SNIFF_LENGTH = 4096;
 
     public ResponseContentView(@NotNull Project project, @NotNull Disposable parentDisposable) {
         this.project = project;
@@ -87,12 +90,23 @@ public class ResponseContentView {
      * @param contentType 内容类型
      */
     public void setContent(String content, String contentType) {
+        setContent(content, contentType, -1);
+    }
+
+    /**
+     * 设置响应内容
+     *
+     * @param content       响应内容
+     * @param contentType   内容类型
+     * @param contentLength 响应内容实际大小(字节) 小于0时按utf-8编码计算
+     */
+    public void setContent(String content, String contentType, long contentLength) {
         if (content == null) {
             content = "";
         }
 
-        // 更新内容大小
-        int byteLength = content.getBytes(StandardCharsets.UTF_8).length;
+        // 更新内容大小(直接统计utf-8编码后的字节数 不再额外编码一份内容)
+        long byteLength = contentLength >= 0 ? contentLength : utf8Length(content);
         String sizeText = formatSize(byteLength);
         contentSizeLabel.setText(sizeText);
 
@@ -208,17 +222,23 @@ public class ResponseContentView {
             }
         }
 
-        // 根据内容判断
-        if (FuStringUtils.isNotBlank(content)) {
-            String trimmedContent = content.trim();
+        // 根据内容判断(只检查首尾字符和开头部分内容 不复制整个内容)
+        int start = firstNonWhitespace(content);
+        if (start >= 0) {
+            int end = lastNonWhitespace(content);
+            char first = content.charAt(start);
+            char last = content.charAt(end);
 
             // JSON格式判断
-            if ((trimmedContent.startsWith("{") && trimmedContent.endsWith("}")) ||
-                (trimmedContent.startsWith("[") && trimmedContent.endsWith("]"))) {
+            if ((first == '{' && last == '}') || (first == '[' && last == ']')) {
+                if (content.length() > JSON_PARSE_THRESHOLD) {
+                    // 内容较大时不再完整解析 直接根据首尾字符判断
+                    return JsonFileTypeCompat.getJsonFileType();
+                }
                 try {
                     // 尝试解析JSON
                     com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                    mapper.readTree(trimmedContent);
+                    mapper.readTree(content);
                     return JsonFileTypeCompat.getJsonFileType();
                 } catch (Exception e) {
                     // 不是JSON，继续判断其他格式
@@ -226,14 +246,13 @@ public class ResponseContentView {
             }
 
             // XML格式判断
-            if (trimmedContent.startsWith("<?xml") || trimmedContent.startsWith("<")) {
+            if (first == '<') {
                 return FileTypeManager.getInstance().getFileTypeByExtension("xml");
             }
 
             // HTML格式判断
-            if (trimmedContent.startsWith("<!DOCTYPE html") ||
-                trimmedContent.startsWith("<html") ||
-                trimmedContent.toLowerCase().contains("<div")) {
+            String head = content.substring(start, Math.min(content.length(), start + CONTENT_SNIFF_LENGTH));
+            if (StringUtils.containsIgnoreCase(head, "<div")) {
                 return FileTypeManager.getInstance().getFileTypeByExtension("html");
             }
         }
@@ -242,6 +261,45 @@ public class ResponseContentView {
         return FileTypeManager.getInstance().getFileTypeByExtension("txt");
     }
 
+    private static int firstNonWhitespace(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            if (!Character.isWhitespace(content.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastNonWhitespace(String content) {
+        for (int i = content.length() - 1; i >= 0; i--) {
+            if (!Character.isWhitespace(content.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 统计内容按utf-8编码后的字节数
+     */
+    private static long utf8Length(String content) {
+        long length = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < content.length() && Character.isLowSurrogate(content.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
     /**
      * 格式化文件大小显示
      *
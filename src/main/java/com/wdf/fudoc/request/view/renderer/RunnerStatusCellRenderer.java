@@ -0,0 +1,36 @@
+package com.wdf.fudoc.request.view.renderer;
+
+import com.intellij.ui.JBColor;
+import com.wdf.fudoc.request.constants.enumtype.RunnerStatus;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.util.Objects;
+
+/**
+ * 批量执行请求状态单元格渲染
+ *
+ * @author wangdingfu
+ * @date 2025-02-24 10:12:06
+ */
+public class RunnerStatusCellRenderer extends DefaultTableCellRenderer {
+
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+        Component c = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+        RunnerStatus runnerStatus = Objects.isNull(value) ? null : RunnerStatus.getInstance(value.toString());
+        if (Objects.isNull(runnerStatus)) {
+            c.setForeground(table.getForeground());
+            return c;
+        }
+        switch (runnerStatus) {
+            case SUCCESS -> c.setForeground(JBColor.GREEN);
+            case FAIL -> c.setForeground(JBColor.RED);
+            case RUNNING -> c.setForeground(JBColor.BLUE);
+            default -> c.setForeground(JBColor.GRAY);
+        }
+        return c;
+    }
+}
@@ -11,6 +11,7 @@ import com.wdf.fudoc.common.datakey.FuDocDataKey;
 import com.wdf.fudoc.components.factory.FuTabBuilder;
 import com.wdf.fudoc.components.listener.SendHttpListener;
 import com.wdf.fudoc.components.message.MessageComponent;
+import com.wdf.fudoc.console.FuLogger;
 import cn.fudoc.common.msg.FuMsgBuilder;
 import cn.fudoc.common.enumtype.FuColor;
 import com.wdf.fudoc.request.HttpCallback;
@@ -71,6 +72,13 @@ public class FuRequestWindow extends SimpleToolWindowPanel implements DataProvid
      */
     private final ResponseHeaderTabView responseHeaderTabView;
 
+    /**
+     * 日志控制台
+     */
+    private final RequestConsoleTabView requestConsoleTabView;
+
+    private final FuTabBuilder fuTabBuilder;
+
     /**
      * 状态信息面板
      */
@@ -104,11 +112,11 @@ public class FuRequestWindow extends SimpleToolWindowPanel implements DataProvid
         this.responseTabView = new ResponseTabView(project, null, toolWindow.getDisposable());
         this.envWidget = new EnvWidget(this.project, this.requestTabView, this);
         this.userWidget = new UserWidget(project, this);
-        RequestConsoleTabView requestConsoleTabView = new RequestConsoleTabView(this.project, null, toolWindow.getDisposable());
+        this.requestConsoleTabView = new RequestConsoleTabView(this.project, null, toolWindow.getDisposable());
         this.responseHeaderTabView = new ResponseHeaderTabView(project);
         splitter.setFirstComponent(this.requestTabView.getRootPane());
-        FuTabBuilder fuTabBuilder = FuTabBuilder.getInstance().addTab(this.responseTabView).addTab(this.responseHeaderTabView).addTab(requestConsoleTabView);
-        splitter.setSecondComponent(fuTabBuilder.build());
+        this.fuTabBuilder = FuTabBuilder.getInstance().addTab(this.responseTabView).addTab(this.responseHeaderTabView).addTab(this.requestConsoleTabView);
+        splitter.setSecondComponent(this.fuTabBuilder.build());
         this.rootPanel.add(splitter, BorderLayout.CENTER);
         this.messageComponent = new MessageComponent(true);
         this.messageComponent.addWidget(this.envWidget);
@@ -116,7 +124,7 @@ public class FuRequestWindow extends SimpleToolWindowPanel implements DataProvid
         this.messageComponent.switchInfo();
         this.rootPanel.add(this.messageComponent.getRootPanel(), BorderLayout.SOUTH);
         setContent(this.rootPanel);
-        this.sendRequestHandler = new SendRequestHandler(project, this, requestConsoleTabView.getFuLogger());
+        this.sendRequestHandler = new SendRequestHandler(project, this, this.requestConsoleTabView.getFuLogger());
     }
 
 
@@ -139,6 +147,16 @@ public class FuRequestWindow extends SimpleToolWindowPanel implements DataProvid
         this.sendRequestHandler.stopHttp();
     }
 
+    @Override
+    public FuLogger getFuLogger() {
+        return this.requestConsoleTabView.getFuLogger();
+    }
+
+    @Override
+    public void selectConsole() {
+        this.fuTabBuilder.select(RequestConsoleTabView.CONSOLE);
+    }
+
     @Override
     public void initData(FuHttpRequestData httpRequestData) {
         this.httpRequestData = httpRequestData;
@@ -0,0 +1,480 @@
+package com.wdf.fudoc.storage;
+
+import cn.fudoc.common.constants.FuPaths;
+import cn.fudoc.common.util.JsonUtil;
+import cn.hutool.core.util.URLUtil;
+import com.google.common.net.InternetDomainName;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.request.po.FuCookiePO;
+import com.wdf.fudoc.request.po.FuRequestConfigPO;
+import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.StorageUtils;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+
+import java.net.HttpCookie;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 【Fu Request】cookie存储(项目级别 参考RFC 6265)
+ * <p>
+ * cookie按域名分组索引 发起请求时只查找请求主机及其上级域名下的cookie 并按路径、secure、过期时间过滤
+ * 没有域名的cookie(手动添加或旧版本保存的)会发送给所有请求
+ * 存储文件: /fudoc/projectName/config/cookies.json 修改后合并写入 不再重写整个request-config.json
+ *
+ * @author wangdingfu
+ * @date 2025-02-27 10:16:25
+ */
+@Slf4j
+public class FuCookieStore implements Disposable {
+
+    private static final String FILE_NAME = "cookies.json";
+
+    /**
+     * 没有域名的cookie分组
+     */
+    private static final String ANY_DOMAIN = "";
+
+    /**
+     * 每个域名下最多保存的cookie数量
+     */
+    private static final int MAX_DOMAIN_SIZE = 50;
+
+    /**
+     * 最多保存的cookie数量
+     */
+    private static final int MAX_SIZE = 1000;
+
+    /**
+     * cookie变更后延迟写入文件的时间(单位:ms) 期间的多次变更只写入一次
+     */
+    private static final long SAVE_DELAY = 1000;
+
+    private final Project project;
+
+    private final String path;
+
+    /**
+     * key:域名(小写 不带开头的.) value:该域名下的cookie
+     */
+    private final Map<String, List<FuCookiePO>> domainMap = new HashMap<>();
+
+    private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
+
+    private int size;
+
+    private boolean loaded;
+
+    private boolean dirty;
+
+
+    public FuCookieStore(Project project) {
+        this(project, Paths.get(FuPaths.BASE_PATH, project.getName(), FuPaths.CONFIG).toString());
+    }
+
+    FuCookieStore(Project project, String path) {
+        this.project = project;
+        this.path = path;
+    }
+
+    public static FuCookieStore getInstance(Project project) {
+        return project.getService(FuCookieStore.class);
+    }
+
+
+    /**
+     * 获取发送给请求地址的cookie
+     *
+     * @param requestUrl 请求地址
+     * @return 按路径长度倒序、创建时间正序排列的cookie
+     */
+    public synchronized List<FuCookiePO> match(String requestUrl) {
+        URL url = toUrl(requestUrl);
+        if (Objects.isNull(url)) {
+            return new ArrayList<>();
+        }
+        ensureLoaded();
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        String requestPath = FuStringUtils.defaultIfBlank(url.getPath(), "/");
+        boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+        long now = System.currentTimeMillis();
+        List<FuCookiePO> matchList = new ArrayList<>();
+        for (String domain : candidateDomains(host)) {
+            List<FuCookiePO> cookieList = domainMap.get(domain);
+            if (Objects.isNull(cookieList)) {
+                continue;
+            }
+            Iterator<FuCookiePO> iterator = cookieList.iterator();
+            while (iterator.hasNext()) {
+                FuCookiePO cookie = iterator.next();
+                if (isExpired(cookie, now)) {
+                    iterator.remove();
+                    size--;
+                    markDirty();
+                    continue;
+                }
+                if ((cookie.isHostOnly() && !domain.equals(host)) || (cookie.isSecure() && !secure) || !pathMatch(cookie.getPath(), requestPath)) {
+                    continue;
+                }
+                matchList.add(cookie);
+            }
+            if (cookieList.isEmpty()) {
+                domainMap.remove(domain);
+            }
+        }
+        matchList.sort(Comparator.comparingInt((FuCookiePO f) -> FuStringUtils.length(f.getPath())).reversed().thenComparingLong(FuCookiePO::getCreateTime));
+        return matchList;
+    }
+
+
+    /**
+     * 保存响应中的cookie
+     *
+     * @param requestUrl 请求地址
+     * @param cookies    响应中的cookie
+     */
+    public synchronized void store(String requestUrl, List<HttpCookie> cookies) {
+        URL url = toUrl(requestUrl);
+        if (Objects.isNull(url) || CollectionUtils.isEmpty(cookies)) {
+            return;
+        }
+        ensureLoaded();
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        for (HttpCookie httpCookie : cookies) {
+            if (FuStringUtils.isBlank(httpCookie.getName())) {
+                continue;
+            }
+            String domain = normalizeDomain(httpCookie.getDomain());
+            boolean hostOnly = FuStringUtils.isBlank(domain);
+            if (hostOnly) {
+                domain = host;
+            } else if (!domainMatch(host, domain)) {
+                //不允许为其他域名设置cookie
+                log.info("忽略cookie【{}】 域名{}与请求地址{}不匹配", httpCookie.getName(), domain, host);
+                continue;
+            } else if (isPublicSuffix(domain)) {
+                //不允许为公共后缀(例如com、github.io)设置cookie 否则会发送给该后缀下的所有域名(RFC 6265 5.3)
+                if (!domain.equals(host)) {
+                    log.info("忽略cookie【{}】 域名{}为公共后缀", httpCookie.getName(), domain);
+                    continue;
+                }
+                hostOnly = true;
+            }
+            String cookiePath = FuStringUtils.startsWith(httpCookie.getPath(), "/") ? httpCookie.getPath() : defaultPath(url.getPath());
+            FuCookiePO oldCookie = remove(domain, httpCookie.getName(), cookiePath);
+            long maxAge = httpCookie.getMaxAge();
+            if (maxAge == 0 || httpCookie.hasExpired()) {
+                //服务端删除cookie
+                continue;
+            }
+            FuCookiePO cookie = new FuCookiePO();
+            cookie.setName(httpCookie.getName());
+            cookie.setValue(httpCookie.getValue());
+            cookie.setDomain(domain);
+            cookie.setPath(cookiePath);
+            cookie.setHostOnly(hostOnly);
+            cookie.setSecure(httpCookie.getSecure());
+            cookie.setHttpOnly(httpCookie.isHttpOnly());
+            cookie.setExpiresAt(maxAge > 0 ? now + maxAge * 1000 : 0);
+            cookie.setCreateTime(Objects.isNull(oldCookie) ? now : oldCookie.getCreateTime());
+            add(cookie);
+        }
+        evict(now);
+        markDirty();
+    }
+
+
+    /**
+     * 获取所有cookie(拷贝 用于界面展示 界面上的编辑通过{@link #replaceAll(List)}保存)
+     */
+    public synchronized List<FuCookiePO> list() {
+        ensureLoaded();
+        List<FuCookiePO> cookieList = new ArrayList<>();
+        domainMap.values().forEach(cookies -> cookies.forEach(cookie -> cookieList.add(cookie.copy())));
+        cookieList.sort(Comparator.comparing((FuCookiePO f) -> FuStringUtils.defaultString(f.getDomain())).thenComparingLong(FuCookiePO::getCreateTime));
+        return cookieList;
+    }
+
+
+    /**
+     * 使用界面上编辑后的cookie替换所有cookie(保存的是拷贝 之后界面上的编辑不会直接修改存储中的cookie)
+     */
+    public synchronized void replaceAll(List<FuCookiePO> cookies) {
+        ensureLoaded();
+        domainMap.clear();
+        size = 0;
+        long now = System.currentTimeMillis();
+        if (CollectionUtils.isNotEmpty(cookies)) {
+            for (FuCookiePO editCookie : cookies) {
+                if (Objects.isNull(editCookie) || FuStringUtils.isBlank(editCookie.getName())) {
+                    continue;
+                }
+                FuCookiePO cookie = editCookie.copy();
+                cookie.setDomain(normalizeDomain(cookie.getDomain()));
+                if (cookie.getCreateTime() <= 0) {
+                    cookie.setCreateTime(now);
+                }
+                add(cookie);
+            }
+        }
+        evict(now);
+        markDirty();
+    }
+
+
+    @Override
+    public void dispose() {
+        save();
+    }
+
+
+    private void add(FuCookiePO cookie) {
+        domainMap.computeIfAbsent(FuStringUtils.defaultString(cookie.getDomain()), k -> new ArrayList<>()).add(cookie);
+        size++;
+    }
+
+
+    private FuCookiePO remove(String domain, String name, String cookiePath) {
+        List<FuCookiePO> cookieList = domainMap.get(domain);
+        if (Objects.isNull(cookieList)) {
+            return null;
+        }
+        for (Iterator<FuCookiePO> iterator = cookieList.iterator(); iterator.hasNext(); ) {
+            FuCookiePO cookie = iterator.next();
+            if (name.equals(cookie.getName()) && cookiePath.equals(cookie.getPath())) {
+                iterator.remove();
+                size--;
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * 移除过期的cookie 超出数量上限时淘汰最早创建的cookie
+     */
+    private void evict(long now) {
+        for (Iterator<List<FuCookiePO>> iterator = domainMap.values().iterator(); iterator.hasNext(); ) {
+            List<FuCookiePO> cookieList = iterator.next();
+            int before = cookieList.size();
+            cookieList.removeIf(f -> isExpired(f, now));
+            if (cookieList.size() > MAX_DOMAIN_SIZE) {
+                cookieList.sort(Comparator.comparingLong(FuCookiePO::getCreateTime));
+                cookieList.subList(0, cookieList.size() - MAX_DOMAIN_SIZE).clear();
+            }
+            size -= before - cookieList.size();
+            if (cookieList.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        while (size > MAX_SIZE) {
+            List<FuCookiePO> oldestList = null;
+            FuCookiePO oldest = null;
+            for (List<FuCookiePO> cookieList : domainMap.values()) {
+                for (FuCookiePO cookie : cookieList) {
+                    if (Objects.isNull(oldest) || cookie.getCreateTime() < oldest.getCreateTime()) {
+                        oldest = cookie;
+                        oldestList = cookieList;
+                    }
+                }
+            }
+            if (Objects.isNull(oldestList)) {
+                break;
+            }
+            oldestList.remove(oldest);
+            size--;
+            if (oldestList.isEmpty()) {
+                domainMap.remove(FuStringUtils.defaultString(oldest.getDomain()));
+            }
+        }
+    }
+
+
+    /**
+     * 首次使用时加载cookie 没有cookie文件时从request-config.json中迁移旧版本保存的cookie
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        String content = StorageUtils.readContent(path, FILE_NAME);
+        List<FuCookiePO> cookieList;
+        if (FuStringUtils.isNotBlank(content)) {
+            CookieData cookieData = JsonUtil.toBean(content, CookieData.class);
+            cookieList = Objects.isNull(cookieData) ? null : cookieData.getCookies();
+        } else {
+            FuRequestConfigPO configPO = FuRequestConfigStorage.get(project).readData();
+            cookieList = configPO.getCookies();
+            if (CollectionUtils.isNotEmpty(cookieList)) {
+                configPO.setCookies(new ArrayList<>());
+                markDirty();
+            }
+        }
+        if (CollectionUtils.isNotEmpty(cookieList)) {
+            cookieList.stream().filter(Objects::nonNull).filter(f -> FuStringUtils.isNotBlank(f.getName())).forEach(cookie -> {
+                cookie.setDomain(normalizeDomain(cookie.getDomain()));
+                add(cookie);
+            });
+        }
+    }
+
+
+    private void markDirty() {
+        dirty = true;
+        if (saveScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+                saveScheduled.set(false);
+                save();
+            }, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    private synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        CookieData cookieData = new CookieData();
+        domainMap.values().forEach(cookieData.getCookies()::addAll);
+        try {
+            StorageUtils.writeAtomic(Paths.get(path, FILE_NAME), JsonUtil.toJson(cookieData));
+        } catch (Exception e) {
+            log.error("保存cookie失败", e);
+        }
+    }
+
+
+    /**
+     * 请求主机及其上级域名 最后是没有域名的分组
+     */
+    private static List<String> candidateDomains(String host) {
+        List<String> domainList = new ArrayList<>();
+        domainList.add(host);
+        if (!isIpAddress(host)) {
+            int index = host.indexOf('.');
+            while (index > 0 && index < host.length() - 1) {
+                domainList.add(host.substring(index + 1));
+                index = host.indexOf('.', index + 1);
+            }
+        }
+        domainList.add(ANY_DOMAIN);
+        return domainList;
+    }
+
+
+    /**
+     * 域名匹配(RFC 6265 5.1.3)
+     */
+    private static boolean domainMatch(String host, String domain) {
+        if (host.equals(domain)) {
+            return true;
+        }
+        return !isIpAddress(host) && host.endsWith("." + domain);
+    }
+
+
+    /**
+     * 是否为公共后缀 没有上级域名的(例如com、localhost)也视为公共后缀
+     */
+    private static boolean isPublicSuffix(String domain) {
+        if (isIpAddress(domain)) {
+            return false;
+        }
+        if (domain.indexOf('.') < 0) {
+            return true;
+        }
+        try {
+            return InternetDomainName.from(domain).isPublicSuffix();
+        } catch (IllegalArgumentException e) {
+            //不是合法的域名(例如包含下划线) 按普通域名处理
+            return false;
+        }
+    }
+
+
+    /**
+     * 路径匹配(RFC 6265 5.1.4) 没有路径的cookie匹配所有路径
+     */
+    private static boolean pathMatch(String cookiePath, String requestPath) {
+        if (FuStringUtils.isBlank(cookiePath) || cookiePath.equals(requestPath)) {
+            return true;
+        }
+        if (!requestPath.startsWith(cookiePath)) {
+            return false;
+        }
+        return cookiePath.endsWith("/") || requestPath.charAt(cookiePath.length()) == '/';
+    }
+
+
+    /**
+     * 默认路径(RFC 6265 5.1.4): 请求路径最后一个/之前的部分
+     */
+    private static String defaultPath(String requestPath) {
+        if (FuStringUtils.isBlank(requestPath) || !requestPath.startsWith("/")) {
+            return "/";
+        }
+        int index = requestPath.lastIndexOf('/');
+        return index <= 0 ? "/" : requestPath.substring(0, index);
+    }
+
+
+    private static String normalizeDomain(String domain) {
+        if (FuStringUtils.isBlank(domain)) {
+            return ANY_DOMAIN;
+        }
+        return FuStringUtils.removeStart(domain.trim(), ".").toLowerCase(Locale.ROOT);
+    }
+
+
+    private static boolean isExpired(FuCookiePO cookie, long now) {
+        return cookie.getExpiresAt() > 0 && cookie.getExpiresAt() <= now;
+    }
+
+
+    private static boolean isIpAddress(String host) {
+        return host.contains(":") || host.matches("\\d{1,3}(\\.\\d{1,3}){3}");
+    }
+
+
+    private static URL toUrl(String requestUrl) {
+        if (FuStringUtils.isBlank(requestUrl)) {
+            return null;
+        }
+        try {
+            URL url = URLUtil.toUrlForHttp(requestUrl);
+            return FuStringUtils.isBlank(url.getHost()) ? null : url;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * cookie文件内容
+     */
+    @Getter
+    @Setter
+    public static class CookieData {
+
+        private List<FuCookiePO> cookies = new ArrayList<>();
+    }
+}
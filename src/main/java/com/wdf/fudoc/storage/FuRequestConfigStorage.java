@@ -1,32 +1,62 @@
 package com.wdf.fudoc.storage;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import cn.fudoc.common.constants.FuPaths;
 import com.wdf.fudoc.request.po.FuRequestConfigPO;
 import cn.fudoc.common.util.JsonUtil;
-import cn.fudoc.common.util.StorageUtils;
 import com.wdf.fudoc.util.FuStringUtils;
+import com.wdf.fudoc.util.StorageUtils;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * [Fu Request]配置持久化
  * /fudoc/projectName/config/request-config.json
  * /fudoc/projectName/config/script/前置脚本.js
+ * <p>
+ * 保存时在调用线程中生成配置的快照(json) 一段时间内的多次保存只写入最新的快照 在后台线程中先写临时文件再重命名覆盖 项目关闭时立即写入
  *
  * @author wangdingfu
  * @date 2023-06-10 22:52:59
  */
+@Slf4j
 public class FuRequestConfigStorage {
 
     private static final String FILE_NAME = "request-config.json";
 
+    /**
+     * 合并写入的时间窗口(单位:ms)
+     */
+    private static final long SAVE_DELAY = 500;
+
+    /**
+     * 生成快照失败时的最大重试次数
+     */
+    private static final int MAX_RETRY = 3;
+
     private final String path;
 
-    private FuRequestConfigPO configPO;
+    private volatile FuRequestConfigPO configPO;
+
+    /**
+     * 还未写入文件的配置快照
+     */
+    private final AtomicReference<String> pendingContent = new AtomicReference<>();
+
+    /**
+     * 是否已经提交了写入任务
+     */
+    private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
 
     private FuRequestConfigStorage(Project project) {
         this.path = Paths.get(FuPaths.BASE_PATH, project.getName(), FuPaths.CONFIG).toString();
@@ -35,15 +65,24 @@ public class FuRequestConfigStorage {
     private static final Map<Project, FuRequestConfigStorage> storageMap = new ConcurrentHashMap<>();
 
     public static FuRequestConfigStorage get(Project project) {
-        FuRequestConfigStorage fuRequestConfigStorage = storageMap.get(project);
-        if (Objects.isNull(fuRequestConfigStorage)) {
-            fuRequestConfigStorage = new FuRequestConfigStorage(project);
-            storageMap.put(project, fuRequestConfigStorage);
-        }
-        return fuRequestConfigStorage;
+        return storageMap.computeIfAbsent(project, key -> {
+            FuRequestConfigStorage fuRequestConfigStorage = new FuRequestConfigStorage(key);
+            //项目关闭时写入未保存的变更
+            Disposer.register(key, () -> {
+                fuRequestConfigStorage.flush();
+                storageMap.remove(key);
+            });
+            return fuRequestConfigStorage;
+        });
     }
 
     public FuRequestConfigPO readData() {
+        FuRequestConfigPO current = this.configPO;
+        return Objects.nonNull(current) ? current : loadData();
+    }
+
+
+    private synchronized FuRequestConfigPO loadData() {
         if (Objects.nonNull(this.configPO)) {
             return this.configPO;
         }
@@ -59,9 +98,63 @@ public class FuRequestConfigStorage {
     }
 
 
+    /**
+     * 生成配置的快照 稍后在后台线程中写入文件
+     * <p>
+     * 快照在调用线程(修改配置的线程)中生成 与脚本中修改配置互斥 后台线程只负责写入
+     */
     public void saveData() {
-        if (Objects.nonNull(this.configPO)) {
-            StorageUtils.writeJson(path, FILE_NAME, configPO);
+        FuRequestConfigPO current = this.configPO;
+        if (Objects.isNull(current)) {
+            return;
+        }
+        if (!snapshot(current)) {
+            return;
+        }
+        if (saveScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+                saveScheduled.set(false);
+                flush();
+            }, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * 立即写入未保存的变更
+     */
+    public synchronized void flush() {
+        String content = pendingContent.getAndSet(null);
+        if (Objects.isNull(content)) {
+            return;
+        }
+        try {
+            StorageUtils.writeAtomic(Paths.get(path, FILE_NAME), content);
+        } catch (IOException e) {
+            log.error("保存【Fu Request】配置失败", e);
+        }
+    }
+
+
+    /**
+     * 序列化配置作为待写入的快照 序列化期间脚本不能修改配置(脚本中修改配置时持有配置对象的锁)
+     *
+     * @return false 多次重试仍序列化失败
+     */
+    private boolean snapshot(FuRequestConfigPO current) {
+        for (int retry = 1; ; retry++) {
+            try {
+                synchronized (current) {
+                    pendingContent.set(JsonUtil.toJson(current));
+                    return true;
+                }
+            } catch (Exception e) {
+                if (retry >= MAX_RETRY) {
+                    log.error("序列化【Fu Request】配置失败 本次变更未保存", e);
+                    return false;
+                }
+                log.info("序列化【Fu Request】配置失败 第{}次重试", retry, e);
+            }
         }
     }
 
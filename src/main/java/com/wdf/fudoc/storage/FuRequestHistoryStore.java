@@ -0,0 +1,497 @@
+package com.wdf.fudoc.storage;
+
+import cn.fudoc.common.util.JsonUtil;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wdf.fudoc.common.constant.FuDocConstants;
+import com.wdf.fudoc.request.global.GlobalRequestData;
+import com.wdf.fudoc.request.pojo.FuHttpRequestData;
+import com.wdf.fudoc.request.pojo.FuResponseData;
+import com.wdf.fudoc.request.state.FuRequestState;
+import com.wdf.fudoc.util.FuStringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 【Fu Request】请求记录存储(项目级别)
+ * <p>
+ * 请求记录不再以json字符串的形式保存在fuRequest.xml中(请求记录多了以后IDE启动和保存时都需要加载、序列化整个xml)
+ * 存储目录：${project}/.idea/Fu Doc/history/
+ * <ul>
+ *     <li>request.log: 只追加写入的请求记录文件 每条记录格式为[key长度][key][数据长度][数据] 同一个接口以最后一条记录为准</li>
+ *     <li>body/${md5(apiKey)}: 响应内容单独存放 只有读取请求记录时才会加载</li>
+ * </ul>
+ * 内存中只保存apiKey到记录偏移量的索引 过期记录占用的空间过多时在后台线程中压缩记录文件
+ *
+ * @author wangdingfu
+ * @date 2025-02-18 15:26:40
+ */
+@Slf4j
+public class FuRequestHistoryStore implements Disposable {
+
+    private static final String HISTORY_DIR = "history";
+    private static final String LOG_FILE = "request.log";
+    private static final String COMPACT_FILE = "request.log.compact";
+    private static final String BODY_DIR = "body";
+
+    /**
+     * 过期记录超过该大小并且超过有效记录大小时才压缩
+     */
+    private static final long COMPACT_MIN_GARBAGE = 1024 * 1024;
+
+    /**
+     * 已解析请求记录缓存的最大容量(按记录和响应内容的大小估算 单位:字节)
+     */
+    private static final long CACHE_MAX_WEIGHT = 8 * 1024 * 1024;
+
+    private final Project project;
+
+    /**
+     * 索引 key:apiKey value:最新一条记录在文件中的位置
+     */
+    private final Map<String, RecordIndex> indexMap = new ConcurrentHashMap<>();
+
+    /**
+     * 已解析的请求记录(按访问顺序淘汰) 生成文档和打开请求弹框时会多次读取同一个接口的请求记录
+     * 缓存中的对象不会对外暴露 读取时返回拷贝 避免调用方修改缓存
+     */
+    private final Map<String, CacheEntry> cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 缓存中请求记录的总大小
+     */
+    private long cacheWeight;
+
+    private final AtomicBoolean compacting = new AtomicBoolean(false);
+
+    private RandomAccessFile logFile;
+
+    /**
+     * 有效记录占用的字节数
+     */
+    private long liveBytes;
+
+    private boolean loaded;
+
+    private boolean disposed;
+
+
+    public FuRequestHistoryStore(Project project) {
+        this.project = project;
+    }
+
+    public static FuRequestHistoryStore getInstance(Project project) {
+        return project.getService(FuRequestHistoryStore.class);
+    }
+
+
+    /**
+     * 保存请求记录(响应内容单独存放)
+     *
+     * @param fuHttpRequestData 请求数据
+     */
+    public synchronized void save(FuHttpRequestData fuHttpRequestData) {
+        String apiKey = fuHttpRequestData.getApiKey();
+        if (FuStringUtils.isBlank(apiKey) || !ensureLoaded()) {
+            return;
+        }
+        removeCache(apiKey);
+        try {
+            FuResponseData response = fuHttpRequestData.getResponse();
+            String content = Objects.isNull(response) ? null : response.getContent();
+            writeBody(apiKey, content);
+            FuHttpRequestData record = fuHttpRequestData;
+            if (Objects.nonNull(response)) {
+                //响应内容已单独存放 记录中不再保存(修改拷贝 界面可能正在展示同一个响应对象)
+                record = fuHttpRequestData.copy();
+                record.getResponse().setContent(null);
+            }
+            append(apiKey, JsonUtil.toJson(record));
+        } catch (IOException e) {
+            log.error("保存接口【{}】的请求记录失败", apiKey, e);
+            return;
+        }
+        compactIfNecessary();
+    }
+
+
+    /**
+     * 读取请求记录
+     *
+     * @param apiKey 接口唯一标识
+     * @return 该接口最近一次的请求记录(拷贝 可以任意修改) 不存在时返回null
+     */
+    public synchronized FuHttpRequestData get(String apiKey) {
+        if (FuStringUtils.isBlank(apiKey) || !ensureLoaded()) {
+            return null;
+        }
+        CacheEntry cacheEntry = cacheMap.get(apiKey);
+        if (Objects.nonNull(cacheEntry)) {
+            return cacheEntry.data.copy();
+        }
+        RecordIndex recordIndex = indexMap.get(apiKey);
+        if (Objects.isNull(recordIndex)) {
+            return null;
+        }
+        try {
+            logFile.seek(recordIndex.offset);
+            readBytes(logFile);
+            String data = new String(readBytes(logFile), StandardCharsets.UTF_8);
+            FuHttpRequestData fuHttpRequestData = JsonUtil.toBean(data, FuHttpRequestData.class);
+            if (Objects.isNull(fuHttpRequestData)) {
+                return null;
+            }
+            long weight = recordIndex.length;
+            if (Objects.nonNull(fuHttpRequestData.getResponse())) {
+                String content = readBody(apiKey);
+                fuHttpRequestData.getResponse().setContent(content);
+                weight += Objects.isNull(content) ? 0 : content.length() * 2L;
+            }
+            putCache(apiKey, new CacheEntry(fuHttpRequestData, weight));
+            return fuHttpRequestData.copy();
+        } catch (IOException e) {
+            log.error("读取接口【{}】的请求记录失败", apiKey, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 加载索引 首次加载时将fuRequest.xml中的请求记录迁移过来
+     *
+     * @return false: 存储不可用
+     */
+    private boolean ensureLoaded() {
+        if (loaded) {
+            return Objects.nonNull(logFile);
+        }
+        loaded = true;
+        if (disposed || FuStringUtils.isBlank(project.getBasePath())) {
+            return false;
+        }
+        try {
+            Files.createDirectories(getBodyDir());
+            logFile = new RandomAccessFile(getHistoryDir().resolve(LOG_FILE).toFile(), "rw");
+            loadIndex();
+        } catch (IOException e) {
+            log.error("加载请求记录失败", e);
+            closeLogFile();
+            return false;
+        }
+        migrate();
+        return true;
+    }
+
+
+    /**
+     * 扫描记录文件构建索引(只读取key 跳过数据) 末尾不完整的记录会被截断
+     */
+    private void loadIndex() throws IOException {
+        indexMap.clear();
+        liveBytes = 0;
+        long length = logFile.length();
+        long offset = 0;
+        logFile.seek(0);
+        try {
+            while (offset < length) {
+                String apiKey = new String(readBytes(logFile), StandardCharsets.UTF_8);
+                int dataLength = logFile.readInt();
+                if (dataLength < 0 || logFile.getFilePointer() + dataLength > length) {
+                    break;
+                }
+                logFile.seek(logFile.getFilePointer() + dataLength);
+                long end = logFile.getFilePointer();
+                putIndex(apiKey, new RecordIndex(offset, end - offset));
+                offset = end;
+            }
+        } catch (EOFException e) {
+            log.info("请求记录文件末尾存在不完整的记录");
+        }
+        if (offset < length) {
+            logFile.setLength(offset);
+        }
+    }
+
+
+    /**
+     * 将旧版本保存在fuRequest.xml中的请求记录迁移到当前存储
+     */
+    private void migrate() {
+        GlobalRequestData data = FuRequestState.getData(project);
+        Map<String, String> requestDataMap = data.getRequestDataMap();
+        if (Objects.isNull(requestDataMap) || requestDataMap.isEmpty()) {
+            return;
+        }
+        int count = 0;
+        for (Map.Entry<String, String> entry : requestDataMap.entrySet()) {
+            try {
+                FuHttpRequestData fuHttpRequestData = JsonUtil.toBean(entry.getValue(), FuHttpRequestData.class);
+                if (Objects.nonNull(fuHttpRequestData) && !indexMap.containsKey(entry.getKey())) {
+                    fuHttpRequestData.setApiKey(entry.getKey());
+                    save(fuHttpRequestData);
+                    count++;
+                }
+            } catch (Exception e) {
+                log.info("迁移接口【{}】的请求记录失败", entry.getKey(), e);
+            }
+        }
+        requestDataMap.clear();
+        log.info("迁移【{}】条请求记录", count);
+    }
+
+
+    private void append(String apiKey, String data) throws IOException {
+        byte[] keyBytes = apiKey.getBytes(StandardCharsets.UTF_8);
+        byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+        long offset = logFile.length();
+        logFile.seek(offset);
+        logFile.writeInt(keyBytes.length);
+        logFile.write(keyBytes);
+        logFile.writeInt(dataBytes.length);
+        logFile.write(dataBytes);
+        putIndex(apiKey, new RecordIndex(offset, logFile.getFilePointer() - offset));
+    }
+
+
+    private void putCache(String apiKey, CacheEntry cacheEntry) {
+        if (cacheEntry.weight > CACHE_MAX_WEIGHT) {
+            return;
+        }
+        removeCache(apiKey);
+        cacheMap.put(apiKey, cacheEntry);
+        cacheWeight += cacheEntry.weight;
+        Iterator<CacheEntry> iterator = cacheMap.values().iterator();
+        while (cacheWeight > CACHE_MAX_WEIGHT && iterator.hasNext()) {
+            cacheWeight -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+
+    private void removeCache(String apiKey) {
+        CacheEntry previous = cacheMap.remove(apiKey);
+        if (Objects.nonNull(previous)) {
+            cacheWeight -= previous.weight;
+        }
+    }
+
+
+    private void putIndex(String apiKey, RecordIndex recordIndex) {
+        RecordIndex previous = indexMap.put(apiKey, recordIndex);
+        if (Objects.nonNull(previous)) {
+            liveBytes -= previous.length;
+        }
+        liveBytes += recordIndex.length;
+    }
+
+
+    /**
+     * 过期记录占用空间过多时 在后台线程中压缩记录文件
+     */
+    private void compactIfNecessary() {
+        long garbage;
+        try {
+            garbage = logFile.length() - liveBytes;
+        } catch (IOException e) {
+            return;
+        }
+        if (garbage < COMPACT_MIN_GARBAGE || garbage < liveBytes || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        AppExecutorUtil.getAppExecutorService().execute(() -> {
+            try {
+                compact();
+            } catch (Exception e) {
+                log.error("压缩请求记录文件失败", e);
+            } finally {
+                compacting.set(false);
+            }
+        });
+    }
+
+
+    /**
+     * 压缩记录文件
+     * <p>
+     * 先在不持有锁的情况下复制快照中的有效记录(记录文件只追加 已有记录的位置不会变化)
+     * 再在持有锁的情况下复制快照之后追加的记录 替换记录文件并重建索引
+     */
+    private void compact() throws IOException {
+        Map<String, RecordIndex> snapshot;
+        long snapshotLength;
+        synchronized (this) {
+            if (disposed || Objects.isNull(logFile)) {
+                return;
+            }
+            snapshot = Map.copyOf(indexMap);
+            snapshotLength = logFile.length();
+        }
+        Path logPath = getHistoryDir().resolve(LOG_FILE);
+        Path compactPath = getHistoryDir().resolve(COMPACT_FILE);
+        try (RandomAccessFile source = new RandomAccessFile(logPath.toFile(), "r");
+             RandomAccessFile target = new RandomAccessFile(compactPath.toFile(), "rw")) {
+            target.setLength(0);
+            snapshot.values().stream().sorted((o1, o2) -> Long.compare(o1.offset, o2.offset))
+                    .forEach(recordIndex -> copy(source, target, recordIndex.offset, recordIndex.length));
+            synchronized (this) {
+                if (disposed) {
+                    return;
+                }
+                copy(source, target, snapshotLength, logFile.length() - snapshotLength);
+                source.close();
+                target.close();
+                closeLogFile();
+                try {
+                    move(compactPath, logPath);
+                } finally {
+                    //无论替换是否成功都重新打开记录文件(替换失败时打开的是原文件) 避免之后的请求记录无法保存
+                    logFile = new RandomAccessFile(logPath.toFile(), "rw");
+                    loadIndex();
+                }
+                log.info("压缩请求记录文件完成 当前大小:{}字节", logFile.length());
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+
+    private static void copy(RandomAccessFile source, RandomAccessFile target, long offset, long length) {
+        byte[] buffer = new byte[8192];
+        try {
+            source.seek(offset);
+            long remaining = length;
+            while (remaining > 0) {
+                int read = source.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                target.write(buffer, 0, read);
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private void writeBody(String apiKey, String content) throws IOException {
+        Path bodyPath = getBodyPath(apiKey);
+        if (Objects.isNull(content)) {
+            Files.deleteIfExists(bodyPath);
+            return;
+        }
+        Path tempPath = bodyPath.resolveSibling(bodyPath.getFileName() + ".tmp");
+        Files.writeString(tempPath, content, StandardCharsets.UTF_8);
+        move(tempPath, bodyPath);
+    }
+
+
+    /**
+     * 替换文件 原子替换失败时(文件系统不支持或目标文件被占用)改为直接覆盖
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.info("原子替换文件【{}】失败 改为直接覆盖: {}", target, e.getMessage());
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+
+    private String readBody(String apiKey) throws IOException {
+        Path bodyPath = getBodyPath(apiKey);
+        return Files.exists(bodyPath) ? Files.readString(bodyPath, StandardCharsets.UTF_8) : null;
+    }
+
+
+    private static byte[] readBytes(RandomAccessFile file) throws IOException {
+        int length = file.readInt();
+        if (length < 0 || file.getFilePointer() + length > file.length()) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        file.readFully(bytes);
+        return bytes;
+    }
+
+
+    private Path getHistoryDir() {
+        return Paths.get(Objects.requireNonNull(project.getBasePath()), FuDocConstants.IDEA_DIR, FuDocConstants.FU_DOC, HISTORY_DIR);
+    }
+
+    private Path getBodyDir() {
+        return getHistoryDir().resolve(BODY_DIR);
+    }
+
+    private Path getBodyPath(String apiKey) {
+        return getBodyDir().resolve(DigestUtils.md5Hex(apiKey));
+    }
+
+
+    private void closeLogFile() {
+        if (Objects.isNull(logFile)) {
+            return;
+        }
+        try {
+            logFile.close();
+        } catch (IOException e) {
+            log.info("关闭请求记录文件失败", e);
+        }
+        logFile = null;
+    }
+
+
+    @Override
+    public synchronized void dispose() {
+        disposed = true;
+        cacheMap.clear();
+        cacheWeight = 0;
+        closeLogFile();
+    }
+
+
+    /**
+     * 已解析的请求记录
+     */
+    private static class CacheEntry {
+        private final FuHttpRequestData data;
+        private final long weight;
+
+        private CacheEntry(FuHttpRequestData data, long weight) {
+            this.data = data;
+            this.weight = weight;
+        }
+    }
+
+
+    /**
+     * 记录在文件中的位置
+     */
+    private static class RecordIndex {
+        private final long offset;
+        private final long length;
+
+        private RecordIndex(long offset, long length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -173,7 +173,7 @@ public class FuDocUtils {
     }
 
 
-    private static String getModulePath(Module module) {
+    public static String getModulePath(Module module) {
         if (Objects.isNull(module)) {
             throw new FuDocException("当前版本暂时无法解析sdk中的接口");
         }
@@ -1,8 +1,13 @@
 package com.wdf.fudoc.util;
 
+import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
 import com.wdf.fudoc.apidoc.assemble.AssembleServiceExecutor;
+import com.wdf.fudoc.apidoc.config.state.FuDocSetting;
+import com.wdf.fudoc.apidoc.data.FuDocData;
+import com.wdf.fudoc.apidoc.data.FuDocDataContent;
 import com.wdf.fudoc.apidoc.data.FuDocRootParamData;
 import com.wdf.fudoc.apidoc.parse.FuDocClassParser;
 import com.wdf.fudoc.apidoc.parse.FuDocClassParserImpl;
@@ -11,13 +16,17 @@ import com.wdf.fudoc.apidoc.pojo.context.FuDocContext;
 import com.wdf.fudoc.apidoc.pojo.data.FuDocItemData;
 import com.wdf.fudoc.apidoc.pojo.desc.ClassInfoDesc;
 import com.wdf.fudoc.common.ServiceHelper;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * @author wangdingfu
  * @date 2022-09-18 17:53:46
  */
+@Slf4j
 public class GenFuDocUtils {
 
 
@@ -27,6 +36,35 @@ public class GenFuDocUtils {
     }
 
 
+    /**
+     * 生成整个controller的接口文档数据(需要在读锁中调用 每个controller使用独立的上下文 可以并行执行)
+     *
+     * @param psiClass controller
+     * @return 接口文档数据 生成失败时返回空集合
+     */
+    public static List<FuDocItemData> genController(PsiClass psiClass) {
+        if (Objects.isNull(psiClass) || !psiClass.isValid()) {
+            return Collections.emptyList();
+        }
+        FuDocDataContent.setData(FuDocData.builder().module(ModuleUtil.findModuleForPsiElement(psiClass)).build());
+        FuDocContext fuDocContext = new FuDocContext();
+        fuDocContext.setSettingData(FuDocSetting.getSettingData());
+        fuDocContext.setTargetElement(psiClass);
+        try {
+            List<FuDocItemData> itemDataList = gen(fuDocContext, psiClass);
+            return Objects.isNull(itemDataList) ? Collections.emptyList() : itemDataList;
+        } catch (ProcessCanceledException e) {
+            throw e;
+        } catch (Exception e) {
+            //单个controller生成失败不影响其他controller
+            log.info("生成接口文档【{}】失败", psiClass.getName(), e);
+            return Collections.emptyList();
+        } finally {
+            FuDocDataContent.remove();
+        }
+    }
+
+
     public static List<FuDocRootParamData> genRootParam(FuDocContext fuDocContext, PsiClass psiClass) {
         return AssembleServiceExecutor.executeByRequest(fuDocContext, buildClassInfoDesc(fuDocContext, psiClass));
     }
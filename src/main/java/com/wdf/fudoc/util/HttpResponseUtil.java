@@ -5,7 +5,7 @@ import cn.hutool.core.util.ReUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.URLUtil;
 import cn.hutool.http.Header;
-import cn.hutool.http.HttpResponse;
+import com.wdf.fudoc.request.execute.transport.FuHttpResponse;
 import com.wdf.fudoc.util.FuStringUtils;
 
 import java.util.Collections;
@@ -60,8 +60,8 @@ public class HttpResponseUtil {
     }
 
 
-    public static String getFileNameFromDisposition(HttpResponse httpResponse) {
-        return Objects.isNull(httpResponse) ? FuStringUtils.EMPTY : readFileName(httpResponse.header(Header.CONTENT_DISPOSITION));
+    public static String getFileNameFromDisposition(FuHttpResponse httpResponse) {
+        return Objects.isNull(httpResponse) ? FuStringUtils.EMPTY : readFileName(httpResponse.header(Header.CONTENT_DISPOSITION.getValue()));
     }
 
     /**
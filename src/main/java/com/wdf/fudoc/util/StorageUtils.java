@@ -19,7 +19,11 @@ import com.wdf.fudoc.util.FuStringUtils;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 
 /**
@@ -119,4 +123,28 @@ public class StorageUtils {
     }
 
 
+    /**
+     * 原子写入文件: 先写入同目录下的临时文件 再重命名覆盖目标文件(写入过程中IDE退出不会留下只写了一半的文件)
+     * 不依赖写锁 可以在后台线程中调用
+     *
+     * @param file    目标文件
+     * @param content 文件内容
+     */
+    public static void writeAtomic(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        //通知VFS文件已变更 避免通过VFS读取到旧内容
+        VfsUtil.markDirtyAndRefresh(true, false, false, file.toFile());
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.wdf.fudoc.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 替换文本中的{{变量}}
+ * <p>
+ * 只从头到尾扫描一次文本 每遇到一个变量就调用一次解析方法 未闭合的{{原样保留
+ *
+ * @author wangdingfu
+ * @date 2025-02-26 11:05:47
+ */
+public class VariableTemplateUtils {
+
+    public static final String PREFIX = "{{";
+
+    public static final String SUFFIX = "}}";
+
+
+    /**
+     * 是否包含变量
+     */
+    public static boolean hasVariable(String text) {
+        if (Objects.isNull(text)) {
+            return false;
+        }
+        int start = text.indexOf(PREFIX);
+        return start >= 0 && text.indexOf(SUFFIX, start + PREFIX.length()) >= 0;
+    }
+
+
+    /**
+     * 替换文本中的变量
+     *
+     * @param text     文本内容
+     * @param resolver 变量解析 入参为变量名 返回null时替换为空字符串
+     * @return 替换变量后的文本
+     */
+    public static String render(String text, Function<String, String> resolver) {
+        if (!hasVariable(text)) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        int index = 0;
+        while (index < text.length()) {
+            int start = text.indexOf(PREFIX, index);
+            int end = start < 0 ? -1 : text.indexOf(SUFFIX, start + PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            result.append(text, index, start);
+            String value = resolver.apply(text.substring(start + PREFIX.length(), end));
+            result.append(Objects.isNull(value) ? FuStringUtils.EMPTY : value);
+            index = end + SUFFIX.length();
+        }
+        return result.append(text, index, text.length()).toString();
+    }
+}
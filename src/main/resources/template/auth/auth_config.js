@@ -16,6 +16,7 @@ if (currentTime > expireTime) {
  */
 function login() {
     //通过fu.doSend('')可以发起http请求 需要指定发起哪一个请求 具体请求在脚本右侧【新增http请求配置】添加
+    //需要同时发起多个请求时可以使用fu.doSendAll(['#1', '#2']) 请求并发执行 通过返回结果的get('#1')获取对应响应
     const result = JSON.parse(fu.doSend('#1'));
     //将接口响应的token保存到全局变量中
     fu.setVariable(TOKEN_VAR, result.data.token);
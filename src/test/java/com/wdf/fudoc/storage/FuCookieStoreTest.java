@@ -0,0 +1,128 @@
+package com.wdf.fudoc.storage;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.wdf.fudoc.request.po.FuCookiePO;
+
+import java.io.File;
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * cookie存储的匹配规则(host-only、域名、路径、secure、过期时间、数量上限)
+ *
+ * @author wangdingfu
+ * @date 2025-03-10 14:22:36
+ */
+public class FuCookieStoreTest extends BasePlatformTestCase {
+
+    private File cookieDir;
+
+    private FuCookieStore cookieStore;
+
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cookieDir = FileUtil.createTempDirectory("fudoc", "cookie");
+        cookieStore = new FuCookieStore(getProject(), cookieDir.getPath());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            cookieStore.dispose();
+            FileUtil.delete(cookieDir);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+
+    public void testHostOnly() {
+        cookieStore.store("http://www.example.com/", cookies("a=1; Path=/"));
+        assertEquals(List.of("a"), names("http://www.example.com/"));
+        assertEmpty(names("http://api.www.example.com/"));
+        assertEmpty(names("http://example.com/"));
+    }
+
+    public void testDomain() {
+        cookieStore.store("http://www.example.com/", cookies("a=1; Domain=.example.com; Path=/"));
+        assertEquals(List.of("a"), names("http://example.com/"));
+        assertEquals(List.of("a"), names("http://api.example.com/"));
+        assertEmpty(names("http://example.org/"));
+        assertEmpty(names("http://badexample.com/"));
+    }
+
+    public void testRejectOtherDomain() {
+        cookieStore.store("http://www.example.com/", cookies("a=1; Domain=example.org; Path=/"));
+        assertEmpty(names("http://example.org/"));
+        assertEmpty(cookieStore.list());
+    }
+
+    public void testRejectPublicSuffix() {
+        cookieStore.store("http://a.com/", cookies("a=1; Domain=com; Path=/"));
+        cookieStore.store("http://user.github.io/", cookies("b=1; Domain=github.io; Path=/"));
+        assertEmpty(names("http://b.com/"));
+        assertEmpty(names("http://other.github.io/"));
+        assertEmpty(cookieStore.list());
+    }
+
+    public void testSingleLabelHostIsHostOnly() {
+        cookieStore.store("http://localhost:8080/", cookies("a=1; Domain=localhost; Path=/"));
+        assertEquals(List.of("a"), names("http://localhost:8080/"));
+        assertTrue(cookieStore.list().get(0).isHostOnly());
+    }
+
+    public void testPath() {
+        cookieStore.store("http://example.com/api/user/list", cookies("a=1"));
+        cookieStore.store("http://example.com/", cookies("b=1; Path=/docs"));
+        assertEquals(List.of("a"), names("http://example.com/api/user/info"));
+        assertEmpty(names("http://example.com/api"));
+        assertEquals(List.of("b"), names("http://example.com/docs/index"));
+        assertEmpty(names("http://example.com/docsx"));
+    }
+
+    public void testSecure() {
+        cookieStore.store("https://example.com/", cookies("a=1; Path=/; Secure"));
+        assertEquals(List.of("a"), names("https://example.com/"));
+        assertEmpty(names("http://example.com/"));
+    }
+
+    public void testExpiry() {
+        cookieStore.store("http://example.com/", cookies("a=1; Path=/; Max-Age=3600"));
+        assertEquals(List.of("a"), names("http://example.com/"));
+        //服务端通过Max-Age=0删除cookie
+        cookieStore.store("http://example.com/", cookies("a=1; Path=/; Max-Age=0"));
+        assertEmpty(names("http://example.com/"));
+
+        FuCookiePO expired = new FuCookiePO();
+        expired.setName("b");
+        expired.setDomain("example.com");
+        expired.setPath("/");
+        expired.setExpiresAt(System.currentTimeMillis() - 1);
+        cookieStore.replaceAll(List.of(expired));
+        assertEmpty(names("http://example.com/"));
+    }
+
+    public void testDomainLimit() {
+        for (int index = 0; index < 60; index++) {
+            cookieStore.store("http://example.com/", cookies("c" + index + "=1; Path=/"));
+        }
+        List<String> names = names("http://example.com/");
+        assertEquals(50, names.size());
+        assertFalse(names.contains("c0"));
+        assertTrue(names.contains("c59"));
+    }
+
+
+    private List<String> names(String requestUrl) {
+        return cookieStore.match(requestUrl).stream().map(FuCookiePO::getName).collect(Collectors.toList());
+    }
+
+    private static List<HttpCookie> cookies(String setCookie) {
+        return new ArrayList<>(HttpCookie.parse("Set-Cookie: " + setCookie));
+    }
+}